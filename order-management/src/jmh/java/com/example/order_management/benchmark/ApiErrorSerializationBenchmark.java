@@ -0,0 +1,110 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.exception.model.AppConstants;
+import com.example.order_management.exception.render.ApiErrorJsonWriter;
+import com.example.order_management.exception.render.ApiErrorRenderer;
+import com.example.order_management.exception.render.CoarseClock;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson databind serialization of ApiError (what the MVC message converter does per error)
+ * vs the pre-encoded templates of ApiErrorRenderer and the streaming ApiErrorJsonWriter
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiErrorSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private ApiError apiError;
+    private CoarseClock clock;
+    private ApiErrorRenderer renderer;
+    private ByteArrayOutputStream buffer;
+    private JsonFactory jsonFactory;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = BenchmarkSupport.objectMapper();
+        writer = objectMapper.writerFor(ApiError.class);
+        clock = new CoarseClock();
+        renderer = new ApiErrorRenderer(clock, objectMapper);
+        buffer = new ByteArrayOutputStream(512);
+        jsonFactory = objectMapper.getFactory();
+        apiError = new ApiError(
+                AppConstants.NOT_FOUND,
+                ErrorCodes.ORDER_NOT_FOUND,
+                String.format(ErrorMessages.ORDER_NOT_FOUND, BenchmarkSupport.MISSING_ORDER_ID),
+                ErrorType.BUSINESS,
+                "/api/orders/" + BenchmarkSupport.MISSING_ORDER_ID);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(apiError);
+    }
+
+    @Benchmark
+    public byte[] createAndSerialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(new ApiError(
+                AppConstants.NOT_FOUND,
+                ErrorCodes.ORDER_NOT_FOUND,
+                apiError.getMessage(),
+                ErrorType.BUSINESS,
+                apiError.getPath()));
+    }
+
+    @Benchmark
+    public int templateRender() throws IOException {
+        buffer.reset();
+        renderer.render(new ApiError(
+                AppConstants.NOT_FOUND,
+                ErrorCodes.ORDER_NOT_FOUND,
+                apiError.getMessage(),
+                ErrorType.BUSINESS,
+                apiError.getPath(),
+                clock.now().time()), buffer);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int databindWrite() throws IOException {
+        buffer.reset();
+        writer.writeValue(buffer, new ApiError(
+                AppConstants.NOT_FOUND,
+                ErrorCodes.ORDER_NOT_FOUND,
+                apiError.getMessage(),
+                ErrorType.BUSINESS,
+                apiError.getPath()));
+        return buffer.size();
+    }
+
+    @Benchmark
+    public int streamingWrite() throws IOException {
+        buffer.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+            ApiErrorJsonWriter.write(generator, new ApiError(
+                    AppConstants.NOT_FOUND,
+                    ErrorCodes.ORDER_NOT_FOUND,
+                    apiError.getMessage(),
+                    ErrorType.BUSINESS,
+                    apiError.getPath()));
+        }
+        return buffer.size();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.order_management.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import com.example.order_management.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Shared fixtures for the error-path benchmarks
+ */
+final class BenchmarkSupport {
+
+    static final Long MISSING_ORDER_ID = 999L;
+
+    /**
+     * Benchmarks measure the error path, not console I/O - silence application logging
+     */
+    static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+    }
+
+    /**
+     * ObjectMapper configured the same way Spring Boot configures the MVC one
+     * (JavaTimeModule, ISO dates instead of timestamps)
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * OrderService for which every order is missing - no database needed
+     */
+    static final class MissingOrderService implements OrderService {
+
+        @Override
+        public Order getOrderById(Long id) {
+            throw new ResourceNotFoundException("Order", id);
+        }
+
+        @Override
+        public Order createOrder(Order order) {
+            return order;
+        }
+
+        @Override
+        public Order acceptOrder(Order order) {
+            return order;
+        }
+
+        @Override
+        public List<Order> createOrders(List<Order> orders) {
+            return orders;
+        }
+
+        @Override
+        public Order changeStatus(Long id, OrderStatus status) {
+            throw new ResourceNotFoundException("Order", id);
+        }
+
+        @Override
+        public void deleteOrder(Long id) {
+            throw new ResourceNotFoundException("Order", id);
+        }
+
+        @Override
+        public List<Long> deleteOrders(Collection<Long> ids) {
+            return List.copyOf(ids);
+        }
+
+        @Override
+        public List<Order> listOrders(OrderStatus status, Long afterId, int limit) {
+            return List.of();
+        }
+    }
+
+    private BenchmarkSupport() {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.controller.OrderController;
+import com.example.order_management.controller.limit.ClientRateLimitInterceptor;
+import com.example.order_management.controller.limit.ClientRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the per-client rate limit on POST /api/orders
+ *
+ * 🔹 MEASURES (ns/op, target: well under 1 µs, gc.alloc.rate.norm = 0 for the limiter itself):
+ * - hotClient:         one client, allowed path (rate high enough never to reject)
+ * - hotClientThreads:  same bucket from 4 threads - CAS contention on one slot
+ * - manyClients:       1M distinct keys over a 64K-slot table - hashing, stripe scan and slot takeover
+ * - rejected:          client over its rate - the request is refused without touching the bucket
+ * - interceptor:       ClientRateLimitInterceptor.preHandle keyed by remote address, as MVC calls it
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientRateLimiterBenchmark {
+
+    private static final int DISTINCT_CLIENTS = 1 << 20;
+
+    private ClientRateLimiter unlimited;
+    private ClientRateLimiter exhausted;
+    private ClientRateLimitInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private HandlerMethod handler;
+    private String[] clientKeys;
+
+    @State(Scope.Thread)
+    public static class ClientCursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        unlimited = new ClientRateLimiter(1e12, 1_000_000, 65_536, meterRegistry);
+        exhausted = new ClientRateLimiter(0.001, 1, 1024, new SimpleMeterRegistry());
+        exhausted.tryAcquire("flooding-client", 0);
+
+        interceptor = new ClientRateLimitInterceptor(OrderController.class, unlimited);
+        request = new MockHttpServletRequest("POST", "/api/orders");
+        request.setRemoteAddr("203.0.113.42");
+        response = new MockHttpServletResponse();
+        handler = new HandlerMethod(new Object(), Object.class.getMethod("toString")) {
+            @Override
+            public Class<?> getBeanType() {
+                return OrderController.class;
+            }
+        };
+
+        clientKeys = new String[DISTINCT_CLIENTS];
+        for (int i = 0; i < DISTINCT_CLIENTS; i++) {
+            clientKeys[i] = "10." + (i >>> 16) + "." + ((i >>> 8) & 255) + "." + (i & 255);
+        }
+    }
+
+    @Benchmark
+    public long hotClient() {
+        return unlimited.tryAcquire("integration-7f3c2a9e-4b1d-4e8f-9a6b-2c5d8e1f0a3b", 0);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long hotClientThreads() {
+        return unlimited.tryAcquire("integration-7f3c2a9e-4b1d-4e8f-9a6b-2c5d8e1f0a3b", 0);
+    }
+
+    @Benchmark
+    public long manyClients(ClientCursor cursor) {
+        String key = clientKeys[cursor.next++ & (DISTINCT_CLIENTS - 1)];
+        return unlimited.tryAcquire(key, 0);
+    }
+
+    @Benchmark
+    public long rejected() {
+        return exhausted.tryAcquire("flooding-client", 0);
+    }
+
+    @Benchmark
+    public boolean interceptor() {
+        return interceptor.preHandle(request, response, handler);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import com.example.order_management.exception.custom.SharedBusinessException;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.policy.StackTracePolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating the 404 exception thrown by OrderServiceImpl.getOrderById
+ *
+ * 🔹 COMPARES:
+ * - legacy:   String.format + full stack trace (construction path before the stackless policy)
+ * - notFound: ResourceNotFoundException, with stackless=false / stackless=true policy
+ * - shared:   SharedBusinessException (no allocation at all)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionConstructionBenchmark {
+
+    @Param({"false", "true"})
+    public boolean stackless;
+
+    private Long orderId = 999L;
+
+    @Setup
+    public void setUp() {
+        if (stackless) {
+            StackTracePolicy.configure(EnumSet.of(ErrorType.BUSINESS), List.of());
+        } else {
+            StackTracePolicy.reset();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        StackTracePolicy.reset();
+    }
+
+    @Benchmark
+    public RuntimeException legacy() {
+        return new LegacyNotFoundException(
+                String.format(ErrorMessages.ORDER_NOT_FOUND, "Order with id: " + orderId));
+    }
+
+    @Benchmark
+    public RuntimeException notFound() {
+        return new ResourceNotFoundException("Order", orderId);
+    }
+
+    @Benchmark
+    public RuntimeException shared() {
+        return SharedBusinessException.of(
+                ErrorCodes.DATABASE_ERROR, ErrorType.SYSTEM, ErrorMessages.DATABASE_ERROR);
+    }
+
+    /**
+     * Same shape as ResourceNotFoundException before the stackless policy existed
+     */
+    private static final class LegacyNotFoundException extends RuntimeException {
+        private LegacyNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
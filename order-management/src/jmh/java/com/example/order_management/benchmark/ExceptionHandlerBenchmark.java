@@ -0,0 +1,96 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.exception.global.GlobalExceptionHandler;
+import com.example.order_management.exception.metrics.ErrorMetrics;
+import com.example.order_management.exception.model.ApiError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exception construction + dispatch through GlobalExceptionHandler
+ *
+ * 🔹 MEASURES: the work done between "service throws" and "ResponseEntity&lt;ApiError&gt; is ready"
+ * (serialization is measured separately in ApiErrorSerializationBenchmark)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private GlobalExceptionHandler instrumentedHandler;
+    private MockHttpServletRequest request;
+    private MethodArgumentNotValidException notValidException;
+    private RuntimeException unexpectedException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        BenchmarkSupport.quietLogging();
+        handler = new GlobalExceptionHandler();
+        instrumentedHandler = new GlobalExceptionHandler(null, new ErrorMetrics(new SimpleMeterRegistry()));
+        request = new MockHttpServletRequest("GET", "/api/orders/" + BenchmarkSupport.MISSING_ORDER_ID);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/{id}");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new OrderRequestDTO(), "orderRequestDTO");
+        bindingResult.addError(new FieldError("orderRequestDTO", "productName", "must not be blank"));
+        MethodParameter parameter = new MethodParameter(
+                ExceptionHandlerBenchmark.class.getDeclaredMethod("validate", OrderRequestDTO.class), 0);
+        notValidException = new MethodArgumentNotValidException(parameter, bindingResult);
+        unexpectedException = new IllegalStateException("Unexpected error");
+    }
+
+    @Benchmark
+    public ResourceNotFoundException constructResourceNotFound() {
+        return new ResourceNotFoundException("Order", BenchmarkSupport.MISSING_ORDER_ID);
+    }
+
+    @Benchmark
+    public ValidationException constructValidationException() {
+        return new ValidationException("price", "must not be null");
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> handleBusinessException() {
+        return handler.handleBusinessException(
+                new ResourceNotFoundException("Order", BenchmarkSupport.MISSING_ORDER_ID), request);
+    }
+
+    /**
+     * Same as handleBusinessException plus ErrorMetrics - gc.alloc.rate.norm should not grow
+     */
+    @Benchmark
+    public ResponseEntity<ApiError> handleBusinessExceptionWithMetrics() {
+        return instrumentedHandler.handleBusinessException(
+                new ResourceNotFoundException("Order", BenchmarkSupport.MISSING_ORDER_ID), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> handleValidationException() {
+        return handler.handleValidationException(notValidException, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> handleAllExceptions() {
+        return handler.handleAllExceptions(unexpectedException, request);
+    }
+
+    // Target method for the MethodParameter of MethodArgumentNotValidException
+    @SuppressWarnings("unused")
+    private void validate(OrderRequestDTO dto) {
+    }
+}
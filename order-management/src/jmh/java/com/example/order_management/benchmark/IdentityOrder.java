@@ -0,0 +1,28 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Order as it was mapped before @TimeOrderedId (GenerationType.IDENTITY), for OrderInsertBenchmark
+ *
+ * Hibernate cannot drop the @TimeOrderedId of Order through an orm.xml override,
+ * so the old mapping lives on in its own table.
+ */
+@Data
+@Entity
+@Table(name = "orders_identity")
+public class IdentityOrder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String productName;
+    private Double price;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+}
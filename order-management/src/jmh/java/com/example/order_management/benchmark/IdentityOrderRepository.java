@@ -0,0 +1,9 @@
+package com.example.order_management.benchmark;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Same Spring Data saveAll as OrderRepository, over the IDENTITY-mapped IdentityOrder
+ */
+public interface IdentityOrderRepository extends JpaRepository<IdentityOrder, Long> {
+}
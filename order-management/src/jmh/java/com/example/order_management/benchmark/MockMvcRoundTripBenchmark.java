@@ -0,0 +1,104 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.controller.OrderController;
+import com.example.order_management.dto.json.JsonCodecConfig;
+import com.example.order_management.exception.global.GlobalExceptionHandler;
+import com.example.order_management.exception.render.ApiErrorHttpMessageConverter;
+import com.example.order_management.exception.render.ApiErrorRenderer;
+import com.example.order_management.exception.render.CoarseClock;
+import com.example.order_management.mapper.OrderMapper;
+import com.example.order_management.service.journal.NoOpOrderWriteBehind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Full MVC round-trips:
+ * - getMissingOrder: GET /api/orders/{id} on a missing id
+ *   dispatch → controller → service throws → GlobalExceptionHandler → Jackson → response body
+ * - createOrder: POST /api/orders - request body read, validated, OrderResponseDTO written
+ *
+ * rendering=jackson   - default Jackson databind
+ * rendering=template  - app.error.rendering=template (ApiErrorRenderer + CoarseClock)
+ * rendering=streaming - app.json.streaming-codecs.enabled=true (OrderJsonCodec, ApiErrorJsonWriter)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MockMvcRoundTripBenchmark {
+
+    private static final String ORDER_REQUEST = "{\"productName\":\"MacBook Pro 16-inch\",\"price\":2499.99}";
+
+    @Param({"jackson", "template", "streaming"})
+    public String rendering;
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        OrderController controller = new OrderController(
+                new BenchmarkSupport.MissingOrderService(), new OrderMapper(), null, null, null,
+                new NoOpOrderWriteBehind());
+        ObjectMapper objectMapper = BenchmarkSupport.objectMapper();
+        MappingJackson2HttpMessageConverter jackson = new MappingJackson2HttpMessageConverter(objectMapper);
+
+        if ("template".equals(rendering)) {
+            CoarseClock clock = new CoarseClock();
+            mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                    .setControllerAdvice(new GlobalExceptionHandler(clock))
+                    .setMessageConverters(
+                            new ApiErrorHttpMessageConverter(new ApiErrorRenderer(clock, objectMapper)), jackson)
+                    .build();
+        } else if ("streaming".equals(rendering)) {
+            List<HttpMessageConverter<?>> converters = new ArrayList<>(JsonCodecConfig.converters(objectMapper));
+            converters.add(jackson);
+            mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                    .setControllerAdvice(new GlobalExceptionHandler())
+                    .setMessageConverters(converters.toArray(new HttpMessageConverter<?>[0]))
+                    .build();
+        } else {
+            mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                    .setControllerAdvice(new GlobalExceptionHandler())
+                    .setMessageConverters(jackson)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public byte[] getMissingOrder() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders/{id}", BenchmarkSupport.MISSING_ORDER_ID))
+                .andReturn();
+        if (result.getResponse().getStatus() != 404) {
+            throw new IllegalStateException("Expected 404 but got " + result.getResponse().getStatus());
+        }
+        return result.getResponse().getContentAsByteArray();
+    }
+
+    @Benchmark
+    public byte[] createOrder() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST))
+                .andReturn();
+        if (result.getResponse().getStatus() != 200) {
+            throw new IllegalStateException("Expected 200 but got " + result.getResponse().getStatus());
+        }
+        return result.getResponse().getContentAsByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.service.cache.ColumnarOrderCache;
+import com.example.order_management.service.cache.OrderSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measured heap per order: HashMap<Long, Order> vs ColumnarOrderCache
+ *
+ * 🔹 WHY not JMH? The question is retained heap, not time - each structure is built alone,
+ * and the used heap after a full GC is compared with the empty baseline.
+ *
+ * ./mvnw -Pjmh compile exec:exec -Djmh.main=com.example.order_management.benchmark.OrderHeapFootprint \
+ *     -Djmh.args="1000000 5000"
+ *
+ * Arguments: [orders=1000000] [distinctProductNames=5000]
+ */
+public class OrderHeapFootprint {
+
+    public static void main(String[] args) throws Exception {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int names = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+
+        long empty = usedHeap();
+        Map<Long, Order> map = new HashMap<>();
+        for (int i = 0; i < orders; i++) {
+            Order order = order(i, names);
+            map.put(order.getId(), order);
+        }
+        long mapBytes = usedHeap() - empty;
+        System.out.printf("HashMap<Long, Order>  %,d orders  %,d bytes  %.1f bytes/order%n",
+                map.size(), mapBytes, mapBytes / (double) orders);
+        map = null;
+
+        empty = usedHeap();
+        ColumnarOrderCache columnar = new ColumnarOrderCache(orders, Duration.ZERO, null, false,
+                new SimpleMeterRegistry());
+        for (int i = 0; i < orders; i++) {
+            columnar.onWrite(OrderSnapshot.from(order(i, names)));
+        }
+        long columnarBytes = usedHeap() - empty;
+        System.out.printf("ColumnarOrderCache    %,d orders  %,d bytes  %.1f bytes/order (estimated %.1f)%n",
+                columnar.size(), columnarBytes, columnarBytes / (double) orders, columnar.bytesPerOrder());
+        System.out.printf("heap saved            %.0f%%%n", 100.0 * (mapBytes - columnarBytes) / mapBytes);
+    }
+
+    /**
+     * Detached entity the way JPA materialises it: own boxed id and price, own String per row
+     */
+    private static Order order(int i, int names) {
+        Order order = new Order();
+        order.setId(1_000_000_000L + i);
+        order.setProductName(new String("Product " + (i % names)));
+        order.setPrice(Double.valueOf(i / 100.0));
+        order.setStatus(OrderStatus.values()[i % OrderStatus.values().length]);
+        return order;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.OrderManagementApplication;
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.repository.OrderRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second through Spring Data saveAll: the old IDENTITY mapping vs @TimeOrderedId
+ *
+ * - identity:     IdentityOrder, Order as mapped before @TimeOrderedId (GenerationType.IDENTITY).
+ *                 Hibernate needs each generated key back, so it sends one INSERT per row.
+ * - timeOrdered:  OrderRepository.saveAll on Order as mapped today - ids from TimeOrderedIdGenerator
+ *                 before the INSERT, statements sent in JDBC batches of hibernate.jdbc.batch_size.
+ *
+ * Both boot the application context and save ROWS new orders in one saveAll call (one transaction).
+ *
+ * Runs against an in-memory H2 (MySQL mode) by default, which has no network round trip to save.
+ * Against MySQL use a scratch database - the tables are dropped and recreated for each run:
+ * ./mvnw -Pjmh compile exec:exec -Djmh.args="OrderInsertBenchmark -jvmArgsAppend
+ *     -Dbench.jdbc.url=jdbc:mysql://localhost:3306/order_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"identity", "timeOrdered"})
+    public String mapping;
+
+    @Param({"50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private IdentityOrderRepository identityOrderRepository;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        context = new SpringApplicationBuilder(OrderManagementApplication.class).run(arguments());
+        orderRepository = context.getBean(OrderRepository.class);
+        identityOrderRepository = context.getBean(IdentityOrderRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        orderRepository.deleteAllInBatch();
+        identityOrderRepository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long saveAll() {
+        if ("identity".equals(mapping)) {
+            List<IdentityOrder> orders = new ArrayList<>(ROWS);
+            for (int row = 0; row < ROWS; row++) {
+                IdentityOrder order = new IdentityOrder();
+                order.setProductName("Product " + row);
+                order.setPrice((double) row);
+                order.setStatus(OrderStatus.CREATED);
+                orders.add(order);
+            }
+            return identityOrderRepository.saveAll(orders).get(ROWS - 1).getId();
+        }
+        List<Order> orders = new ArrayList<>(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            Order order = new Order();
+            order.setProductName("Product " + row);
+            order.setPrice((double) row);
+            order.setStatus(OrderStatus.CREATED);
+            orders.add(order);
+        }
+        return orderRepository.saveAll(orders).get(ROWS - 1).getId();
+    }
+
+    private String[] arguments() {
+        Map<String, Object> properties = new HashMap<>();
+        String url = System.getProperty("bench.jdbc.url");
+        if (url != null) {
+            properties.put("spring.datasource.url", url);
+            properties.put("spring.datasource.username", System.getProperty("bench.jdbc.user", "root"));
+            properties.put("spring.datasource.password", System.getProperty("bench.jdbc.password", "root"));
+        } else {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:insert_orders;MODE=MySQL;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        }
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.properties.hibernate.jdbc.batch_size", batchSize);
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.main.web-application-type", "none");
+        properties.put("logging.level.root", "WARN");
+
+        // Command-line arguments, so they win over application.properties
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+}
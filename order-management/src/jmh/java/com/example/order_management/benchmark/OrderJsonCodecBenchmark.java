@@ -0,0 +1,127 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.dto.OrderPageDTO;
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.dto.OrderResponseDTO;
+import com.example.order_management.dto.json.OrderJsonCodec;
+import com.example.order_management.enums.OrderStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order DTO bodies: Jackson databind (what MappingJackson2HttpMessageConverter does)
+ * vs the streaming OrderJsonCodec (what StreamingJsonHttpMessageConverter does)
+ *
+ * 🔹 MEASURES (ns/op, with -prof gc for allocation):
+ * - *WriteOrder:  one OrderResponseDTO - GET /api/orders/{id}, POST /api/orders
+ * - *WritePage:   OrderPageDTO with 50 items - GET /api/orders
+ * - *ReadOrder:   OrderRequestDTO from bytes - POST /api/orders
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderJsonCodecBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private JsonFactory jsonFactory;
+    private ObjectWriter orderWriter;
+    private ObjectWriter pageWriter;
+    private ObjectReader requestReader;
+    private OrderResponseDTO order;
+    private OrderPageDTO page;
+    private byte[] requestBody;
+
+    @State(Scope.Thread)
+    public static class Buffer {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkSupport.objectMapper();
+        jsonFactory = objectMapper.getFactory();
+        orderWriter = objectMapper.writerFor(OrderResponseDTO.class);
+        pageWriter = objectMapper.writerFor(OrderPageDTO.class);
+        requestReader = objectMapper.readerFor(OrderRequestDTO.class);
+
+        order = order(369963416942542848L);
+        List<OrderResponseDTO> items = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(order(order.getId() + i));
+        }
+        page = new OrderPageDTO();
+        page.setItems(items);
+        page.setNextCursor("eyJpZCI6MzY5OTYzNDE2OTQyNTQyODk3fQ");
+        requestBody = "{\"productName\":\"MacBook Pro 16-inch\",\"price\":2499.99}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int databindWriteOrder(Buffer buffer) throws IOException {
+        buffer.out.reset();
+        orderWriter.writeValue(buffer.out, order);
+        return buffer.out.size();
+    }
+
+    @Benchmark
+    public int streamingWriteOrder(Buffer buffer) throws IOException {
+        buffer.out.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer.out)) {
+            OrderJsonCodec.writeOrder(generator, order);
+        }
+        return buffer.out.size();
+    }
+
+    @Benchmark
+    public int databindWritePage(Buffer buffer) throws IOException {
+        buffer.out.reset();
+        pageWriter.writeValue(buffer.out, page);
+        return buffer.out.size();
+    }
+
+    @Benchmark
+    public int streamingWritePage(Buffer buffer) throws IOException {
+        buffer.out.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer.out)) {
+            OrderJsonCodec.writePage(generator, page);
+        }
+        return buffer.out.size();
+    }
+
+    @Benchmark
+    public OrderRequestDTO databindReadOrder() throws IOException {
+        return requestReader.readValue(requestBody);
+    }
+
+    @Benchmark
+    public OrderRequestDTO streamingReadOrder() throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(requestBody)) {
+            return OrderJsonCodec.readOrderRequest(parser, objectMapper);
+        }
+    }
+
+    private static OrderResponseDTO order(long id) {
+        OrderResponseDTO order = new OrderResponseDTO();
+        order.setId(id);
+        order.setProductName("MacBook Pro 16-inch");
+        order.setPrice(2499.99);
+        order.setStatus(OrderStatus.CREATED.name());
+        return order;
+    }
+}
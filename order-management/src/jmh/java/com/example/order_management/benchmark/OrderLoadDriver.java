@@ -0,0 +1,143 @@
+package com.example.order_management.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load against a running instance - platform vs virtual request threads
+ *
+ * 🔹 WHY not JMH?
+ * The effect being measured is Tomcat's thread pool saturating while requests wait on the database,
+ * which only shows up with a real server, a real connection pool and thousands of concurrent clients.
+ *
+ * 🔹 HOW?
+ * Start the application twice against the same (slow) database and drive each one:
+ *   ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=false
+ *   ./mvnw spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=true
+ *   ./mvnw -Pjmh compile exec:exec -Djmh.main=com.example.order_management.benchmark.OrderLoadDriver \
+ *       -Djmh.args="http://localhost:8080/api/orders/1 2000 30"
+ *
+ * Arguments: url [concurrency=1000] [durationSeconds=30] [warmupSeconds=5]
+ * Each client is a virtual thread, so the driver itself is never the bottleneck.
+ */
+public class OrderLoadDriver {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: OrderLoadDriver url [concurrency] [durationSeconds] [warmupSeconds]");
+            System.exit(2);
+        }
+        URI uri = URI.create(args[0]);
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        Duration warmup = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 5);
+
+        HttpClient client = newClient();
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().timeout(Duration.ofSeconds(60)).build();
+
+        System.out.printf("Warming up %s for %d s%n", uri, warmup.toSeconds());
+        run(client, request, Math.min(concurrency, 100), warmup);
+
+        System.out.printf("Measuring %s with %d concurrent clients for %d s%n",
+                uri, concurrency, duration.toSeconds());
+        List<ClientResult> results = run(client, request, concurrency, duration);
+        report(results, duration);
+    }
+
+    static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    static List<ClientResult> run(HttpClient client, HttpRequest request,
+                                  int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> runClient(client, request, deadline)));
+            }
+        }
+        List<ClientResult> results = new ArrayList<>(concurrency);
+        for (Future<ClientResult> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private static ClientResult runClient(HttpClient client, HttpRequest request, long deadline) {
+        ClientResult result = new ClientResult();
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception ex) {
+                status = -1;
+            }
+            result.record(status, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    static void report(List<ClientResult> results, Duration duration) {
+        Map<Integer, Long> statuses = new TreeMap<>();
+        int total = 0;
+        for (ClientResult result : results) {
+            total += result.count;
+            result.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (ClientResult result : results) {
+            System.arraycopy(result.latencies, 0, latencies, offset, result.count);
+            offset += result.count;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("requests    %d%n", total);
+        System.out.printf("throughput  %.1f req/s%n", total / (double) duration.toSeconds());
+        System.out.printf("statuses    %s (-1 = I/O error or timeout)%n", statuses);
+        if (total > 0) {
+            System.out.printf("latency ms  p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                    millis(latencies, 0.50), millis(latencies, 0.90), millis(latencies, 0.99),
+                    latencies[total - 1] / 1_000_000.0);
+        }
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * Per-client results - no shared state on the request path
+     */
+    static final class ClientResult {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        void record(int status, long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            statuses.merge(status, 1L, Long::sum);
+        }
+    }
+}
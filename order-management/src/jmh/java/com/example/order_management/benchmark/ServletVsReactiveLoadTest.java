@@ -0,0 +1,121 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.OrderManagementApplication;
+import com.example.order_management.config.AppProfiles;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Side-by-side load test: servlet (Tomcat + JPA) vs reactive (Netty + R2DBC) order API
+ *
+ * 🔹 HOW?
+ * Boots each stack in this JVM on a random port against an in-memory H2 stand-in,
+ * creates one order and drives GET /api/orders/{id} with OrderLoadDriver's closed loop.
+ * Next to throughput and latency it reports the peak number of platform threads,
+ * which is where the two stacks differ most at high concurrency.
+ *
+ *   ./mvnw -Pjmh compile exec:exec -Djmh.main=com.example.order_management.benchmark.ServletVsReactiveLoadTest \
+ *       -Djmh.args="2000 30"
+ *
+ * Arguments: [concurrency=1000] [durationSeconds=30] [warmupSeconds=5]
+ * The order cache is disabled so every request reaches the database on both stacks.
+ */
+public class ServletVsReactiveLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 30);
+        Duration warmup = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 5);
+
+        BenchmarkSupport.quietLogging();
+        measure("servlet", servletProperties(), concurrency, duration, warmup);
+        measure(AppProfiles.REACTIVE, reactiveProperties(), concurrency, duration, warmup);
+    }
+
+    private static void measure(String stack, Map<String, Object> properties,
+                                int concurrency, Duration duration, Duration warmup) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(OrderManagementApplication.class);
+        if (AppProfiles.REACTIVE.equals(stack)) {
+            builder.profiles(AppProfiles.REACTIVE);
+        }
+
+        // Command-line arguments, so they win over application.properties
+        String[] arguments = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+
+        try (ConfigurableApplicationContext context = builder.run(arguments)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = OrderLoadDriver.newClient();
+            long orderId = createOrder(client, baseUrl);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/" + orderId))
+                    .GET().timeout(Duration.ofSeconds(60)).build();
+
+            OrderLoadDriver.run(client, request, Math.min(concurrency, 100), warmup);
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            List<OrderLoadDriver.ClientResult> results = OrderLoadDriver.run(client, request, concurrency, duration);
+
+            System.out.printf("%n=== %s: %d concurrent clients, %d s ===%n", stack, concurrency, duration.toSeconds());
+            OrderLoadDriver.report(results, duration);
+            System.out.printf("peak platform threads %d%n", threads.getPeakThreadCount());
+        }
+    }
+
+    private static long createOrder(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest create = HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"productName\":\"Load test\",\"price\":9.99}"))
+                .build();
+        String body = client.send(create, HttpResponse.BodyHandlers.ofString()).body();
+        Matcher id = ID.matcher(body);
+        if (!id.find()) {
+            throw new IllegalStateException("Could not create order: " + body);
+        }
+        return Long.parseLong(id.group(1));
+    }
+
+    private static Map<String, Object> commonProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("app.cache.orders.enabled", false);
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+
+    private static Map<String, Object> servletProperties() {
+        Map<String, Object> properties = commonProperties();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:servlet_orders;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        return properties;
+    }
+
+    private static Map<String, Object> reactiveProperties() {
+        Map<String, Object> properties = commonProperties();
+        properties.put("spring.r2dbc.url", "r2dbc:h2:mem:///reactive_orders;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.r2dbc.username", "sa");
+        properties.put("spring.r2dbc.password", "");
+        properties.put("spring.sql.init.mode", "always");
+        return properties;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.order_management.benchmark;
+
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.policy.StackTracePolicy;
+import com.example.order_management.validation.DtoValidator;
+import com.example.order_management.validation.DtoValidators;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Valid OrderRequestDTO: Hibernate Validator vs the @GenerateValidator output
+ *
+ * 🔹 MEASURES (ns/op, with -prof gc for allocation):
+ * - beanValidationValid / generatedValid:      valid DTO - the common case, nothing to report
+ * - beanValidationInvalid / generatedInvalid:  blank productName and null price - first violation as a String
+ * - generatedThrow:                            invalid DTO through DtoValidator.validate, i.e. the
+ *                                              ValidationException a request would get (stackless, as with
+ *                                              the default app.exception.stackless-error-types)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private Validator beanValidator;
+    private DtoValidator<OrderRequestDTO> generated;
+    private OrderRequestDTO valid;
+    private OrderRequestDTO invalid;
+
+    @Setup
+    public void setUp() {
+        StackTracePolicy.configure(EnumSet.of(ErrorType.BUSINESS, ErrorType.VALIDATION), List.of());
+        beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+        generated = DtoValidators.forType(OrderRequestDTO.class);
+
+        valid = new OrderRequestDTO();
+        valid.setProductName("MacBook Pro");
+        valid.setPrice(2499.99);
+        invalid = new OrderRequestDTO();
+        invalid.setProductName("   ");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<OrderRequestDTO>> beanValidationValid() {
+        return beanValidator.validate(valid);
+    }
+
+    @Benchmark
+    public String generatedValid() {
+        return generated.firstViolation(valid);
+    }
+
+    @Benchmark
+    public String beanValidationInvalid() {
+        Set<ConstraintViolation<OrderRequestDTO>> violations = beanValidator.validate(invalid);
+        ConstraintViolation<OrderRequestDTO> first = violations.iterator().next();
+        return first.getPropertyPath() + ": " + first.getMessage();
+    }
+
+    @Benchmark
+    public String generatedInvalid() {
+        return generated.firstViolation(invalid);
+    }
+
+    @Benchmark
+    public String generatedThrow() {
+        try {
+            generated.validate(invalid, false);
+            return null;
+        } catch (ValidationException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        StackTracePolicy.reset();
+    }
+}
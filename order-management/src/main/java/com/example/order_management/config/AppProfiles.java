@@ -0,0 +1,30 @@
+package com.example.order_management.config;
+
+/**
+ * Spring profiles that select the order API stack
+ *
+ * (default)       → Spring MVC on Tomcat + JPA/JDBC (OrderController, OrderServiceImpl, GlobalExceptionHandler)
+ * reactive        → WebFlux on Netty + R2DBC (ReactiveOrderController, ReactiveOrderServiceImpl,
+ *                   ReactiveGlobalExceptionHandler), see application-reactive.properties
+ * embedded-store  → Spring MVC on Tomcat + FileOrderRepository instead of JPA/MySQL,
+ *                   see application-embedded-store.properties
+ */
+public final class AppProfiles {
+
+    public static final String REACTIVE = "reactive";
+
+    public static final String EMBEDDED_STORE = "embedded-store";
+
+    /**
+     * Beans of the blocking servlet stack (any OrderStore)
+     */
+    public static final String SERVLET = "!" + REACTIVE;
+
+    /**
+     * Beans that need JPA itself (EntityManager, JDBC)
+     */
+    public static final String JPA = "!" + REACTIVE + " & !" + EMBEDDED_STORE;
+
+    private AppProfiles() {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.order_management.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Runs the "reactive" profile on Netty
+ *
+ * 🔹 WHY?
+ * Tomcat is on the classpath for the servlet stack and Boot prefers it for WebFlux too.
+ * Netty serves every connection from a small, fixed set of event-loop threads (one per core).
+ */
+@Configuration
+@Profile(AppProfiles.REACTIVE)
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
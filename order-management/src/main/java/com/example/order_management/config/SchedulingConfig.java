@@ -0,0 +1,12 @@
+package com.example.order_management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled background jobs (order statistics reconciliation)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,130 @@
+package com.example.order_management.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports carrier-thread pinning while running on virtual threads
+ *
+ * 🔹 WHY?
+ * A virtual thread that blocks inside a synchronized block (JDBC driver, pool, logging appender)
+ * keeps its carrier thread busy, silently shrinking the carrier pool back to "one thread per request".
+ *
+ * 🔹 HOW?
+ * In-process JFR stream of jdk.VirtualThreadPinned events above a threshold:
+ * - every event is recorded in the "jvm.threads.virtual.pinned" timer (count + total pinned time)
+ * - the first event per pinning site is logged at WARN with its stack, repeats at DEBUG
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_REPORTED_SITES = 256;
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.threads.pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the reporting threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        record(event.getDuration(), thread, frames(event.getStackTrace()));
+    }
+
+    /**
+     * Count one pinning event and log it if its site has not been reported yet
+     */
+    void record(Duration duration, String thread, List<String> frames) {
+        pinnedTimer.record(duration);
+
+        String site = pinningSite(frames);
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("Virtual thread {} pinned its carrier for {} ms at {}\n\tat {}",
+                    thread, duration.toMillis(), site, String.join("\n\tat ", frames));
+        } else {
+            log.debug("Virtual thread {} pinned its carrier for {} ms at {}", thread, duration.toMillis(), site);
+        }
+    }
+
+    long pinnedCount() {
+        return pinnedTimer.count();
+    }
+
+    /**
+     * First non-JDK frame - the library or application code holding the monitor
+     */
+    static String pinningSite(List<String> frames) {
+        for (String frame : frames) {
+            if (!frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun.")) {
+                return frame;
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frames.get(0);
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .limit(MAX_LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .toList();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -1,25 +1,84 @@
 package com.example.order_management.controller;
 
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.dto.BatchDeleteResponseDTO;
+import com.example.order_management.dto.BatchOrderResponseDTO;
+import com.example.order_management.dto.OrderPageDTO;
 import com.example.order_management.dto.OrderRequestDTO;
 import com.example.order_management.dto.OrderResponseDTO;
+import com.example.order_management.dto.OrderStatusRequestDTO;
 import com.example.order_management.entity.Order;
+import com.example.order_management.enums.ExportFormat;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.mapper.OrderCursorMapper;
 import com.example.order_management.mapper.OrderMapper;
+import com.example.order_management.service.OrderBatchService;
+import com.example.order_management.service.OrderExportService;
 import com.example.order_management.service.OrderService;
+import com.example.order_management.service.journal.OrderWriteBehind;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/orders")
+@Profile(AppProfiles.SERVLET)
 public class OrderController {
 
+    static final int DEFAULT_PAGE_LIMIT = 20;
+    static final int MAX_PAGE_LIMIT = 100;
+
     private final OrderService orderService;
     private final OrderMapper orderMapper;
+    private final OrderBatchService orderBatchService;
+    private final OrderExportService orderExportService;
+    private final OrderCursorMapper orderCursorMapper;
+    private final OrderWriteBehind orderWriteBehind;
 
     public OrderController(OrderService orderService,
-                           OrderMapper orderMapper) {
+                           OrderMapper orderMapper,
+                           OrderBatchService orderBatchService,
+                           OrderExportService orderExportService,
+                           OrderCursorMapper orderCursorMapper,
+                           OrderWriteBehind orderWriteBehind) {
         this.orderService = orderService;
         this.orderMapper = orderMapper;
+        this.orderBatchService = orderBatchService;
+        this.orderExportService = orderExportService;
+        this.orderCursorMapper = orderCursorMapper;
+        this.orderWriteBehind = orderWriteBehind;
+    }
+
+    /**
+     * Keyset-paginated listing, oldest first - follow nextCursor until it is null
+     */
+    @GetMapping
+    public ResponseEntity<OrderPageDTO> listOrders(@RequestParam(required = false) String status,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(defaultValue = "" + DEFAULT_PAGE_LIMIT) int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new ValidationException("limit", "must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+        OrderStatus orderStatus = status == null ? null : OrderStatus.from(status);
+        Long afterId = orderCursorMapper.decode(after, orderStatus);
+
+        // Fetch one extra row to know whether another page exists
+        List<Order> orders = orderService.listOrders(orderStatus, afterId, limit + 1);
+        boolean hasMore = orders.size() > limit;
+        List<Order> page = hasMore ? orders.subList(0, limit) : orders;
+
+        OrderPageDTO response = new OrderPageDTO();
+        response.setItems(page.stream().map(orderMapper::toDTO).toList());
+        response.setNextCursor(hasMore ? orderCursorMapper.encode(page.get(limit - 1).getId(), orderStatus) : null);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
@@ -28,10 +87,72 @@ public class OrderController {
         return ResponseEntity.ok(orderMapper.toDTO(order));
     }
 
+    /**
+     * 200 once committed, or 202 once journaled when write-behind is enabled
+     */
     @PostMapping
     public ResponseEntity<OrderResponseDTO> createOrder(@Valid @RequestBody OrderRequestDTO orderDTO) {
         Order order = orderMapper.toEntity(orderDTO);
+        if (orderWriteBehind.isEnabled()) {
+            Order acceptedOrder = orderService.acceptOrder(order);
+            return ResponseEntity.accepted().body(orderMapper.toDTO(acceptedOrder));
+        }
         Order savedOrder = orderService.createOrder(order);
         return ResponseEntity.ok(orderMapper.toDTO(savedOrder));
     }
+
+    /**
+     * Status transition - 409 if not allowed from the current status or lost to a concurrent change
+     */
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<OrderResponseDTO> changeStatus(@PathVariable Long id,
+                                                         @Valid @RequestBody OrderStatusRequestDTO statusDTO) {
+        Order order = orderService.changeStatus(id, OrderStatus.from(statusDTO.getStatus()));
+        return ResponseEntity.ok(orderMapper.toDTO(order));
+    }
+
+    /**
+     * 204, or 404 if the order does not exist - one DELETE, plus a primary key read unless cached
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteOrder(@PathVariable Long id) {
+        orderService.deleteOrder(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Bulk delete, e.g. ?ids=1,2,3 - ids that do not exist are listed in missingIds.
+     * 207 Multi-Status when a chunk failed: its ids are in failedIds, the other chunks stay deleted
+     */
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<BatchDeleteResponseDTO> deleteOrders(@RequestParam List<Long> ids,
+                                                               HttpServletRequest request) {
+        BatchDeleteResponseDTO response = orderBatchService.deleteOrders(ids, request.getRequestURI());
+        return ResponseEntity.status(response.getFailedIds().isEmpty() ? HttpStatus.OK : HttpStatus.MULTI_STATUS)
+                .body(response);
+    }
+
+    /**
+     * Bulk create - 207 Multi-Status with one result (order or ApiError) per item
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResponseDTO> createOrders(@RequestBody List<OrderRequestDTO> orderDTOs,
+                                                              HttpServletRequest request) {
+        BatchOrderResponseDTO response = orderBatchService.createOrders(orderDTOs, request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(response);
+    }
+
+    /**
+     * Streams every order as NDJSON (default) or CSV in constant memory
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "ndjson") String format,
+                                                              HttpServletRequest request) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        String path = request.getRequestURI();
+        StreamingResponseBody body = out -> orderExportService.exportOrders(exportFormat, out, path);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
 }
@@ -0,0 +1,30 @@
+package com.example.order_management.controller;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.dto.OrderStatsDTO;
+import com.example.order_management.service.stats.OrderStatistics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/orders")
+@Profile(AppProfiles.SERVLET)
+public class OrderStatsController {
+
+    private final OrderStatistics orderStatistics;
+
+    public OrderStatsController(OrderStatistics orderStatistics) {
+        this.orderStatistics = orderStatistics;
+    }
+
+    /**
+     * Counts and price totals per status - read from in-memory counters, no query
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<OrderStatsDTO> getStats() {
+        return ResponseEntity.ok(orderStatistics.snapshot());
+    }
+}
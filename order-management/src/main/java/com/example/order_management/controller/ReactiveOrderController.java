@@ -0,0 +1,79 @@
+package com.example.order_management.controller;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.dto.OrderPageDTO;
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.dto.OrderResponseDTO;
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.mapper.OrderCursorMapper;
+import com.example.order_management.mapper.OrderMapper;
+import com.example.order_management.service.ReactiveOrderService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking variant of OrderController ("reactive" profile) - same paths, bodies and errors
+ * Batch create and export are only served by the servlet stack.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@Profile(AppProfiles.REACTIVE)
+public class ReactiveOrderController {
+
+    private final ReactiveOrderService orderService;
+    private final OrderMapper orderMapper;
+    private final OrderCursorMapper orderCursorMapper;
+
+    public ReactiveOrderController(ReactiveOrderService orderService,
+                                   OrderMapper orderMapper,
+                                   OrderCursorMapper orderCursorMapper) {
+        this.orderService = orderService;
+        this.orderMapper = orderMapper;
+        this.orderCursorMapper = orderCursorMapper;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<OrderPageDTO>> listOrders(@RequestParam(required = false) String status,
+                                                         @RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = "" + OrderController.DEFAULT_PAGE_LIMIT) int limit) {
+        if (limit < 1 || limit > OrderController.MAX_PAGE_LIMIT) {
+            throw new ValidationException("limit", "must be between 1 and " + OrderController.MAX_PAGE_LIMIT);
+        }
+        OrderStatus orderStatus = status == null ? null : OrderStatus.from(status);
+        Long afterId = orderCursorMapper.decode(after, orderStatus);
+
+        // Fetch one extra row to know whether another page exists
+        return orderService.listOrders(orderStatus, afterId, limit + 1)
+                .collectList()
+                .map(orders -> {
+                    boolean hasMore = orders.size() > limit;
+                    List<Order> page = hasMore ? orders.subList(0, limit) : orders;
+
+                    OrderPageDTO response = new OrderPageDTO();
+                    response.setItems(page.stream().map(orderMapper::toDTO).toList());
+                    response.setNextCursor(hasMore
+                            ? orderCursorMapper.encode(page.get(limit - 1).getId(), orderStatus) : null);
+                    return ResponseEntity.ok(response);
+                });
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<OrderResponseDTO>> getOrder(@PathVariable Long id) {
+        return orderService.getOrderById(id)
+                .map(order -> ResponseEntity.ok(orderMapper.toDTO(order)));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<OrderResponseDTO>> createOrder(@Valid @RequestBody OrderRequestDTO orderDTO) {
+        Order order = orderMapper.toEntity(orderDTO);
+        return orderService.createOrder(order)
+                .map(savedOrder -> ResponseEntity.ok(orderMapper.toDTO(savedOrder)));
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.order_management.controller.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * In-flight request limit that follows observed latency (gradient algorithm)
+ *
+ * 🔹 WHY?
+ * A fixed limit is either too low (idle capacity) or too high (requests queue for Tomcat threads and
+ * Hikari connections until they time out). The right value moves with the database, the cache hit
+ * rate and the request mix, so it is measured instead of configured.
+ *
+ * 🔹 HOW?
+ * - tryAcquire/release: one CAS on the in-flight count, no lock, no allocation
+ * - Every sample-window, one thread (tryLock) turns the window's average latency (short RTT) into a
+ *   new limit by comparing it with a slow moving average (long RTT):
+ *     gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ *     limit    = limit * gradient + sqrt(limit)
+ *   Latency at baseline → gradient 1 → the limit grows by sqrt(limit) to probe for more capacity.
+ *   Latency over tolerance * baseline → the limit shrinks towards what the backend still serves quickly.
+ *   The change is smoothed, and the limit only grows if the window actually used half of it.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    /** Windows averaged into the long RTT */
+    private static final int LONG_WINDOW = 60;
+    private static final int MIN_SAMPLES = 10;
+
+    private final String operation;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long sampleWindowNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder rttSum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile int limit;
+    private volatile long windowStart;
+
+    // Guarded by updateLock
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    private final Counter rejectedCounter;
+
+    public AdaptiveConcurrencyLimiter(String operation, int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                      double smoothing, Duration sampleWindow, MeterRegistry meterRegistry) {
+        this(operation, initialLimit, minLimit, maxLimit, tolerance, smoothing, sampleWindow, meterRegistry,
+                System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String operation, int initialLimit, int minLimit, int maxLimit, double tolerance,
+                               double smoothing, Duration sampleWindow, MeterRegistry meterRegistry,
+                               LongSupplier nanoClock) {
+        this.operation = operation;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.sampleWindowNanos = sampleWindow.toNanos();
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+        this.windowStart = nanoClock.getAsLong();
+
+        Gauge.builder("orders.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive in-flight limit")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        Gauge.builder("orders.concurrency.in_flight", inFlight, AtomicInteger::get)
+                .description("Requests holding a permit")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("orders.concurrency.rejected")
+                .description("Requests shed because the in-flight limit was reached")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return false (and counted as rejected) when the limit is reached - the caller sheds the request
+     */
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejectedCounter.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (current + 1 > peakInFlight.get()) {
+                    peakInFlight.accumulateAndGet(current + 1, Math::max);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a permit and use its latency as a sample
+     */
+    public void release(long rttNanos) {
+        inFlight.decrementAndGet();
+        rttSum.add(rttNanos);
+        samples.increment();
+        long now = nanoClock.getAsLong();
+        if (now - windowStart >= sampleWindowNanos) {
+            update(now);
+        }
+    }
+
+    /**
+     * Release a permit whose latency says nothing about capacity (failed fast, streamed for minutes, ...)
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    private void update(long now) {
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            long count = samples.sum();
+            if (now - windowStart < sampleWindowNanos || count < MIN_SAMPLES) {
+                return;
+            }
+            count = samples.sumThenReset();
+            double shortRtt = (double) rttSum.sumThenReset() / count;
+            int peak = peakInFlight.getAndSet(inFlight.get());
+            windowStart = now;
+            adjust(shortRtt, peak);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void adjust(double shortRtt, int peak) {
+        longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / LONG_WINDOW;
+        if (longRttNanos / shortRtt > 2) {
+            // Latency is back to normal after an overload: let the baseline follow it down quickly
+            longRttNanos *= 0.95;
+        }
+        if (peak < estimatedLimit / 2) {
+            // Not enough load to tell whether a higher limit would still be fast
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - smoothing) + target * smoothing));
+
+        int next = (int) estimatedLimit;
+        if (next != limit) {
+            log.debug("Concurrency limit [{}] {} -> {} (short RTT {} µs, long RTT {} µs)", operation, limit, next,
+                    (long) shortRtt / 1000, (long) longRttNanos / 1000);
+            limit = next;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.order_management.controller.limit;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.controller.OrderController;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-client rate limit for order creation (POST /api/orders, POST /api/orders/batch)
+ *
+ * app.orders.rate-limit.enabled=true                  → token bucket per remote address (default)
+ * app.orders.rate-limit.enabled=false                 → no per-client limit
+ * app.orders.rate-limit.requests-per-second=50        bucket refill rate
+ * app.orders.rate-limit.burst=100                     bucket size
+ * app.orders.rate-limit.max-clients=65536             table slots (16 bytes each, allocated once)
+ * app.orders.rate-limit.sweep-interval=1m             how often idle clients are cleared from the table
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+@ConditionalOnProperty(name = "app.orders.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ClientRateLimitConfig implements WebMvcConfigurer {
+
+    private final ClientRateLimiter rateLimiter;
+
+    public ClientRateLimitConfig(@Value("${app.orders.rate-limit.requests-per-second:50}") double requestsPerSecond,
+                                 @Value("${app.orders.rate-limit.burst:100}") int burst,
+                                 @Value("${app.orders.rate-limit.max-clients:65536}") int maxClients,
+                                 MeterRegistry meterRegistry) {
+        this.rateLimiter = new ClientRateLimiter(requestsPerSecond, burst, maxClients, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Ahead of the concurrency limit: a client over its rate must not take an in-flight permit
+        registry.addInterceptor(new ClientRateLimitInterceptor(OrderController.class, rateLimiter))
+                .addPathPatterns("/api/orders/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.rate-limit.sweep-interval:1m}")
+    public void evictIdleClients() {
+        rateLimiter.evictIdle();
+    }
+}
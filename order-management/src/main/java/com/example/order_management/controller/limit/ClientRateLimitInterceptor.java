@@ -0,0 +1,47 @@
+package com.example.order_management.controller.limit;
+
+import com.example.order_management.exception.custom.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits order creation (POST) per client
+ *
+ * The client is the remote address. Nothing here authenticates an API key, so a header sent by the
+ * caller cannot be the key: a fresh value per request would get a fresh bucket every time (and push
+ * throttled clients out of the table). Behind a reverse proxy set server.forward-headers-strategy
+ * so the remote address is the client's, not the proxy's.
+ * Over the limit the request fails with RATE_LIMIT_EXCEEDED (429) and a Retry-After header
+ * through GlobalExceptionHandler.
+ */
+public class ClientRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final long ADDRESS_SEED = 0x27d4eb2fL;
+
+    private final Class<?> guardedController;
+    private final ClientRateLimiter rateLimiter;
+
+    public ClientRateLimitInterceptor(Class<?> guardedController, ClientRateLimiter rateLimiter) {
+        this.guardedController = guardedController;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.POST.matches(request.getMethod())
+                || !(handler instanceof HandlerMethod handlerMethod)
+                || !guardedController.isAssignableFrom(handlerMethod.getBeanType())) {
+            return true;
+        }
+        long wait = rateLimiter.tryAcquire(request.getRemoteAddr(), ADDRESS_SEED);
+        if (wait > 0) {
+            throw new RateLimitExceededException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999)));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.order_management.controller.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets in a fixed-size, lock-free table
+ *
+ * 🔹 WHY?
+ * A map of key → bucket grows with every distinct API key or IP that ever called us - millions of
+ * one-off clients (or an attacker rotating keys) would fill the heap. Here memory is fixed at
+ * 16 bytes per slot, allocated once.
+ *
+ * 🔹 HOW?
+ * - A bucket is one long: the time at which it will be full again ("theoretical arrival time").
+ *   Taking a token moves it forward by 1/rate; a request is allowed while it stays within
+ *   burst/rate of now. This is the token bucket written as a timestamp, so a token is one CAS.
+ * - Clients are stored as a 64-bit hash of their key, in stripes of 8 slots: a key can only live
+ *   in its own stripe, so a lookup reads at most 8 adjacent slots.
+ * - A slot whose bucket has refilled completely is free: a full bucket behaves exactly like a new
+ *   one, so idle clients are evicted without losing anything. If a stripe has no free slot the
+ *   bucket closest to full is taken over (orders.rate_limit.evictions{reason=capacity} → raise max-clients).
+ * - evictIdle() (scheduled) clears refilled slots so stripes stay short and the client gauge is accurate.
+ *
+ * Under races (two new clients claiming the same slot, eviction during a take) a client may get
+ * a token too many - never fewer than it is entitled to for long.
+ */
+public class ClientRateLimiter {
+
+    private static final int STRIPE_SIZE = 8;
+    private static final long EMPTY = 0;
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int stripeMask;
+    private final AtomicLongArray keys;
+    private final AtomicLongArray fullAt;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private volatile int trackedClients;
+
+    private final Counter rejectedCounter;
+    private final Counter idleEvictions;
+    private final Counter capacityEvictions;
+
+    public ClientRateLimiter(double requestsPerSecond, int burst, int maxClients, MeterRegistry meterRegistry) {
+        this(requestsPerSecond, burst, maxClients, meterRegistry, System::nanoTime);
+    }
+
+    ClientRateLimiter(double requestsPerSecond, int burst, int maxClients, MeterRegistry meterRegistry,
+                      LongSupplier nanoClock) {
+        this.emissionIntervalNanos = Math.max(1, (long) (Duration.ofSeconds(1).toNanos() / requestsPerSecond));
+        this.burstNanos = emissionIntervalNanos * burst;
+        int stripes = Integer.highestOneBit(Math.max(1, maxClients / STRIPE_SIZE));
+        if (stripes * STRIPE_SIZE < maxClients) {
+            stripes <<= 1;
+        }
+        this.stripeMask = stripes - 1;
+        this.keys = new AtomicLongArray(stripes * STRIPE_SIZE);
+        this.fullAt = new AtomicLongArray(stripes * STRIPE_SIZE);
+        this.nanoClock = nanoClock;
+        // Timestamps are kept > 0 so that 0 (a never-used slot) is always in the past
+        this.origin = nanoClock.getAsLong() - 1;
+
+        Gauge.builder("orders.rate_limit.clients", this, limiter -> limiter.trackedClients)
+                .description("Clients with a partly used bucket at the last idle sweep")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("orders.rate_limit.rejected")
+                .description("Requests rejected because the client's token bucket was empty")
+                .register(meterRegistry);
+        this.idleEvictions = evictions(meterRegistry, "idle");
+        this.capacityEvictions = evictions(meterRegistry, "capacity");
+    }
+
+    private static Counter evictions(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("orders.rate_limit.evictions")
+                .description("Client slots reused for another client")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public int capacity() {
+        return keys.length();
+    }
+
+    /**
+     * Take a token from the client's bucket
+     *
+     * @param clientKey client identity, e.g. its IP address
+     * @param seed      keeps key namespaces apart (the same string in two namespaces is two clients)
+     * @return 0 if allowed, otherwise nanos until the next token
+     */
+    public long tryAcquire(String clientKey, long seed) {
+        long hash = hash(clientKey, seed);
+        long now = nanoClock.getAsLong() - origin;
+        int base = (int) (hash & stripeMask) * STRIPE_SIZE;
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            int free = -1;
+            long freeKey = EMPTY;
+            int victim = base;
+            long victimKey = EMPTY;
+            long victimFullAt = Long.MAX_VALUE;
+            for (int slot = base; slot < base + STRIPE_SIZE; slot++) {
+                long key = keys.get(slot);
+                if (key == hash) {
+                    return take(slot, now);
+                }
+                long slotFullAt = fullAt.get(slot);
+                if (key == EMPTY || slotFullAt <= now) {
+                    if (free < 0) {
+                        free = slot;
+                        freeKey = key;
+                    }
+                } else if (slotFullAt < victimFullAt) {
+                    victim = slot;
+                    victimKey = key;
+                    victimFullAt = slotFullAt;
+                }
+            }
+            int slot = free >= 0 ? free : victim;
+            if (keys.compareAndSet(slot, free >= 0 ? freeKey : victimKey, hash)) {
+                if (free < 0) {
+                    capacityEvictions.increment();
+                }
+                fullAt.set(slot, now);
+                return take(slot, now);
+            }
+            // Another client claimed the slot first - look again, our key may be there now
+        }
+        return 0;
+    }
+
+    private long take(int slot, long now) {
+        for (;;) {
+            long current = fullAt.get(slot);
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                rejectedCounter.increment();
+                return wait;
+            }
+            if (fullAt.compareAndSet(slot, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Free the slots of clients whose bucket has refilled
+     *
+     * @return slots freed
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong() - origin;
+        int evicted = 0;
+        int tracked = 0;
+        for (int slot = 0; slot < keys.length(); slot++) {
+            long key = keys.get(slot);
+            if (key == EMPTY) {
+                continue;
+            }
+            if (fullAt.get(slot) <= now && keys.compareAndSet(slot, key, EMPTY)) {
+                evicted++;
+            } else {
+                tracked++;
+            }
+        }
+        idleEvictions.increment(evicted);
+        trackedClients = tracked;
+        return evicted;
+    }
+
+    /**
+     * 64-bit FNV-1a over the key's chars, then the MurmurHash3 finalizer - never EMPTY
+     */
+    static long hash(String key, long seed) {
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1 : hash;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.order_management.controller.limit;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.controller.OrderController;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limits in front of OrderController
+ *
+ * app.orders.concurrency-limit.enabled=true              → limit reads and writes separately (default)
+ * app.orders.concurrency-limit.enabled=false             → no limit, requests queue for threads/connections
+ * app.orders.concurrency-limit.read.initial-limit=50     starting in-flight limit for GET requests
+ * app.orders.concurrency-limit.read.max-limit=500
+ * app.orders.concurrency-limit.write.initial-limit=20    starting in-flight limit for POST/PATCH/DELETE
+ * app.orders.concurrency-limit.write.max-limit=100       keep at or below what the connection pool can serve
+ * app.orders.concurrency-limit.min-limit=4               the limit never goes below this
+ * app.orders.concurrency-limit.tolerance=1.5             latency over tolerance * baseline shrinks the limit
+ * app.orders.concurrency-limit.smoothing=0.2             share of each computed change that is applied
+ * app.orders.concurrency-limit.sample-window=100ms       how often the limit is recomputed
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+@ConditionalOnProperty(name = "app.orders.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor interceptor;
+
+    public ConcurrencyLimitConfig(@Value("${app.orders.concurrency-limit.read.initial-limit:50}") int readInitialLimit,
+                                  @Value("${app.orders.concurrency-limit.read.max-limit:500}") int readMaxLimit,
+                                  @Value("${app.orders.concurrency-limit.write.initial-limit:20}") int writeInitialLimit,
+                                  @Value("${app.orders.concurrency-limit.write.max-limit:100}") int writeMaxLimit,
+                                  @Value("${app.orders.concurrency-limit.min-limit:4}") int minLimit,
+                                  @Value("${app.orders.concurrency-limit.tolerance:1.5}") double tolerance,
+                                  @Value("${app.orders.concurrency-limit.smoothing:0.2}") double smoothing,
+                                  @Value("${app.orders.concurrency-limit.sample-window:100ms}") Duration sampleWindow,
+                                  MeterRegistry meterRegistry) {
+        this.interceptor = new ConcurrencyLimitInterceptor(OrderController.class,
+                new AdaptiveConcurrencyLimiter("read", readInitialLimit, minLimit, readMaxLimit, tolerance, smoothing,
+                        sampleWindow, meterRegistry),
+                new AdaptiveConcurrencyLimiter("write", writeInitialLimit, minLimit, writeMaxLimit, tolerance,
+                        smoothing, sampleWindow, meterRegistry));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/orders/**");
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.order_management.controller.limit;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.custom.SharedBusinessException;
+import com.example.order_management.exception.enums.ErrorType;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Sheds requests to the guarded controller once its adaptive in-flight limit is reached
+ *
+ * 🔹 HOW?
+ * GET requests share the read limiter, everything else the write limiter - a burst of slow writes
+ * must not starve cheap cached reads (and vice versa).
+ * Over the limit the request fails immediately with TOO_MANY_CONCURRENT_REQUESTS (429) through
+ * GlobalExceptionHandler, instead of waiting for a thread or a connection.
+ *
+ * The permit lives in a request attribute: an async request (export streaming) keeps it across the
+ * async dispatch and releases it when the response completes. Its latency is not sampled, nor is
+ * that of a failed request (5xx) - neither says how fast the backend serves normal requests.
+ */
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final Class<?> guardedController;
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+
+    public ConcurrencyLimitInterceptor(Class<?> guardedController, AdaptiveConcurrencyLimiter readLimiter,
+                                       AdaptiveConcurrencyLimiter writeLimiter) {
+        this.guardedController = guardedController;
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !guardedController.isAssignableFrom(handlerMethod.getBeanType())
+                || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        AdaptiveConcurrencyLimiter limiter = HttpMethod.GET.matches(request.getMethod()) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            throw SharedBusinessException.of(ErrorCodes.TOO_MANY_CONCURRENT_REQUESTS, ErrorType.SYSTEM,
+                    ErrorMessages.TOO_MANY_CONCURRENT_REQUESTS);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit)) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        if (ex != null || response.getStatus() >= 500 || request.getDispatcherType() == DispatcherType.ASYNC) {
+            permit.limiter().releaseWithoutSample();
+        } else {
+            permit.limiter().release(System.nanoTime() - permit.startedAt());
+        }
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startedAt) {
+    }
+}
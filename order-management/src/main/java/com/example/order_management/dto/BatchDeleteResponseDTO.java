@@ -0,0 +1,22 @@
+package com.example.order_management.dto;
+
+import com.example.order_management.exception.model.ApiError;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Response of DELETE /api/orders?ids=... - ids that did not exist are reported, not treated as errors.
+ * Ids of a chunk that failed are listed in failedIds (nothing in that chunk was deleted), with the
+ * error of the first failed chunk.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchDeleteResponseDTO {
+    private int requested;
+    private int deleted;
+    private List<Long> missingIds;
+    private List<Long> failedIds;
+    private ApiError error;
+}
@@ -0,0 +1,20 @@
+package com.example.order_management.dto;
+
+import com.example.order_management.exception.model.ApiError;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch: either the created order or the error
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchOrderItemResultDTO {
+    private int index;
+    private OrderResponseDTO order;
+    private ApiError error;
+}
@@ -0,0 +1,16 @@
+package com.example.order_management.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Multi-status response of POST /api/orders/batch - one result per submitted item, in order
+ */
+@Data
+public class BatchOrderResponseDTO {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchOrderItemResultDTO> results;
+}
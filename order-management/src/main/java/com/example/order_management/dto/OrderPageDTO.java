@@ -0,0 +1,14 @@
+package com.example.order_management.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of GET /api/orders - pass nextCursor as "after" to get the next page
+ */
+@Data
+public class OrderPageDTO {
+    private List<OrderResponseDTO> items;
+    private String nextCursor;
+}
@@ -2,12 +2,17 @@ package com.example.order_management.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import com.example.order_management.validation.GenerateValidator;
 import lombok.Data;
 
 @Data
+@GenerateValidator
 public class OrderRequestDTO {
 
+    // orders.product_name is VARCHAR(255): longer names would only fail at insert time
     @NotBlank
+    @Size(max = 255)
     private String productName;
 
     @NotNull
@@ -6,6 +6,8 @@ import lombok.Data;
 //Service ↔ Entity
 @Data
 public class OrderResponseDTO {
+    // Time-ordered 64-bit id, above 2^53 - written as a JSON number, so JavaScript clients must not
+    // parse it into a double (see README, "Order ids are larger than 2^53")
     private Long id;
     private String productName;
     private Double price;
@@ -0,0 +1,18 @@
+package com.example.order_management.dto;
+
+import com.example.order_management.enums.OrderStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * GET /api/orders/stats - counts and price totals per status, maintained in memory
+ */
+@Data
+public class OrderStatsDTO {
+    private long totalCount;
+    private double totalPrice;
+    private Map<OrderStatus, OrderStatusStatsDTO> byStatus;
+    private LocalDateTime lastReconciledAt;
+}
@@ -0,0 +1,13 @@
+package com.example.order_management.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import com.example.order_management.validation.GenerateValidator;
+import lombok.Data;
+
+@Data
+@GenerateValidator
+public class OrderStatusRequestDTO {
+
+    @NotBlank
+    private String status;
+}
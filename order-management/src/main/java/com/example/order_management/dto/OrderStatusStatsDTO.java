@@ -0,0 +1,13 @@
+package com.example.order_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusStatsDTO {
+    private long count;
+    private double priceTotal;
+}
@@ -0,0 +1,85 @@
+package com.example.order_management.dto.json;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.dto.OrderPageDTO;
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.dto.OrderResponseDTO;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.exception.render.ApiErrorJsonWriter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Streaming JSON codecs for the hot request/response types (servlet stack)
+ *
+ * app.json.streaming-codecs.enabled=true   → OrderRequestDTO, OrderResponseDTO, OrderPageDTO and ApiError go
+ *                                            through OrderJsonCodec / ApiErrorJsonWriter (default)
+ * app.json.streaming-codecs.enabled=false  → Jackson databind for everything
+ *
+ * The codecs write what databind writes with the default Spring Boot ObjectMapper. If spring.jackson.*
+ * changes the format (naming strategy, default inclusion, property order, date timestamps, strict unknown
+ * properties) they are not registered. With app.error.rendering=template, ApiError keeps its template converter.
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+@ConditionalOnProperty(name = "app.json.streaming-codecs.enabled", havingValue = "true", matchIfMissing = true)
+public class JsonCodecConfig implements WebMvcConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonCodecConfig.class);
+
+    private final ObjectMapper objectMapper;
+
+    public JsonCodecConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!writesDefaultFormat(objectMapper)) {
+            log.warn("Streaming JSON codecs disabled: the ObjectMapper does not use the default JSON format");
+            return;
+        }
+        // Right ahead of Jackson - converters added in front of it (ApiErrorHttpMessageConverter) still win
+        int index = 0;
+        while (index < converters.size() && !(converters.get(index) instanceof MappingJackson2HttpMessageConverter)) {
+            index++;
+        }
+        converters.addAll(index, converters(objectMapper));
+    }
+
+    public static List<HttpMessageConverter<?>> converters(ObjectMapper objectMapper) {
+        return List.of(
+                new StreamingJsonHttpMessageConverter<>(OrderRequestDTO.class,
+                        parser -> OrderJsonCodec.readOrderRequest(parser, objectMapper), null, objectMapper),
+                new StreamingJsonHttpMessageConverter<>(OrderResponseDTO.class,
+                        null, OrderJsonCodec::writeOrder, objectMapper),
+                new StreamingJsonHttpMessageConverter<>(OrderPageDTO.class,
+                        null, OrderJsonCodec::writePage, objectMapper),
+                new StreamingJsonHttpMessageConverter<>(ApiError.class,
+                        null, ApiErrorJsonWriter::write, objectMapper));
+    }
+
+    static boolean writesDefaultFormat(ObjectMapper objectMapper) {
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig()
+                .getDefaultPropertyInclusion().getValueInclusion();
+        return objectMapper.getPropertyNamingStrategy() == null
+                && (inclusion == JsonInclude.Include.USE_DEFAULTS || inclusion == JsonInclude.Include.ALWAYS)
+                && !objectMapper.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && !objectMapper.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                && !objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                && !objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.order_management.dto.json;
+
+import com.example.order_management.dto.OrderPageDTO;
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.dto.OrderResponseDTO;
+import com.example.order_management.enums.OrderStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written JSON codecs for the order DTOs on the streaming Jackson API
+ *
+ * 🔹 WHY? Databind resolves a serializer/deserializer per type, then goes through bean property
+ * objects and reflective accessors for every field. These codecs call the getters/setters
+ * directly, write pre-encoded field names and OrderStatus names, and match field names
+ * against the parser's canonical (interned) names.
+ *
+ * 🔹 OUTPUT: the same JSON databind writes with the Spring Boot ObjectMapper - declaration
+ * order, nulls included (the DTOs have no @JsonInclude).
+ * 🔹 INPUT: same as databind for OrderRequestDTO - unknown properties are skipped, and any
+ * value that is not a plain string/number/null (e.g. "price": "12.5") is handed to the
+ * ObjectMapper, so coercion rules and error messages stay databind's.
+ */
+public final class OrderJsonCodec {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString PRODUCT_NAME = new SerializedString("productName");
+    private static final SerializableString PRICE = new SerializedString("price");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString ITEMS = new SerializedString("items");
+    private static final SerializableString NEXT_CURSOR = new SerializedString("nextCursor");
+
+    // Pre-encoded OrderStatus names - OrderMapper sets OrderStatus.name(), so equals() hits its identity check
+    private static final SerializableString[] STATUS_NAMES = names(OrderStatus.values());
+
+    private OrderJsonCodec() {
+    }
+
+    public static void writeOrder(JsonGenerator generator, OrderResponseDTO order) throws IOException {
+        generator.writeStartObject(order);
+        generator.writeFieldName(ID);
+        if (order.getId() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(order.getId());
+        }
+        generator.writeFieldName(PRODUCT_NAME);
+        generator.writeString(order.getProductName());
+        generator.writeFieldName(PRICE);
+        if (order.getPrice() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(order.getPrice());
+        }
+        generator.writeFieldName(STATUS);
+        writeStatus(generator, order.getStatus());
+        generator.writeEndObject();
+    }
+
+    public static void writePage(JsonGenerator generator, OrderPageDTO page) throws IOException {
+        generator.writeStartObject(page);
+        generator.writeFieldName(ITEMS);
+        List<OrderResponseDTO> items = page.getItems();
+        if (items == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray(items, items.size());
+            for (OrderResponseDTO item : items) {
+                if (item == null) {
+                    generator.writeNull();
+                } else {
+                    writeOrder(generator, item);
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeFieldName(NEXT_CURSOR);
+        generator.writeString(page.getNextCursor());
+        generator.writeEndObject();
+    }
+
+    /**
+     * @param fallback reads the values (or a whole body that is not an object) the fast path does not handle
+     */
+    public static OrderRequestDTO readOrderRequest(JsonParser parser, ObjectMapper fallback) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return fallback.readValue(parser, OrderRequestDTO.class);
+        }
+        OrderRequestDTO order = new OrderRequestDTO();
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "productName" -> order.setProductName(token == JsonToken.VALUE_STRING
+                        ? parser.getText()
+                        : token == JsonToken.VALUE_NULL ? null : fallback.readValue(parser, String.class));
+                case "price" -> order.setPrice(token.isNumeric()
+                        ? Double.valueOf(parser.getDoubleValue())
+                        : token == JsonToken.VALUE_NULL ? null : fallback.readValue(parser, Double.class));
+                default -> parser.skipChildren();
+            }
+        }
+        return order;
+    }
+
+    private static void writeStatus(JsonGenerator generator, String status) throws IOException {
+        for (SerializableString name : STATUS_NAMES) {
+            if (name.getValue().equals(status)) {
+                generator.writeString(name);
+                return;
+            }
+        }
+        generator.writeString(status);
+    }
+
+    private static SerializableString[] names(Enum<?>[] values) {
+        SerializableString[] names = new SerializableString[values.length];
+        for (Enum<?> value : values) {
+            names[value.ordinal()] = new SerializedString(value.name());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.order_management.dto.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * HttpMessageConverter for one exact type, backed by a hand-written streaming codec
+ *
+ * Parser and generator come from the ObjectMapper's JsonFactory, so parser/generator features
+ * (and INDENT_OUTPUT) are the ones MappingJackson2HttpMessageConverter would use. Read errors
+ * are reported the way that converter reports them.
+ *
+ * @param <T> the body type - subclasses are left to Jackson
+ */
+public class StreamingJsonHttpMessageConverter<T> extends AbstractHttpMessageConverter<T> {
+
+    /**
+     * Reads a body; the parser is positioned before its first token
+     */
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface BodyWriter<T> {
+        void write(JsonGenerator generator, T body) throws IOException;
+    }
+
+    private final Class<T> type;
+    private final BodyReader<T> reader;
+    private final BodyWriter<T> writer;
+    private final JsonFactory jsonFactory;
+    private final boolean indent;
+
+    /**
+     * @param reader null for response-only types
+     * @param writer null for request-only types
+     */
+    public StreamingJsonHttpMessageConverter(Class<T> type, BodyReader<T> reader, BodyWriter<T> writer,
+                                             ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.type = type;
+        this.reader = reader;
+        this.writer = writer;
+        this.jsonFactory = objectMapper.getFactory();
+        this.indent = objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return type == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return reader != null && super.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return writer != null && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected T readInternal(Class<? extends T> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (JsonParser parser = createParser(inputMessage)) {
+            return reader.read(parser);
+        } catch (InvalidDefinitionException ex) {
+            throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, inputMessage);
+        }
+    }
+
+    private JsonParser createParser(HttpInputMessage inputMessage) throws IOException {
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        if (charset == null || isJsonEncoding(charset)) {
+            // Byte source: the parser detects the UTF encoding itself
+            return jsonFactory.createParser(inputMessage.getBody());
+        }
+        return jsonFactory.createParser(new InputStreamReader(inputMessage.getBody(), charset));
+    }
+
+    private static boolean isJsonEncoding(Charset charset) {
+        for (JsonEncoding encoding : JsonEncoding.values()) {
+            if (encoding.getJavaName().equals(charset.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(T body, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(
+                StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            if (indent) {
+                generator.useDefaultPrettyPrinter();
+            }
+            writer.write(generator, body);
+        }
+    }
+}
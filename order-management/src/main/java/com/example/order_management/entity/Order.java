@@ -1,17 +1,21 @@
 package com.example.order_management.entity;
 
 
+import com.example.order_management.entity.id.TimeOrderedId;
 import com.example.order_management.enums.OrderStatus;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+        // Keyset pagination: WHERE status = ? AND id > ? ORDER BY id
+        indexes = @Index(name = "idx_orders_status_id", columnList = "status, id"))
 public class Order {
 
+    // Assigned in-process before INSERT (not IDENTITY) so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private String productName;
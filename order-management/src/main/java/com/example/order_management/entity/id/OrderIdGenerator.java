@@ -0,0 +1,32 @@
+package com.example.order_management.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Hibernate adapter for TimeOrderedIdGenerator - ids are assigned before the INSERT,
+ * so Hibernate can batch the statements
+ */
+public class OrderIdGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner,
+                           Object currentValue, EventType eventType) {
+        // Ids assigned up front (e.g. by the ingestion journal) are kept
+        return currentValue != null ? currentValue : TimeOrderedIdGenerator.shared().nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.order_management.entity.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Applies the node id of the order id generator from application.properties
+ *
+ * app.orders.id.node-id=7   (0..1023, unique per running instance)
+ *
+ * 🔹 UNSET: derived from the low 10 bits of the address the host name resolves to, so instances on
+ * different hosts of one /22 (or smaller) subnet get different node ids without per-instance config.
+ * A host that resolves to loopback or IPv6 only fails startup - set node-id explicitly there, and
+ * whenever several instances share a host or span a larger network. The embedded-store profile sets
+ * 0: its ids only need to be unique within the instance's own store.
+ */
+@Component
+public class OrderIdGeneratorConfigurer {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(OrderIdGeneratorConfigurer.class);
+
+    public OrderIdGeneratorConfigurer(@Value("${app.orders.id.node-id:#{null}}") Long nodeId) {
+        if (nodeId == null) {
+            InetAddress address = localHost();
+            nodeId = nodeIdOf(address);
+            log.info("Order id generator node id: {} (from host address {})", nodeId, address.getHostAddress());
+        } else {
+            log.info("Order id generator node id: {}", nodeId);
+        }
+        TimeOrderedIdGenerator.configure(nodeId);
+    }
+
+    /**
+     * Low NODE_BITS bits of a non-loopback IPv4 address
+     */
+    static long nodeIdOf(InetAddress address) {
+        if (!(address instanceof Inet4Address) || address.isLoopbackAddress()) {
+            throw new IllegalStateException("Cannot derive an order id node id from host address "
+                    + address.getHostAddress() + " - set app.orders.id.node-id (0.."
+                    + TimeOrderedIdGenerator.MAX_NODE_ID + "), unique per running instance");
+        }
+        byte[] bytes = address.getAddress();
+        long low = ((bytes[2] & 0xFFL) << 8) | (bytes[3] & 0xFFL);
+        return low & TimeOrderedIdGenerator.MAX_NODE_ID;
+    }
+
+    private static InetAddress localHost() {
+        try {
+            return InetAddress.getLocalHost();
+        } catch (UnknownHostException ex) {
+            throw new IllegalStateException("Cannot resolve the host name to derive an order id node id"
+                    + " - set app.orders.id.node-id", ex);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.order_management.enums;
+
+import com.example.order_management.exception.custom.ValidationException;
+
+/**
+ * Output formats of GET /api/orders/export
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ValidationException("format", "must be one of ndjson, csv");
+    }
+}
@@ -1,9 +1,41 @@
 package com.example.order_management.enums;
 
+import com.example.order_management.exception.custom.ValidationException;
+
 import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 
 public enum OrderStatus {
     CREATED,
     CONFIRMED,
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * Allowed transitions - anything not listed (including CANCELLED → *) is rejected with 409
+     */
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(CREATED, EnumSet.of(CONFIRMED, CANCELLED));
+        TRANSITIONS.put(CONFIRMED, EnumSet.of(CANCELLED));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return next != null && TRANSITIONS.get(this).contains(next);
+    }
+
+    /**
+     * Parse a status from request input - unknown values are a ValidationException (400)
+     */
+    public static OrderStatus from(String value) {
+        for (OrderStatus status : values()) {
+            if (status.name().equalsIgnoreCase(value)) {
+                return status;
+            }
+        }
+        throw new ValidationException("status", "must be one of CREATED, CONFIRMED, CANCELLED");
+    }
 }
@@ -11,6 +11,7 @@ public final class ErrorCodes {
     public static final String INVALID_ORDER_STATUS = "INVALID_ORDER_STATUS";
     public static final String DUPLICATE_ORDER = "DUPLICATE_ORDER";
     public static final String ORDER_PROCESSING_ERROR = "ORDER_PROCESSING_ERROR";
+    public static final String ORDER_PENDING = "ORDER_PENDING";
     
     // Validation Error Codes
     public static final String VALIDATION_FAILED = "VALIDATION_FAILED";
@@ -21,6 +22,9 @@ public final class ErrorCodes {
     public static final String INTERNAL_SERVER_ERROR = "INTERNAL_SERVER_ERROR";
     public static final String DATABASE_ERROR = "DATABASE_ERROR";
     public static final String NETWORK_ERROR = "NETWORK_ERROR";
+    public static final String ORDER_BACKLOG_FULL = "ORDER_BACKLOG_FULL";
+    public static final String TOO_MANY_CONCURRENT_REQUESTS = "TOO_MANY_CONCURRENT_REQUESTS";
+    public static final String RATE_LIMIT_EXCEEDED = "RATE_LIMIT_EXCEEDED";
     
     // Private constructor to prevent instantiation
     private ErrorCodes() {
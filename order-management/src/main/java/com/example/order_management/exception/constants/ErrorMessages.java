@@ -11,6 +11,7 @@ public final class ErrorMessages {
     public static final String INVALID_ORDER_STATUS = "Invalid order status: %s";
     public static final String DUPLICATE_ORDER = "Order already exists with id: %s";
     public static final String ORDER_PROCESSING_ERROR = "Error processing order: %s";
+    public static final String ORDER_PENDING = "Order %s is still being persisted. Please retry shortly.";
     
     // Validation Error Messages
     public static final String VALIDATION_FAILED = "Validation failed: %s";
@@ -21,6 +22,10 @@ public final class ErrorMessages {
     public static final String INTERNAL_SERVER_ERROR = "An internal server error occurred. Please try again later.";
     public static final String DATABASE_ERROR = "Database operation failed. Please contact support.";
     public static final String NETWORK_ERROR = "Network operation failed. Please check your connection.";
+    public static final String DATABASE_UNAVAILABLE = "Database is temporarily unavailable. Please retry shortly.";
+    public static final String TOO_MANY_CONCURRENT_REQUESTS = "Too many requests in progress. Please retry shortly.";
+    public static final String RATE_LIMIT_EXCEEDED = "Rate limit exceeded. Please retry after the time given in Retry-After.";
+    public static final String ORDER_BACKLOG_FULL = "Too many orders are waiting to be persisted. Please retry shortly.";
     
     // Private constructor to prevent instantiation
     private ErrorMessages() {
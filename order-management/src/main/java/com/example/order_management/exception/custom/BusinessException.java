@@ -1,11 +1,15 @@
 package com.example.order_management.exception.custom;
 
-import com.example.order_management.exception.constants.ErrorCodes;
 import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.policy.StackTracePolicy;
 
 /**
  * Base Business Exception - ENTERPRISE CORE
  * 🔹 WHY? All business exceptions behave the same, reusable logic
+ *
+ * 🔹 STACK TRACES: whether a stack trace is captured is decided by
+ * {@link StackTracePolicy} from the errorCode / errorType, so hot
+ * error paths (e.g. ORDER_NOT_FOUND) can skip fillInStackTrace.
  */
 public abstract class BusinessException extends RuntimeException {
     
@@ -13,13 +17,21 @@ public abstract class BusinessException extends RuntimeException {
     private final ErrorType errorType;
     
     protected BusinessException(String errorCode, ErrorType errorType, String message) {
-        super(message);
-        this.errorCode = errorCode;
-        this.errorType = errorType;
+        this(errorCode, errorType, message, null);
     }
     
     protected BusinessException(String errorCode, ErrorType errorType, String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, StackTracePolicy.isWritableStackTrace(errorCode, errorType));
+        this.errorCode = errorCode;
+        this.errorType = errorType;
+    }
+
+    /**
+     * Constructor for shared, immutable instances (see {@link SharedBusinessException}):
+     * no stack trace, no suppressed exceptions, no cause.
+     */
+    protected BusinessException(String errorCode, ErrorType errorType, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
         this.errorCode = errorCode;
         this.errorType = errorType;
     }
@@ -31,4 +43,15 @@ public abstract class BusinessException extends RuntimeException {
     public ErrorType getErrorType() {
         return errorType;
     }
+
+    /**
+     * Cheap replacement for String.format with a single "%s" placeholder
+     */
+    protected static String formatMessage(String template, Object argument) {
+        int placeholder = template.indexOf("%s");
+        if (placeholder < 0) {
+            return template;
+        }
+        return template.substring(0, placeholder) + argument + template.substring(placeholder + 2);
+    }
 }
@@ -1,7 +1,21 @@
 package com.example.order_management.exception.custom;
 
-public class InvalidOrderStatusException extends RuntimeException {
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.enums.ErrorType;
+
+/**
+ * Status change not allowed from the order's current status, or lost to a concurrent change (409)
+ */
+public class InvalidOrderStatusException extends BusinessException {
+
     public InvalidOrderStatusException(String message) {
-        super(message);
+        super(ErrorCodes.INVALID_ORDER_STATUS, ErrorType.BUSINESS, message);
+    }
+
+    public InvalidOrderStatusException(Long orderId, OrderStatus from, OrderStatus to) {
+        this(formatMessage(ErrorMessages.INVALID_ORDER_STATUS,
+                "order " + orderId + " cannot change from " + from + " to " + to));
     }
 }
@@ -0,0 +1,25 @@
+package com.example.order_management.exception.custom;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.enums.ErrorType;
+
+/**
+ * Order accepted by write-behind (202) but not in the database yet (409 + Retry-After)
+ *
+ * A timing problem, not an illegal status transition: the same request succeeds once the order is flushed.
+ */
+public class OrderPendingException extends BusinessException implements RetryableException {
+
+    // Flushes run every flush-interval (200ms by default) - one second covers a normal backlog
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    public OrderPendingException(Long orderId) {
+        super(ErrorCodes.ORDER_PENDING, ErrorType.BUSINESS, formatMessage(ErrorMessages.ORDER_PENDING, orderId));
+    }
+
+    @Override
+    public long getRetryAfterSeconds() {
+        return RETRY_AFTER_SECONDS;
+    }
+}
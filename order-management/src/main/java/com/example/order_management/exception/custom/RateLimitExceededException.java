@@ -0,0 +1,25 @@
+package com.example.order_management.exception.custom;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.enums.ErrorType;
+
+/**
+ * Client sent more requests than its rate limit allows (429 + Retry-After)
+ *
+ * Always stackless: it is thrown for every request of a flooding client.
+ */
+public class RateLimitExceededException extends BusinessException implements RetryableException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCodes.RATE_LIMIT_EXCEEDED, ErrorType.BUSINESS, ErrorMessages.RATE_LIMIT_EXCEEDED, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
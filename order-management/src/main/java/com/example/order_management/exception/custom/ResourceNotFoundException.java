@@ -12,7 +12,7 @@ public class ResourceNotFoundException extends BusinessException {
     public ResourceNotFoundException(String resourceName, Long resourceId) {
         super(ErrorCodes.ORDER_NOT_FOUND, 
               ErrorType.BUSINESS, 
-              String.format(ErrorMessages.ORDER_NOT_FOUND, resourceName + " with id: " + resourceId));
+              formatMessage(ErrorMessages.ORDER_NOT_FOUND, resourceName + " with id: " + resourceId));
     }
     
     public ResourceNotFoundException(String message) {
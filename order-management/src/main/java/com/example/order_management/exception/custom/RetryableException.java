@@ -0,0 +1,9 @@
+package com.example.order_management.exception.custom;
+
+/**
+ * An error the client can retry after a known delay - the exception handler sends it as Retry-After
+ */
+public interface RetryableException {
+
+    long getRetryAfterSeconds();
+}
@@ -0,0 +1,45 @@
+package com.example.order_management.exception.custom;
+
+import com.example.order_management.exception.enums.ErrorType;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cached, shared instances for parameter-free business errors
+ * 🔹 WHY? An error without parameters (e.g. "database unavailable") is the same
+ * object every time - throwing a shared instance costs no allocation at all
+ *
+ * Instances have no stack trace, no cause and ignore addSuppressed,
+ * so they are immutable and safe to throw from any thread.
+ */
+public final class SharedBusinessException extends BusinessException {
+
+    /**
+     * The whole error, not just the code - one code can be raised with different messages
+     * (DATABASE_ERROR: "unavailable" from the circuit breaker, a generic one elsewhere)
+     */
+    private record Key(String errorCode, ErrorType errorType, String message) {
+    }
+
+    private static final ConcurrentMap<Key, SharedBusinessException> INSTANCES = new ConcurrentHashMap<>();
+
+    private SharedBusinessException(String errorCode, ErrorType errorType, String message) {
+        super(errorCode, errorType, message, false);
+    }
+
+    /**
+     * Pass constants only - every distinct message is cached for the life of the application
+     *
+     * @return the shared instance for this errorCode, type and message, created on first use
+     */
+    public static SharedBusinessException of(String errorCode, ErrorType errorType, String message) {
+        Key key = new Key(errorCode, errorType, message);
+        SharedBusinessException existing = INSTANCES.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return INSTANCES.computeIfAbsent(key,
+                k -> new SharedBusinessException(k.errorCode(), k.errorType(), k.message()));
+    }
+}
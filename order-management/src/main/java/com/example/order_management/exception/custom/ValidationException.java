@@ -12,7 +12,7 @@ public class ValidationException extends BusinessException {
     public ValidationException(String field, String constraint) {
         super(ErrorCodes.VALIDATION_FAILED, 
               ErrorType.VALIDATION, 
-              String.format(ErrorMessages.VALIDATION_FAILED, field + " " + constraint));
+              formatMessage(ErrorMessages.VALIDATION_FAILED, field + " " + constraint));
     }
     
     public ValidationException(String message) {
@@ -0,0 +1,55 @@
+package com.example.order_management.exception.global;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.custom.BusinessException;
+import com.example.order_management.exception.enums.ErrorType;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+/**
+ * HTTP status of a BusinessException - shared by the servlet and reactive exception handlers
+ *
+ * 🔹 WHY?
+ * Both stacks must return the same status for the same error, so the mapping lives in one place.
+ *
+ * 🔹 ORDER: per-errorCode override first, then the ErrorType default
+ */
+public final class ErrorStatusResolver {
+
+    private static final Map<String, HttpStatus> STATUS_BY_CODE = Map.of(
+            ErrorCodes.ORDER_BACKLOG_FULL, HttpStatus.SERVICE_UNAVAILABLE,
+            ErrorCodes.INVALID_ORDER_STATUS, HttpStatus.CONFLICT,
+            ErrorCodes.ORDER_PENDING, HttpStatus.CONFLICT,
+            ErrorCodes.DATABASE_ERROR, HttpStatus.SERVICE_UNAVAILABLE,
+            ErrorCodes.TOO_MANY_CONCURRENT_REQUESTS, HttpStatus.TOO_MANY_REQUESTS,
+            ErrorCodes.RATE_LIMIT_EXCEEDED, HttpStatus.TOO_MANY_REQUESTS
+    );
+
+    private ErrorStatusResolver() {
+    }
+
+    public static HttpStatus resolve(BusinessException ex) {
+        return resolve(ex.getErrorCode(), ex.getErrorType());
+    }
+
+    /**
+     * For errors reported without an exception reaching a handler, e.g. per-item batch results
+     */
+    public static HttpStatus resolve(String errorCode, ErrorType errorType) {
+        HttpStatus override = STATUS_BY_CODE.get(errorCode);
+        if (override != null) {
+            return override;
+        }
+        switch (errorType) {
+            case BUSINESS:
+                return HttpStatus.NOT_FOUND; // Most business errors are 404
+            case VALIDATION:
+                return HttpStatus.BAD_REQUEST;
+            case SYSTEM:
+                return HttpStatus.INTERNAL_SERVER_ERROR;
+            default:
+                return HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+    }
+}
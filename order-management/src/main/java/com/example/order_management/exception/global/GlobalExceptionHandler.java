@@ -1,19 +1,30 @@
 package com.example.order_management.exception.global;
 
+import com.example.order_management.config.AppProfiles;
 import com.example.order_management.exception.custom.BusinessException;
+import com.example.order_management.exception.custom.RetryableException;
 import com.example.order_management.exception.custom.ValidationException;
 import com.example.order_management.exception.model.ApiError;
 import com.example.order_management.exception.constants.ErrorCodes;
 import com.example.order_management.exception.constants.ErrorMessages;
 import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.logging.DirectErrorLogger;
+import com.example.order_management.exception.logging.ErrorLogger;
+import com.example.order_management.exception.metrics.ErrorMetrics;
 import com.example.order_management.exception.model.AppConstants;
+import com.example.order_management.exception.render.CoarseClock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -35,13 +46,53 @@ import jakarta.servlet.http.HttpServletRequest;
  * 🟢 No hardcoded values
  * 🟢 Clean logs
  * 🟢 Consistent response
+ *
+ * 🔹 RENDERING: with app.error.rendering=template the ApiError timestamp comes from
+ * the shared CoarseClock and the body is written by ApiErrorRenderer (see exception.render)
+ *
+ * 🔹 METRICS: every handled error is counted in ErrorMetrics by errorCode, type, status and
+ * route template, and the time spent building the response goes into its histogram
+ *
+ * 🔹 LOGGING: lines go through ErrorLogger - by default ThrottledErrorLogger, which writes the first
+ * occurrence of each error in full and summarizes repeats, off the request thread
+ *
+ * 🔹 REACTIVE: the "reactive" profile uses ReactiveGlobalExceptionHandler with the same
+ * ApiError bodies and statuses (both resolve statuses through ErrorStatusResolver)
  */
 @RestControllerAdvice
+@Profile(AppProfiles.SERVLET)
 public class GlobalExceptionHandler {
 
     private static final Logger log =
             LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final CoarseClock errorClock;
+    private final ErrorMetrics errorMetrics;
+    private final ErrorLogger errorLogger;
+
+    public GlobalExceptionHandler() {
+        this((CoarseClock) null);
+    }
+
+    @Autowired
+    public GlobalExceptionHandler(ObjectProvider<CoarseClock> errorClock, ObjectProvider<ErrorMetrics> errorMetrics,
+                                  ObjectProvider<ErrorLogger> errorLogger) {
+        this(errorClock.getIfAvailable(), errorMetrics.getIfAvailable(), errorLogger.getIfAvailable());
+    }
+
+    public GlobalExceptionHandler(CoarseClock errorClock) {
+        this(errorClock, null);
+    }
+
+    public GlobalExceptionHandler(CoarseClock errorClock, ErrorMetrics errorMetrics) {
+        this(errorClock, errorMetrics, null);
+    }
+
+    public GlobalExceptionHandler(CoarseClock errorClock, ErrorMetrics errorMetrics, ErrorLogger errorLogger) {
+        this.errorClock = errorClock;
+        this.errorMetrics = errorMetrics;
+        this.errorLogger = errorLogger != null ? errorLogger : new DirectErrorLogger();
+    }
 
     /**
      * Handle all business exceptions
@@ -50,11 +101,13 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiError> handleBusinessException(
             BusinessException ex, 
             HttpServletRequest request) {
+        long started = System.nanoTime();
         
-        log.warn("Business exception occurred: {} - {}", ex.getErrorCode(), ex.getMessage());
+        errorLogger.warn(log, ex.getErrorCode(), ex,
+                "Business exception occurred: {} - {}", ex.getErrorCode(), ex.getMessage());
         
-        HttpStatus status = determineHttpStatus(ex.getErrorType());
-        ApiError apiError = new ApiError(
+        HttpStatus status = ErrorStatusResolver.resolve(ex);
+        ApiError apiError = apiError(
                 status.value(),
                 ex.getErrorCode(),
                 ex.getMessage(),
@@ -62,7 +115,12 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
         
-        return ResponseEntity.status(status).body(apiError);
+        recordError(request, ex.getErrorCode(), ex.getErrorType(), status.value(), started);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (ex instanceof RetryableException retryable) {
+            response.header(HttpHeaders.RETRY_AFTER, Long.toString(retryable.getRetryAfterSeconds()));
+        }
+        return response.body(apiError);
     }
 
     /**
@@ -72,6 +130,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiError> handleValidationException(
             MethodArgumentNotValidException ex,
             HttpServletRequest request) {
+        long started = System.nanoTime();
         
         String errorMessage = ex.getBindingResult()
                 .getFieldErrors()
@@ -80,9 +139,10 @@ public class GlobalExceptionHandler {
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
                 .orElse("Validation failed");
         
-        log.warn("Validation exception occurred: {}", errorMessage);
+        errorLogger.warn(log, ErrorCodes.VALIDATION_FAILED, ex,
+                "Validation exception occurred: {}", errorMessage);
         
-        ApiError apiError = new ApiError(
+        ApiError apiError = apiError(
                 AppConstants.BAD_REQUEST,
                 ErrorCodes.VALIDATION_FAILED,
                 errorMessage,
@@ -90,6 +150,7 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
         
+        recordError(request, ErrorCodes.VALIDATION_FAILED, ErrorType.VALIDATION, AppConstants.BAD_REQUEST, started);
         return ResponseEntity.badRequest().body(apiError);
     }
 
@@ -100,13 +161,14 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiError> handleAllExceptions(
             Exception ex, 
             HttpServletRequest request) {
+        long started = System.nanoTime();
         
-        log.error("Unexpected error occurred at {}: {}", 
+        errorLogger.error(log, ErrorCodes.INTERNAL_SERVER_ERROR, ex,
+                "Unexpected error occurred at {}: {}", 
                 request.getRequestURI(), 
-                ex.getMessage(), 
-                ex);
+                ex.getMessage());
         
-        ApiError apiError = new ApiError(
+        ApiError apiError = apiError(
                 AppConstants.INTERNAL_ERROR,
                 ErrorCodes.INTERNAL_SERVER_ERROR,
                 ErrorMessages.INTERNAL_SERVER_ERROR,
@@ -114,23 +176,26 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
         
+        recordError(request, ErrorCodes.INTERNAL_SERVER_ERROR, ErrorType.SYSTEM, AppConstants.INTERNAL_ERROR, started);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(apiError);
     }
 
+    private void recordError(HttpServletRequest request, String errorCode, ErrorType errorType, int status,
+                             long started) {
+        if (errorMetrics != null) {
+            errorMetrics.record(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                    errorCode, errorType, status, started);
+        }
+    }
+
     /**
-     * Determine HTTP status based on error type
+     * Build the ApiError, taking the timestamp from the coarse clock when template rendering is on
      */
-    private HttpStatus determineHttpStatus(ErrorType errorType) {
-        switch (errorType) {
-            case BUSINESS:
-                return HttpStatus.NOT_FOUND; // Most business errors are 404
-            case VALIDATION:
-                return HttpStatus.BAD_REQUEST;
-            case SYSTEM:
-                return HttpStatus.INTERNAL_SERVER_ERROR;
-            default:
-                return HttpStatus.INTERNAL_SERVER_ERROR;
+    private ApiError apiError(int status, String errorCode, String message, ErrorType errorType, String path) {
+        if (errorClock == null) {
+            return new ApiError(status, errorCode, message, errorType, path);
         }
+        return new ApiError(status, errorCode, message, errorType, path, errorClock.now().time());
     }
 
 }
@@ -0,0 +1,157 @@
+package com.example.order_management.exception.global;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.custom.BusinessException;
+import com.example.order_management.exception.custom.RetryableException;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.logging.DirectErrorLogger;
+import com.example.order_management.exception.logging.ErrorLogger;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.exception.model.AppConstants;
+import com.example.order_management.exception.render.ApiErrorRenderer;
+import com.example.order_management.exception.render.CoarseClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * REACTIVE GLOBAL EXCEPTION HANDLER - same error contract as GlobalExceptionHandler
+ *
+ * 🔹 SAME MAPPING:
+ * - BusinessException          → status from ErrorStatusResolver, exception code/message/type
+ * - WebExchangeBindException   → 400 VALIDATION_FAILED, "field: message" of the first field error
+ *                                (WebFlux counterpart of MethodArgumentNotValidException)
+ * - anything else              → 500 INTERNAL_SERVER_ERROR with the generic message
+ *
+ * 🔹 WHY a WebExceptionHandler and not @RestControllerAdvice?
+ * It runs ahead of Boot's default error handler (order -2), so errors raised outside
+ * controllers (routing, codecs, filters) get an ApiError body too - like the servlet stack.
+ */
+@Component
+@Order(-2)
+@Profile(AppProfiles.REACTIVE)
+public class ReactiveGlobalExceptionHandler implements WebExceptionHandler {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ReactiveGlobalExceptionHandler.class);
+
+    private final ObjectMapper objectMapper;
+    private final ApiErrorRenderer renderer;
+    private final CoarseClock errorClock;
+    private final ErrorLogger errorLogger;
+
+    @Autowired
+    public ReactiveGlobalExceptionHandler(ObjectMapper objectMapper,
+                                          ObjectProvider<ApiErrorRenderer> renderer,
+                                          ObjectProvider<CoarseClock> errorClock,
+                                          ObjectProvider<ErrorLogger> errorLogger) {
+        this(objectMapper, renderer.getIfAvailable(), errorClock.getIfAvailable(), errorLogger.getIfAvailable());
+    }
+
+    public ReactiveGlobalExceptionHandler(ObjectMapper objectMapper, ApiErrorRenderer renderer,
+                                          CoarseClock errorClock) {
+        this(objectMapper, renderer, errorClock, null);
+    }
+
+    public ReactiveGlobalExceptionHandler(ObjectMapper objectMapper, ApiErrorRenderer renderer,
+                                          CoarseClock errorClock, ErrorLogger errorLogger) {
+        this.objectMapper = objectMapper;
+        this.renderer = renderer;
+        this.errorClock = errorClock;
+        // Event-loop threads must not block on appenders - ThrottledErrorLogger writes asynchronously
+        this.errorLogger = errorLogger != null ? errorLogger : new DirectErrorLogger();
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        ApiError apiError = toApiError(ex, exchange.getRequest().getPath().value());
+
+        byte[] body;
+        try {
+            body = serialize(apiError);
+        } catch (IOException serializationError) {
+            return Mono.error(serializationError);
+        }
+        response.setStatusCode(HttpStatus.valueOf(apiError.getStatus()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (ex instanceof RetryableException retryable) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryable.getRetryAfterSeconds()));
+        }
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * Same ApiError GlobalExceptionHandler would build for this exception
+     */
+    ApiError toApiError(Throwable ex, String path) {
+        if (ex instanceof BusinessException businessException) {
+            errorLogger.warn(log, businessException.getErrorCode(), businessException,
+                    "Business exception occurred: {} - {}",
+                    businessException.getErrorCode(), businessException.getMessage());
+
+            HttpStatus status = ErrorStatusResolver.resolve(businessException);
+            return apiError(status.value(), businessException.getErrorCode(), businessException.getMessage(),
+                    businessException.getErrorType(), path);
+        }
+
+        if (ex instanceof WebExchangeBindException bindException) {
+            String errorMessage = bindException.getFieldErrors()
+                    .stream()
+                    .findFirst()
+                    .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                    .orElse("Validation failed");
+
+            errorLogger.warn(log, ErrorCodes.VALIDATION_FAILED, bindException,
+                    "Validation exception occurred: {}", errorMessage);
+
+            return apiError(AppConstants.BAD_REQUEST, ErrorCodes.VALIDATION_FAILED, errorMessage,
+                    ErrorType.VALIDATION, path);
+        }
+
+        errorLogger.error(log, ErrorCodes.INTERNAL_SERVER_ERROR, ex,
+                "Unexpected error occurred at {}: {}", path, ex.getMessage());
+
+        return apiError(AppConstants.INTERNAL_ERROR, ErrorCodes.INTERNAL_SERVER_ERROR,
+                ErrorMessages.INTERNAL_SERVER_ERROR, ErrorType.SYSTEM, path);
+    }
+
+    private byte[] serialize(ApiError apiError) throws IOException {
+        if (renderer == null) {
+            return objectMapper.writeValueAsBytes(apiError);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        renderer.render(apiError, out);
+        return out.toByteArray();
+    }
+
+    private ApiError apiError(int status, String errorCode, String message, ErrorType errorType, String path) {
+        if (errorClock == null) {
+            return new ApiError(status, errorCode, message, errorType, path);
+        }
+        return new ApiError(status, errorCode, message, errorType, path, errorClock.now().time());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.order_management.exception.logging;
+
+import org.slf4j.Logger;
+
+/**
+ * Logs every error on the calling thread - the behaviour before throttling existed
+ */
+public class DirectErrorLogger implements ErrorLogger {
+
+    @Override
+    public void warn(Logger logger, String errorCode, Throwable ex, String format, Object arg1, Object arg2) {
+        logger.warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(Logger logger, String errorCode, Throwable ex, String format, Object arg1, Object arg2) {
+        logger.error(format, arg1, arg2, ex);
+    }
+}
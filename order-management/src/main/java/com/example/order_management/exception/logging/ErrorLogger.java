@@ -0,0 +1,38 @@
+package com.example.order_management.exception.logging;
+
+import org.slf4j.Logger;
+
+/**
+ * Where the exception handlers send their log lines
+ *
+ * DirectErrorLogger        → every line, synchronously (app.error-log.throttle.enabled=false)
+ * ThrottledErrorLogger     → deduplicated, budgeted and written by a background thread
+ *
+ * Messages use SLF4J "{}" placeholders and are only formatted if the line is actually written.
+ */
+public interface ErrorLogger {
+
+    /**
+     * Expected error (business / validation) - one WARN line, no stack trace
+     */
+    void warn(Logger logger, String errorCode, Throwable ex, String format, Object arg1, Object arg2);
+
+    /**
+     * Expected error, one-placeholder message
+     */
+    default void warn(Logger logger, String errorCode, Throwable ex, String format, Object arg) {
+        warn(logger, errorCode, ex, format, arg, null);
+    }
+
+    /**
+     * Unexpected exception - ERROR with the stack trace
+     */
+    void error(Logger logger, String errorCode, Throwable ex, String format, Object arg1, Object arg2);
+
+    /**
+     * Unexpected exception, one-placeholder message
+     */
+    default void error(Logger logger, String errorCode, Throwable ex, String format, Object arg) {
+        error(logger, errorCode, ex, format, arg, null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.order_management.exception.logging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Error logging for GlobalExceptionHandler / ReactiveGlobalExceptionHandler
+ *
+ * app.error-log.throttle.enabled=true     → ThrottledErrorLogger (default)
+ * app.error-log.throttle.enabled=false    → DirectErrorLogger
+ * app.error-log.throttle.budget=5         lines per fingerprint per window (the first one in full)
+ * app.error-log.throttle.window=1m        summary interval - suppressed counts are logged once per window
+ * app.error-log.throttle.top-frames=5     stack frames in the fingerprint (with exception class and errorCode)
+ * app.error-log.throttle.queue-capacity=10000  lines waiting for the writer thread; beyond that they are dropped
+ */
+@Configuration
+public class ErrorLoggingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.error-log.throttle.enabled", havingValue = "true", matchIfMissing = true)
+    public ThrottledErrorLogger throttledErrorLogger(
+            @Value("${app.error-log.throttle.budget:5}") int budget,
+            @Value("${app.error-log.throttle.window:1m}") Duration window,
+            @Value("${app.error-log.throttle.top-frames:5}") int topFrames,
+            @Value("${app.error-log.throttle.queue-capacity:10000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        return new ThrottledErrorLogger(budget, window, topFrames, queueCapacity, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.error-log.throttle.enabled", havingValue = "false")
+    public ErrorLogger directErrorLogger() {
+        return new DirectErrorLogger();
+    }
+}
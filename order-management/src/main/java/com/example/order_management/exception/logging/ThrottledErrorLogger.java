@@ -0,0 +1,267 @@
+package com.example.order_management.exception.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Deduplicating, rate-limited, asynchronous error logging
+ *
+ * 🔹 WHY?
+ * In an error storm every 404 is a WARN line and every unexpected exception a full stack trace.
+ * Logging alone then saturates disk I/O and the appender lock that request threads wait on.
+ *
+ * 🔹 HOW?
+ * - FINGERPRINT: exception class + errorCode + the top N stack frames
+ * - BUDGET: per fingerprint and window, the first line is logged in full (with its stack trace),
+ *   the next budget-1 without it, the rest are only counted
+ * - SUMMARY: once per window, one line per fingerprint with its suppressed count; fingerprints
+ *   without events for a whole window are forgotten (their next occurrence is logged in full again)
+ * - ASYNC: request threads only update counters and offer to a bounded queue - they never wait
+ *   for an appender. A full queue drops the line (counted, reported in the summary)
+ *
+ * Metrics: errors.log.suppressed, errors.log.dropped
+ */
+public class ThrottledErrorLogger implements ErrorLogger, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ThrottledErrorLogger.class);
+
+    static final int MAX_FINGERPRINTS = 10_000;
+    private static final Fingerprint OVERFLOW = new Fingerprint(Throwable.class, "OVERFLOW", 0);
+
+    private final int budget;
+    private final Duration window;
+    private final int topFrames;
+    private final BlockingQueue<LogLine> queue;
+    private final ConcurrentMap<Fingerprint, Occurrences> occurrences = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final Counter suppressedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread writer;
+
+    public ThrottledErrorLogger(int budget, Duration window, int topFrames, int queueCapacity,
+                                MeterRegistry meterRegistry) {
+        this.budget = budget;
+        this.window = window;
+        this.topFrames = topFrames;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.suppressedCounter = Counter.builder("errors.log.suppressed")
+                .description("Error log lines over their fingerprint's budget, summarized instead of written")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("errors.log.dropped")
+                .description("Error log lines dropped because the writer queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void warn(Logger logger, String errorCode, Throwable ex, String format, Object arg1, Object arg2) {
+        submit(logger, false, errorCode, ex, format, arg1, arg2);
+    }
+
+    @Override
+    public void error(Logger logger, String errorCode, Throwable ex, String format, Object arg1, Object arg2) {
+        submit(logger, true, errorCode, ex, format, arg1, arg2);
+    }
+
+    private void submit(Logger logger, boolean error, String errorCode, Throwable ex,
+                        String format, Object arg1, Object arg2) {
+        if (stopped) {
+            // Shutting down - nobody is left to drain the queue
+            write(new LogLine(logger, error, format, arg1, arg2, ex, true));
+            return;
+        }
+        Occurrences seen = occurrences(logger, error, errorCode, ex);
+        int inWindow = seen.inWindow.incrementAndGet();
+        seen.total.increment();
+        if (inWindow > budget) {
+            seen.suppressed.increment();
+            suppressedCounter.increment();
+            return;
+        }
+        boolean full = seen.loggedInFull.compareAndSet(false, true);
+        if (!queue.offer(new LogLine(logger, error, format, arg1, arg2, ex, full))) {
+            dropped.increment();
+            droppedCounter.increment();
+        }
+    }
+
+    private Occurrences occurrences(Logger logger, boolean error, String errorCode, Throwable ex) {
+        Fingerprint fingerprint = fingerprint(errorCode, ex);
+        Occurrences seen = occurrences.get(fingerprint);
+        if (seen != null) {
+            return seen;
+        }
+        if (occurrences.size() >= MAX_FINGERPRINTS) {
+            return occurrences.computeIfAbsent(OVERFLOW, key -> new Occurrences(log, true, "other errors"));
+        }
+        return occurrences.computeIfAbsent(fingerprint,
+                key -> new Occurrences(logger, error, describe(errorCode, ex)));
+    }
+
+    private Fingerprint fingerprint(String errorCode, Throwable ex) {
+        int framesHash = 0;
+        StackTraceElement[] frames = ex.getStackTrace();
+        for (int i = 0; i < Math.min(topFrames, frames.length); i++) {
+            framesHash = 31 * framesHash + frames[i].hashCode();
+        }
+        return new Fingerprint(ex.getClass(), errorCode, framesHash);
+    }
+
+    private static String describe(String errorCode, Throwable ex) {
+        StackTraceElement[] frames = ex.getStackTrace();
+        String description = ex.getClass().getSimpleName() + " [" + errorCode + "]";
+        return frames.length == 0 ? description : description + " at " + frames[0];
+    }
+
+    // ---------------------------------------------------------------- writer thread
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeLoop, "error-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopped = true;
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Before the web server starts, after it stops
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void writeLoop() {
+        long windowNanos = window.toNanos();
+        long nextSummary = System.nanoTime() + windowNanos;
+        try {
+            while (running) {
+                LogLine line = queue.poll(Math.max(0, nextSummary - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (line != null) {
+                    write(line);
+                }
+                if (System.nanoTime() - nextSummary >= 0) {
+                    summarize();
+                    nextSummary = System.nanoTime() + windowNanos;
+                }
+            }
+        } catch (InterruptedException ex) {
+            // stop()
+        }
+        drain();
+        summarize();
+    }
+
+    /**
+     * Write every queued line
+     *
+     * @return number of lines written
+     */
+    int drain() {
+        int written = 0;
+        LogLine line;
+        while ((line = queue.poll()) != null) {
+            write(line);
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Log suppressed counts, start a new window and forget idle fingerprints
+     */
+    void summarize() {
+        Iterator<Map.Entry<Fingerprint, Occurrences>> entries = occurrences.entrySet().iterator();
+        while (entries.hasNext()) {
+            Occurrences seen = entries.next().getValue();
+            long suppressed = seen.suppressed.sumThenReset();
+            if (seen.inWindow.getAndSet(0) == 0) {
+                entries.remove();
+                continue;
+            }
+            if (suppressed > 0) {
+                String format = "Suppressed {} more occurrences in the last {} of {} ({} since first logged)";
+                if (seen.error) {
+                    seen.logger.error(format, suppressed, window, seen.description, seen.total.sum());
+                } else {
+                    seen.logger.warn(format, suppressed, window, seen.description, seen.total.sum());
+                }
+            }
+        }
+        long lost = dropped.sumThenReset();
+        if (lost > 0) {
+            log.warn("Dropped {} error log lines in the last {}: writer queue full", lost, window);
+        }
+    }
+
+    private static void write(LogLine line) {
+        if (line.error) {
+            if (line.full) {
+                line.logger.error(line.format, line.arg1, line.arg2, line.ex);
+            } else {
+                line.logger.error(line.format + " (repeat, stack trace omitted)", line.arg1, line.arg2);
+            }
+        } else {
+            line.logger.warn(line.format, line.arg1, line.arg2);
+        }
+    }
+
+    private record Fingerprint(Class<?> type, String errorCode, int framesHash) {
+    }
+
+    private record LogLine(Logger logger, boolean error, String format, Object arg1, Object arg2,
+                           Throwable ex, boolean full) {
+    }
+
+    private static final class Occurrences {
+        final Logger logger;
+        final boolean error;
+        final String description;
+        final AtomicInteger inWindow = new AtomicInteger();
+        final AtomicBoolean loggedInFull = new AtomicBoolean();
+        final LongAdder suppressed = new LongAdder();
+        final LongAdder total = new LongAdder();
+
+        Occurrences(Logger logger, boolean error, String description) {
+            this.logger = logger;
+            this.error = error;
+            this.description = description;
+        }
+    }
+}
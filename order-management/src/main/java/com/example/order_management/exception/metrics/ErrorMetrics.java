@@ -0,0 +1,105 @@
+package com.example.order_management.exception.metrics;
+
+import com.example.order_management.exception.enums.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error counters and error handling latency, recorded by GlobalExceptionHandler
+ *
+ * 🔹 WHY?
+ * "How many ORDER_NOT_FOUND per second on which route?" should be a query, not a log grep.
+ *
+ * 🔹 METERS:
+ * - http.server.errors: counter tagged errorCode, errorType, status and route
+ * - http.server.errors.render: timer (percentile histogram) per errorType, from handler entry
+ *   until the ResponseEntity&lt;ApiError&gt; is built
+ *
+ * 🔹 CARDINALITY: route is the matched handler pattern (/api/orders/{id}), never the raw URI;
+ * requests without a matched handler are "UNKNOWN", and routes beyond MAX_ROUTES become "OTHER".
+ *
+ * 🔹 HOT PATH: counters are cached per route and errorCode, so recording an error is two map
+ * lookups, an increment and a timer update - no Meter.Id, tag list or lambda allocated per event.
+ */
+@Component
+public class ErrorMetrics {
+
+    static final String COUNTER_NAME = "http.server.errors";
+    static final String TIMER_NAME = "http.server.errors.render";
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+    static final String OTHER_ROUTE = "OTHER";
+    static final int MAX_ROUTES = 256;
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, ConcurrentMap<String, ErrorCounter>> countersByRoute =
+            new ConcurrentHashMap<>();
+    private final Map<ErrorType, Timer> renderTimers = new EnumMap<>(ErrorType.class);
+
+    public ErrorMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (ErrorType errorType : ErrorType.values()) {
+            renderTimers.put(errorType, Timer.builder(TIMER_NAME)
+                    .description("Time to turn an exception into an ApiError response")
+                    .tag("errorType", errorType.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * @param route       matched handler pattern (HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), may be null
+     * @param startedNanos System.nanoTime() when the handler was entered
+     */
+    public void record(Object route, String errorCode, ErrorType errorType, int status, long startedNanos) {
+        renderTimers.get(errorType).record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        counter(routeTag(route), errorCode, errorType, status).increment();
+    }
+
+    private String routeTag(Object route) {
+        if (!(route instanceof String pattern)) {
+            return UNKNOWN_ROUTE;
+        }
+        if (countersByRoute.size() >= MAX_ROUTES && !countersByRoute.containsKey(pattern)) {
+            return OTHER_ROUTE;
+        }
+        return pattern;
+    }
+
+    private Counter counter(String route, String errorCode, ErrorType errorType, int status) {
+        ConcurrentMap<String, ErrorCounter> byCode = countersByRoute.get(route);
+        if (byCode == null) {
+            byCode = countersByRoute.computeIfAbsent(route, key -> new ConcurrentHashMap<>());
+        }
+        ErrorCounter cached = byCode.get(errorCode);
+        if (cached == null) {
+            cached = byCode.computeIfAbsent(errorCode,
+                    code -> new ErrorCounter(errorType, status, register(route, code, errorType, status)));
+        }
+        if (cached.errorType() == errorType && cached.status() == status) {
+            return cached.counter();
+        }
+        // Same code with another type/status - rare, resolved through the registry
+        return register(route, errorCode, errorType, status);
+    }
+
+    private Counter register(String route, String errorCode, ErrorType errorType, int status) {
+        return Counter.builder(COUNTER_NAME)
+                .description("Error responses by errorCode, errorType, HTTP status and route")
+                .tag("errorCode", errorCode)
+                .tag("errorType", errorType.name())
+                .tag("status", Integer.toString(status))
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+
+    private record ErrorCounter(ErrorType errorType, int status, Counter counter) {
+    }
+}
@@ -32,6 +32,16 @@ public class ApiError {
         this.path = path;
     }
 
+    public ApiError(int status, String errorCode, String message, ErrorType errorType, String path,
+                    LocalDateTime timestamp) {
+        this.status = status;
+        this.errorCode = errorCode;
+        this.message = message;
+        this.errorType = errorType;
+        this.path = path;
+        this.timestamp = timestamp;
+    }
+
     // Getters
     public int getStatus() {
         return status;
@@ -0,0 +1,55 @@
+package com.example.order_management.exception.policy;
+
+import com.example.order_management.exception.enums.ErrorType;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decides whether a BusinessException captures a stack trace
+ * 🔹 WHY? Expected business errors (404, 400) never need a stack trace,
+ * and fillInStackTrace is the most expensive part of throwing them
+ *
+ * Exceptions are created with "new" outside of Spring, so the policy is a
+ * static holder that is configured once at startup (see StackTracePolicyConfigurer).
+ * By default every exception keeps its stack trace.
+ */
+public final class StackTracePolicy {
+
+    private static volatile Set<ErrorType> stacklessTypes = EnumSet.noneOf(ErrorType.class);
+    private static volatile Set<String> stacklessCodes = Set.of();
+
+    /**
+     * @return true if an exception with this code/type should capture its stack trace
+     */
+    public static boolean isWritableStackTrace(String errorCode, ErrorType errorType) {
+        if (errorType != null && stacklessTypes.contains(errorType)) {
+            return false;
+        }
+        return errorCode == null || !stacklessCodes.contains(errorCode);
+    }
+
+    /**
+     * Replace the current policy. Error types and error codes are OR-ed:
+     * an exception is stackless if either its type or its code is listed.
+     */
+    public static void configure(Collection<ErrorType> types, Collection<String> codes) {
+        stacklessTypes = types == null || types.isEmpty()
+                ? EnumSet.noneOf(ErrorType.class)
+                : EnumSet.copyOf(types);
+        stacklessCodes = codes == null ? Set.of() : Set.copyOf(codes);
+    }
+
+    /**
+     * Restore the default policy (every exception keeps its stack trace)
+     */
+    public static void reset() {
+        configure(null, null);
+    }
+
+    // Private constructor to prevent instantiation
+    private StackTracePolicy() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+}
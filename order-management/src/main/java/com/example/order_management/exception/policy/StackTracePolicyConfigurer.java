@@ -0,0 +1,29 @@
+package com.example.order_management.exception.policy;
+
+import com.example.order_management.exception.enums.ErrorType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Applies the stackless exception policy from application.properties
+ *
+ * app.exception.stackless-error-types=BUSINESS,VALIDATION
+ * app.exception.stackless-error-codes=ORDER_NOT_FOUND
+ */
+@Component
+public class StackTracePolicyConfigurer {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(StackTracePolicyConfigurer.class);
+
+    public StackTracePolicyConfigurer(
+            @Value("${app.exception.stackless-error-types:}") List<ErrorType> stacklessTypes,
+            @Value("${app.exception.stackless-error-codes:}") List<String> stacklessCodes) {
+        StackTracePolicy.configure(stacklessTypes, stacklessCodes);
+        log.info("Stackless exceptions enabled for types={} codes={}", stacklessTypes, stacklessCodes);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.order_management.exception.render;
+
+import com.example.order_management.exception.model.ApiError;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes ApiError responses through ApiErrorRenderer instead of Jackson databind
+ */
+public class ApiErrorHttpMessageConverter extends AbstractHttpMessageConverter<ApiError> {
+
+    private final ApiErrorRenderer renderer;
+
+    public ApiErrorHttpMessageConverter(ApiErrorRenderer renderer) {
+        super(MediaType.APPLICATION_JSON);
+        this.renderer = renderer;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiError.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiError readInternal(Class<? extends ApiError> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiError is a response-only type", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ApiError apiError, HttpOutputMessage outputMessage) throws IOException {
+        renderer.render(apiError, outputMessage.getBody());
+    }
+}
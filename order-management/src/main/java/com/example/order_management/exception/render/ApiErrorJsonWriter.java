@@ -0,0 +1,115 @@
+package com.example.order_management.exception.render;
+
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.model.ApiError;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes ApiError on the streaming Jackson API
+ *
+ * 🔹 WHY? Same output as databind (field order, NON_NULL, ISO_LOCAL_DATE_TIME timestamp)
+ * without the bean serializer and the JavaTimeModule lookup per error. Field names and
+ * ErrorType names are pre-encoded, and the timestamp is formatted into a char buffer
+ * instead of through DateTimeFormatter.
+ *
+ * Unlike ApiErrorRenderer nothing is cached per error code, so it works for every ApiError.
+ */
+public final class ApiErrorJsonWriter {
+
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString ERROR_CODE = new SerializedString("errorCode");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString ERROR_TYPE = new SerializedString("errorType");
+    private static final SerializableString PATH = new SerializedString("path");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+
+    // Indexed by ordinal
+    private static final SerializableString[] ERROR_TYPE_NAMES = errorTypeNames();
+
+    private ApiErrorJsonWriter() {
+    }
+
+    public static void write(JsonGenerator generator, ApiError apiError) throws IOException {
+        generator.writeStartObject(apiError);
+        generator.writeFieldName(STATUS);
+        generator.writeNumber(apiError.getStatus());
+        if (apiError.getErrorCode() != null) {
+            generator.writeFieldName(ERROR_CODE);
+            generator.writeString(apiError.getErrorCode());
+        }
+        if (apiError.getMessage() != null) {
+            generator.writeFieldName(MESSAGE);
+            generator.writeString(apiError.getMessage());
+        }
+        if (apiError.getErrorType() != null) {
+            generator.writeFieldName(ERROR_TYPE);
+            generator.writeString(ERROR_TYPE_NAMES[apiError.getErrorType().ordinal()]);
+        }
+        if (apiError.getPath() != null) {
+            generator.writeFieldName(PATH);
+            generator.writeString(apiError.getPath());
+        }
+        if (apiError.getTimestamp() != null) {
+            generator.writeFieldName(TIMESTAMP);
+            writeTimestamp(generator, apiError.getTimestamp());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * DateTimeFormatter.ISO_LOCAL_DATE_TIME: seconds always, fraction without trailing zeros
+     */
+    private static void writeTimestamp(JsonGenerator generator, LocalDateTime time) throws IOException {
+        int year = time.getYear();
+        if (year < 0 || year > 9999) {
+            // Signed / more than 4 digits
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time));
+            return;
+        }
+        char[] chars = new char[29];
+        digits(chars, 0, year, 4);
+        chars[4] = '-';
+        digits(chars, 5, time.getMonthValue(), 2);
+        chars[7] = '-';
+        digits(chars, 8, time.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        digits(chars, 11, time.getHour(), 2);
+        chars[13] = ':';
+        digits(chars, 14, time.getMinute(), 2);
+        chars[16] = ':';
+        digits(chars, 17, time.getSecond(), 2);
+        int length = 19;
+        int nano = time.getNano();
+        if (nano != 0) {
+            chars[19] = '.';
+            digits(chars, 20, nano, 9);
+            length = 29;
+            while (chars[length - 1] == '0') {
+                length--;
+            }
+        }
+        generator.writeString(chars, 0, length);
+    }
+
+    private static void digits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static SerializableString[] errorTypeNames() {
+        ErrorType[] types = ErrorType.values();
+        SerializableString[] names = new SerializableString[types.length];
+        for (ErrorType type : types) {
+            names[type.ordinal()] = new SerializedString(type.name());
+        }
+        return names;
+    }
+}
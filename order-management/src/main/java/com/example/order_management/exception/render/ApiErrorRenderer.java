@@ -0,0 +1,134 @@
+package com.example.order_management.exception.render;
+
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.model.ApiError;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Renders ApiError from pre-encoded JSON templates
+ *
+ * 🔹 WHY? status, errorCode and errorType are constant per error code (and so is the
+ * message for most codes) - they are encoded once, and per request only the message,
+ * path and timestamp are spliced in, straight into the response stream.
+ *
+ * 🔹 OUTPUT: byte-for-byte the same JSON Jackson produces for ApiError
+ * (same field order, NON_NULL, ISO_LOCAL_DATE_TIME timestamp, Jackson string escaping).
+ * ApiErrors without an errorCode or errorType fall back to the ObjectMapper.
+ */
+public class ApiErrorRenderer {
+
+    private static final byte[] MESSAGE = bytes(",\"message\":");
+    private static final byte[] PATH = bytes(",\"path\":");
+    private static final byte[] TIMESTAMP = bytes(",\"timestamp\":");
+    private static final byte END = '}';
+
+    private final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<>();
+    private final CoarseClock clock;
+    private final ObjectMapper fallback;
+
+    public ApiErrorRenderer(CoarseClock clock, ObjectMapper fallback) {
+        this.clock = clock;
+        this.fallback = fallback;
+    }
+
+    public void render(ApiError apiError, OutputStream out) throws IOException {
+        if (apiError.getErrorCode() == null || apiError.getErrorType() == null) {
+            fallback.writeValue(out, apiError);
+            return;
+        }
+        Template template = template(apiError.getStatus(), apiError.getErrorCode(), apiError.getErrorType());
+
+        out.write(template.head);
+        if (apiError.getMessage() != null) {
+            out.write(MESSAGE);
+            out.write(template.message(apiError.getMessage()));
+        }
+        out.write(template.errorType);
+        if (apiError.getPath() != null) {
+            out.write(PATH);
+            out.write(quote(apiError.getPath()));
+        }
+        if (apiError.getTimestamp() != null) {
+            out.write(TIMESTAMP);
+            CoarseClock.Tick tick = clock.now();
+            out.write(tick.time() == apiError.getTimestamp()
+                    ? tick.json()
+                    : CoarseClock.encode(apiError.getTimestamp()));
+        }
+        out.write(END);
+    }
+
+    private Template template(int status, String errorCode, ErrorType errorType) {
+        Template template = templates.get(errorCode);
+        if (template != null && template.matches(status, errorType)) {
+            return template;
+        }
+        // Same code rendered with another status/type: cache it under a composite key
+        String key = errorCode + '|' + status + '|' + errorType;
+        return templates.computeIfAbsent(template == null ? errorCode : key,
+                code -> new Template(status, errorCode, errorType));
+    }
+
+    private static byte[] quote(String value) {
+        byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+        byte[] quoted = new byte[escaped.length + 2];
+        quoted[0] = '"';
+        System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+        quoted[quoted.length - 1] = '"';
+        return quoted;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Pre-encoded fragments for one (status, errorCode, errorType)
+     */
+    private static final class Template {
+        private final int status;
+        private final ErrorType type;
+        private final byte[] head;
+        private final byte[] errorType;
+        // Last message seen for this code - constant messages are encoded only once
+        private volatile EncodedMessage lastMessage;
+
+        private Template(int status, String errorCode, ErrorType type) {
+            this.status = status;
+            this.type = type;
+            this.head = concat(bytes("{\"status\":" + status + ",\"errorCode\":"), quote(errorCode));
+            this.errorType = concat(bytes(",\"errorType\":"), quote(type.name()));
+        }
+
+        private boolean matches(int status, ErrorType type) {
+            return this.status == status && this.type == type;
+        }
+
+        private byte[] message(String message) {
+            EncodedMessage encoded = lastMessage;
+            if (encoded != null && encoded.message.equals(message)) {
+                return encoded.json;
+            }
+            encoded = new EncodedMessage(message, quote(message));
+            lastMessage = encoded;
+            return encoded.json;
+        }
+
+        private static byte[] concat(byte[] first, byte[] second) {
+            byte[] result = new byte[first.length + second.length];
+            System.arraycopy(first, 0, result, 0, first.length);
+            System.arraycopy(second, 0, result, first.length, second.length);
+            return result;
+        }
+    }
+
+    private record EncodedMessage(String message, byte[] json) {
+    }
+}
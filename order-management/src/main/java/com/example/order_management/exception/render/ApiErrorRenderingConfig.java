@@ -0,0 +1,43 @@
+package com.example.order_management.exception.render;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Opt-in template rendering of ApiError responses
+ *
+ * app.error.rendering=template   → pre-encoded templates + coarse clock
+ * app.error.rendering=jackson    → default Jackson databind (no beans from this class)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.error.rendering", havingValue = "template")
+public class ApiErrorRenderingConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public ApiErrorRenderingConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public CoarseClock errorClock() {
+        return new CoarseClock();
+    }
+
+    @Bean
+    public ApiErrorRenderer apiErrorRenderer(CoarseClock errorClock) {
+        return new ApiErrorRenderer(errorClock, objectMapper);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Ahead of Jackson so ApiError bodies never reach databind
+        converters.add(0, new ApiErrorHttpMessageConverter(apiErrorRenderer(errorClock())));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.order_management.exception.render;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Millisecond-resolution clock with a cached, pre-encoded timestamp
+ * 🔹 WHY? Thousands of errors per second share the same millisecond -
+ * LocalDateTime and its JSON encoding are built once per tick, not once per error
+ */
+public class CoarseClock {
+
+    private final ZoneId zone;
+    private volatile Tick current;
+
+    public CoarseClock() {
+        this(ZoneId.systemDefault());
+    }
+
+    public CoarseClock(ZoneId zone) {
+        this.zone = zone;
+        this.current = tick(System.currentTimeMillis());
+    }
+
+    /**
+     * @return the tick for the current millisecond
+     */
+    public Tick now() {
+        long millis = System.currentTimeMillis();
+        Tick tick = current;
+        if (tick.millis != millis) {
+            tick = tick(millis);
+            current = tick;
+        }
+        return tick;
+    }
+
+    private Tick tick(long millis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+        return new Tick(millis, time, encode(time));
+    }
+
+    /**
+     * Same format Jackson uses for LocalDateTime (ISO_LOCAL_DATE_TIME), as a quoted JSON string
+     */
+    static byte[] encode(LocalDateTime time) {
+        return ('"' + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time) + '"').getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * One clock tick: the time and its pre-encoded JSON value
+     */
+    public static final class Tick {
+        private final long millis;
+        private final LocalDateTime time;
+        private final byte[] json;
+
+        private Tick(long millis, LocalDateTime time, byte[] json) {
+            this.millis = millis;
+            this.time = time;
+            this.json = json;
+        }
+
+        public LocalDateTime time() {
+            return time;
+        }
+
+        byte[] json() {
+            return json;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.order_management.mapper;
+
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.custom.ValidationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor ↔ (last id, status filter)
+ * 🔹 WHY opaque? Clients must not build or edit cursors - the format can change freely.
+ * The status filter is part of the cursor, so a cursor cannot be replayed with another filter.
+ */
+@Component
+public class OrderCursorMapper {
+
+    private static final String VERSION = "v1";
+    private static final String ALL = "*";
+
+    public String encode(Long lastId, OrderStatus status) {
+        String raw = VERSION + ":" + (status == null ? ALL : status.name()) + ":" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the id to seek after, or null when there is no cursor (first page)
+     */
+    public Long decode(String cursor, OrderStatus status) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            String expectedStatus = status == null ? ALL : status.name();
+            if (parts.length != 3 || !VERSION.equals(parts[0]) || !expectedStatus.equals(parts[1])) {
+                throw invalidCursor();
+            }
+            return Long.parseLong(parts[2]);
+        } catch (IllegalArgumentException ex) {
+            // Base64 and number format errors
+            throw invalidCursor();
+        }
+    }
+
+    private ValidationException invalidCursor() {
+        return new ValidationException("after", "is not a valid cursor for this query");
+    }
+}
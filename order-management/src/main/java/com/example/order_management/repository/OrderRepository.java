@@ -1,10 +1,105 @@
 package com.example.order_management.repository;
 
 import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * JPA (MySQL) implementation of OrderStore - Spring Data derives the keyset finders and runs the @Query methods
+ */
 @Repository
-public interface OrderRepository extends JpaRepository<Order , Long> {
+public interface OrderRepository extends JpaRepository<Order , Long>, OrderStore {
+
+    /**
+     * All order ids, streamed - must be consumed inside a transaction and closed
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select o.id from Order o")
+    @Override
+    Stream<Long> streamAllIds();
+
+    /**
+     * Keyset page: seeks on the primary key, cost independent of page depth
+     */
+    @Override
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Keyset page filtered by status, served by idx_orders_status_id
+     */
+    @Override
+    List<Order> findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus status, Long afterId, Limit limit);
+
+    /**
+     * Order count and price total per status - a full GROUP BY, used to seed and reconcile OrderStatistics
+     */
+    @Query("select new com.example.order_management.repository.OrderStatusTotals("
+            + "o.status, count(o), coalesce(sum(o.price), 0.0)) from Order o group by o.status")
+    @Override
+    List<OrderStatusTotals> sumByStatus();
+
+    /**
+     * Compare-and-set status change: one UPDATE, no row read and no lock held across statements
+     *
+     * @return 1 if the order was in {@code expected}, 0 if it is missing or was changed concurrently
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :next where o.id = :id and o.status = :expected")
+    @Override
+    int updateStatus(@Param("id") Long id, @Param("expected") OrderStatus expected, @Param("next") OrderStatus next);
+
+    /**
+     * The given ids that exist - answered from the primary key index
+     */
+    @Query("select o.id from Order o where o.id in :ids")
+    @Override
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Single-statement delete - no SELECT, nothing loaded into the persistence context
+     *
+     * @return 1 if the order existed, 0 otherwise
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Order o where o.id = :id")
+    @Override
+    int deleteOrderById(@Param("id") Long id);
+
+    /**
+     * Compare-and-set delete: the row goes only if it is still in the status the caller counted it under
+     *
+     * @return 1 if the order was in {@code expected}, 0 if it is missing or was changed concurrently
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Order o where o.id = :id and o.status = :expected")
+    @Override
+    int deleteOrderByIdAndStatus(@Param("id") Long id, @Param("expected") OrderStatus expected);
 
+    /**
+     * One DELETE ... WHERE id IN (...) for a whole chunk
+     *
+     * @return number of orders deleted
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Order o where o.id in :ids")
+    @Override
+    int deleteOrdersByIds(@Param("ids") Collection<Long> ids);
 }
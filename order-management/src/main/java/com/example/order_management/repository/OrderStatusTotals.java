@@ -0,0 +1,9 @@
+package com.example.order_management.repository;
+
+import com.example.order_management.enums.OrderStatus;
+
+/**
+ * One row of the per-status aggregate (count and price total of the orders in a status)
+ */
+public record OrderStatusTotals(OrderStatus status, Long count, Double priceTotal) {
+}
@@ -0,0 +1,80 @@
+package com.example.order_management.repository;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import org.springframework.data.domain.Limit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The order storage operations the services use - implemented by OrderRepository (JPA) and
+ * FileOrderRepository (embedded store)
+ *
+ * 🔹 WHY NOT JpaRepository?
+ * The services never query by example, sort or page through Pageable. Keeping the contract to what
+ * they call lets the embedded store implement all of it instead of stubbing the rest with
+ * UnsupportedOperationException.
+ */
+public interface OrderStore {
+
+    Optional<Order> findById(Long id);
+
+    /**
+     * Assigns the id when the order has none
+     */
+    <S extends Order> S save(S order);
+
+    <S extends Order> List<S> saveAll(Iterable<S> orders);
+
+    /**
+     * All order ids, streamed - close the stream when done
+     */
+    Stream<Long> streamAllIds();
+
+    /**
+     * Keyset page: orders with an id above afterId, ascending
+     */
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Keyset page filtered by status
+     */
+    List<Order> findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus status, Long afterId, Limit limit);
+
+    /**
+     * Order count and price total per status
+     */
+    List<OrderStatusTotals> sumByStatus();
+
+    /**
+     * Compare-and-set status change
+     *
+     * @return 1 if the order was in {@code expected}, 0 if it is missing or was changed concurrently
+     */
+    int updateStatus(Long id, OrderStatus expected, OrderStatus next);
+
+    /**
+     * The given ids that exist
+     */
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * @return 1 if the order existed, 0 otherwise
+     */
+    int deleteOrderById(Long id);
+
+    /**
+     * Compare-and-set delete
+     *
+     * @return 1 if the order was in {@code expected}, 0 if it is missing or was changed concurrently
+     */
+    int deleteOrderByIdAndStatus(Long id, OrderStatus expected);
+
+    /**
+     * @return number of orders deleted
+     */
+    int deleteOrdersByIds(Collection<Long> ids);
+}
@@ -0,0 +1,54 @@
+package com.example.order_management.repository.breaker;
+
+import com.example.order_management.config.AppProfiles;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Database circuit breaker around OrderStore (JPA and embedded store) and the JPA transaction manager
+ *
+ * app.db.circuit-breaker.enabled=true                 → DatabaseCircuitBreaker (default)
+ * app.db.circuit-breaker.enabled=false                → repository calls are not guarded
+ * app.db.circuit-breaker.window-size=100              last N calls the rates are computed over
+ * app.db.circuit-breaker.minimum-calls=20             calls recorded before the circuit may open
+ * app.db.circuit-breaker.failure-rate-threshold=50    percent of failed calls that opens the circuit
+ * app.db.circuit-breaker.slow-call-duration=2s        calls at least this long count as slow
+ * app.db.circuit-breaker.slow-call-rate-threshold=80  percent of slow calls that opens the circuit
+ * app.db.circuit-breaker.wait-duration-open=10s       time OPEN rejects calls before probing
+ * app.db.circuit-breaker.half-open-calls=5            probe calls let through in HALF_OPEN
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+@ConditionalOnProperty(name = "app.db.circuit-breaker.enabled", havingValue = "true", matchIfMissing = true)
+public class CircuitBreakerConfig {
+
+    @Bean
+    public DatabaseCircuitBreaker databaseCircuitBreaker(
+            @Value("${app.db.circuit-breaker.window-size:100}") int windowSize,
+            @Value("${app.db.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${app.db.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.db.circuit-breaker.slow-call-duration:2s}") Duration slowCallDuration,
+            @Value("${app.db.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${app.db.circuit-breaker.wait-duration-open:10s}") Duration waitDurationOpen,
+            @Value("${app.db.circuit-breaker.half-open-calls:5}") int halfOpenCalls,
+            MeterRegistry meterRegistry) {
+        return new DatabaseCircuitBreaker(windowSize, minimumCalls, failureRateThreshold, slowCallDuration,
+                slowCallRateThreshold, waitDurationOpen, halfOpenCalls, meterRegistry);
+    }
+
+    /**
+     * Static: a BeanPostProcessor must not force its @Configuration (and the breaker) to be created early
+     */
+    @Bean
+    public static CircuitBreakerPostProcessor circuitBreakerPostProcessor(
+            ObjectProvider<DatabaseCircuitBreaker> databaseCircuitBreaker) {
+        return new CircuitBreakerPostProcessor(databaseCircuitBreaker);
+    }
+}
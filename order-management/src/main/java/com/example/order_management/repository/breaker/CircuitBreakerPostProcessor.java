@@ -0,0 +1,160 @@
+package com.example.order_management.repository.breaker;
+
+import com.example.order_management.repository.OrderStore;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.ResourceTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Puts DatabaseCircuitBreaker in front of every OrderStore and resource transaction manager bean
+ *
+ * 🔹 WHY BOTH?
+ * Service-level @Transactional methods and TransactionTemplates (batch create/delete, the export,
+ * group commit, the write-behind flush, id filter seeding) borrow a connection in getTransaction,
+ * before any repository call, and can fail again in commit. Guarding only the repository would miss
+ * exactly those failures.
+ *
+ * 🔹 HOW?
+ * - OrderStore methods: the breaker advisor goes first in the repository's proxy chain - outside
+ *   the transaction and exception translation interceptors - so a rejected call never opens a
+ *   transaction or borrows a connection, and failures are seen after translation into DataAccessException.
+ * - getTransaction of a ResourceTransactionManager (JPA, JDBC - not the embedded store's, which holds
+ *   no resource): guarded like a repository call when no transaction is active yet, i.e. when it borrows
+ *   a connection. A rejected call fails before the connection is taken.
+ * - commit / rollback of a transaction that getTransaction started: recorded, never rejected - an
+ *   open circuit must not leave a running transaction (and its connection) without completion.
+ *
+ * A call made inside another guarded call (a repository's own @Transactional, commit inside a
+ * repository call) is not counted again: the outer call sees the same exception.
+ *
+ * JPA repositories are already proxies: the advisor is added to them. Anything else (FileOrderRepository,
+ * transaction managers) gets a new interface proxy. Only OrderStore / PlatformTransactionManager methods are
+ * guarded (not toString/equals of the proxy).
+ */
+public class CircuitBreakerPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<DatabaseCircuitBreaker> circuitBreaker;
+    private final Advisor repositoryAdvisor;
+    private final Advisor transactionManagerAdvisor;
+    private final ThreadLocal<Boolean> guarding = new NamedThreadLocal<>("Database circuit breaker call");
+    private volatile DatabaseCircuitBreaker resolved;
+
+    public CircuitBreakerPostProcessor(ObjectProvider<DatabaseCircuitBreaker> circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        this.repositoryAdvisor = new DefaultPointcutAdvisor(new DeclaredMethodPointcut(OrderStore.class),
+                (MethodInterceptor) this::guard);
+        this.transactionManagerAdvisor = new DefaultPointcutAdvisor(
+                new DeclaredMethodPointcut(PlatformTransactionManager.class), (MethodInterceptor) this::guardTransaction);
+    }
+
+    private Object guard(MethodInvocation invocation) throws Throwable {
+        if (guarding.get() != null) {
+            return invocation.proceed();
+        }
+        DatabaseCircuitBreaker breaker = breaker();
+        return call(invocation, breaker, breaker.acquirePermission());
+    }
+
+    private Object guardTransaction(MethodInvocation invocation) throws Throwable {
+        if (guarding.get() != null) {
+            return invocation.proceed();
+        }
+        if (invocation.getMethod().getName().equals("getTransaction")) {
+            // Joining (or suspending) a running transaction: its connection is already borrowed
+            return TransactionSynchronizationManager.isActualTransactionActive()
+                    ? invocation.proceed()
+                    : guard(invocation);
+        }
+        // commit / rollback
+        TransactionStatus status = (TransactionStatus) invocation.getArguments()[0];
+        if (!status.isNewTransaction()) {
+            return invocation.proceed();
+        }
+        DatabaseCircuitBreaker breaker = breaker();
+        return call(invocation, breaker, breaker.startCall());
+    }
+
+    private Object call(MethodInvocation invocation, DatabaseCircuitBreaker breaker, long startedAt) throws Throwable {
+        guarding.set(Boolean.TRUE);
+        try {
+            Object result = invocation.proceed();
+            breaker.onSuccess(startedAt);
+            return result;
+        } catch (Throwable ex) {
+            breaker.onError(startedAt, ex);
+            throw ex;
+        } finally {
+            guarding.remove();
+        }
+    }
+
+    /**
+     * Resolved on first call, not at post-processing: the breaker needs the MeterRegistry, which may
+     * not exist yet when repositories are created
+     */
+    private DatabaseCircuitBreaker breaker() {
+        DatabaseCircuitBreaker breaker = resolved;
+        if (breaker == null) {
+            breaker = circuitBreaker.getObject();
+            resolved = breaker;
+        }
+        return breaker;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof OrderStore) {
+            return advise(bean, repositoryAdvisor);
+        }
+        if (bean instanceof PlatformTransactionManager && bean instanceof ResourceTransactionManager) {
+            return advise(bean, transactionManagerAdvisor);
+        }
+        return bean;
+    }
+
+    private static Object advise(Object bean, Advisor advisor) {
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvisor(0, advisor);
+            return bean;
+        }
+        // Interface proxy: AbstractPlatformTransactionManager's getTransaction/commit/rollback are final
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.addAdvisor(advisor);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    @Override
+    public int getOrder() {
+        // After the proxy creators, so the advisor is added to their proxy instead of being wrapped by it
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private static final class DeclaredMethodPointcut extends StaticMethodMatcherPointcut {
+
+        private final Class<?> declaringType;
+
+        DeclaredMethodPointcut(Class<?> declaringType) {
+            this.declaringType = declaringType;
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return ReflectionUtils.findMethod(declaringType, method.getName(), method.getParameterTypes()) != null;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.order_management.repository.breaker;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.custom.SharedBusinessException;
+import com.example.order_management.exception.enums.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for database calls: fail fast with a 503 while the database is unhealthy
+ *
+ * 🔹 WHY?
+ * When MySQL degrades every request waits for a JDBC timeout, then fails anyway. Threads and
+ * connections pile up behind it and the slowdown spreads to requests that don't need the database.
+ *
+ * 🔹 STATES:
+ * - CLOSED: calls pass; outcomes go into a sliding window of the last window-size calls. Once
+ *   minimum-calls are recorded, a failure rate or slow-call rate at/above its threshold opens the circuit
+ * - OPEN: calls are rejected immediately with DATABASE_ERROR (503) until wait-duration has passed
+ * - HALF_OPEN: half-open-calls probes are let through; if their failure/slow rates are below the
+ *   thresholds the circuit closes, otherwise it opens again
+ *
+ * Only "database is unhealthy" exceptions count as failures (timeouts, connection and resource
+ * failures, transaction infrastructure errors) - a constraint violation is the caller's problem.
+ *
+ * Metrics: db.circuit_breaker.state{state} (1 for the current state), db.circuit_breaker.calls{outcome},
+ * db.circuit_breaker.transitions{from,to}, db.circuit_breaker.failure_rate, db.circuit_breaker.slow_call_rate
+ */
+public class DatabaseCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseCircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * State and the time it opened swap together, so OPEN is never seen with a stale openedAt
+     */
+    private record Circuit(State state, long openedAt) {
+    }
+
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long waitNanos;
+    private final int minimumCalls;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private final OutcomeWindow window;
+    private final OutcomeWindow probes;
+    private final AtomicReference<Circuit> circuit = new AtomicReference<>(new Circuit(State.CLOSED, 0));
+    private final AtomicInteger probePermits = new AtomicInteger();
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter slowCounter;
+    private final Counter rejectedCounter;
+    private final Map<State, Map<State, Counter>> transitionCounters = new EnumMap<>(State.class);
+
+    public DatabaseCircuitBreaker(int windowSize, int minimumCalls, float failureRateThreshold,
+                                  Duration slowCallDuration, float slowCallRateThreshold,
+                                  Duration waitDurationInOpenState, int halfOpenCalls,
+                                  MeterRegistry meterRegistry) {
+        this(windowSize, minimumCalls, failureRateThreshold, slowCallDuration, slowCallRateThreshold,
+                waitDurationInOpenState, halfOpenCalls, meterRegistry, System::nanoTime);
+    }
+
+    DatabaseCircuitBreaker(int windowSize, int minimumCalls, float failureRateThreshold,
+                           Duration slowCallDuration, float slowCallRateThreshold,
+                           Duration waitDurationInOpenState, int halfOpenCalls,
+                           MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.window = new OutcomeWindow(windowSize);
+        this.probes = new OutcomeWindow(halfOpenCalls);
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.waitNanos = waitDurationInOpenState.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+
+        for (State candidate : State.values()) {
+            Gauge.builder("db.circuit_breaker.state", circuit, current -> current.get().state() == candidate ? 1 : 0)
+                    .description("1 for the current state of the database circuit breaker")
+                    .tag("state", candidate.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("db.circuit_breaker.failure_rate", window, OutcomeWindow::failureRate)
+                .baseUnit("percent")
+                .register(meterRegistry);
+        Gauge.builder("db.circuit_breaker.slow_call_rate", window, OutcomeWindow::slowCallRate)
+                .baseUnit("percent")
+                .register(meterRegistry);
+        this.successCounter = calls(meterRegistry, "success");
+        this.failureCounter = calls(meterRegistry, "failure");
+        this.slowCounter = calls(meterRegistry, "slow");
+        this.rejectedCounter = calls(meterRegistry, "rejected");
+        for (State from : State.values()) {
+            Map<State, Counter> byTarget = new EnumMap<>(State.class);
+            for (State to : State.values()) {
+                byTarget.put(to, Counter.builder("db.circuit_breaker.transitions")
+                        .tag("from", from.name().toLowerCase())
+                        .tag("to", to.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+            transitionCounters.put(from, byTarget);
+        }
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("db.circuit_breaker.calls")
+                .description("Database calls seen by the circuit breaker")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public State getState() {
+        return circuit.get().state();
+    }
+
+    /**
+     * Reject the call (DATABASE_ERROR, 503) unless the circuit lets it through
+     *
+     * @return call start time, to pass to onSuccess / onError
+     */
+    public long acquirePermission() {
+        Circuit observed = circuit.get();
+        if (observed.state() == State.OPEN && nanoClock.getAsLong() - observed.openedAt() >= waitNanos) {
+            transition(observed, State.HALF_OPEN);
+            observed = circuit.get();
+        }
+        State current = observed.state();
+        if (current == State.OPEN || (current == State.HALF_OPEN && probePermits.getAndDecrement() <= 0)) {
+            rejectedCounter.increment();
+            throw SharedBusinessException.of(ErrorCodes.DATABASE_ERROR, ErrorType.SYSTEM,
+                    ErrorMessages.DATABASE_UNAVAILABLE);
+        }
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Start time for a call that must not be rejected, only recorded - the commit or rollback of a
+     * transaction that is already running
+     */
+    public long startCall() {
+        return nanoClock.getAsLong();
+    }
+
+    public void onSuccess(long startedAt) {
+        record(nanoClock.getAsLong() - startedAt >= slowCallNanos ? OutcomeWindow.SLOW : OutcomeWindow.SUCCESS);
+    }
+
+    public void onError(long startedAt, Throwable error) {
+        int outcome = nanoClock.getAsLong() - startedAt >= slowCallNanos ? OutcomeWindow.SLOW : OutcomeWindow.SUCCESS;
+        if (isDatabaseFailure(error)) {
+            outcome |= OutcomeWindow.FAILURE;
+        }
+        record(outcome);
+    }
+
+    /**
+     * Failures that say the database is unhealthy - not the caller's bad input
+     */
+    static boolean isDatabaseFailure(Throwable error) {
+        return error instanceof TransientDataAccessException
+                || error instanceof RecoverableDataAccessException
+                || error instanceof NonTransientDataAccessResourceException
+                || error instanceof TransactionException;
+    }
+
+    private void record(int outcome) {
+        if ((outcome & OutcomeWindow.FAILURE) != 0) {
+            failureCounter.increment();
+        } else if ((outcome & OutcomeWindow.SLOW) != 0) {
+            slowCounter.increment();
+        } else {
+            successCounter.increment();
+        }
+
+        Circuit observed = circuit.get();
+        switch (observed.state()) {
+            case CLOSED -> {
+                window.record(outcome);
+                if (window.recordedCalls() >= minimumCalls && overThreshold(window)) {
+                    transition(observed, State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                probes.record(outcome);
+                if (overThreshold(probes)) {
+                    transition(observed, State.OPEN);
+                } else if (probes.recordedCalls() >= halfOpenCalls) {
+                    transition(observed, State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // Call started before the circuit opened
+            }
+        }
+    }
+
+    private boolean overThreshold(OutcomeWindow outcomes) {
+        return outcomes.failureRate() >= failureRateThreshold || outcomes.slowCallRate() >= slowCallRateThreshold;
+    }
+
+    /**
+     * Only from the circuit the caller observed - a concurrent transition wins
+     */
+    private void transition(Circuit observed, State to) {
+        long openedAt = to == State.OPEN ? nanoClock.getAsLong() : observed.openedAt();
+        if (!circuit.compareAndSet(observed, new Circuit(to, openedAt))) {
+            return;
+        }
+        State from = observed.state();
+        switch (to) {
+            case OPEN -> {
+                // Leftover probe permits must not leak into the next HALF_OPEN before it resets them
+                probePermits.set(0);
+            }
+            case HALF_OPEN -> {
+                probes.reset();
+                probePermits.set(halfOpenCalls);
+            }
+            case CLOSED -> window.reset();
+        }
+        transitionCounters.get(from).get(to).increment();
+        if (to == State.OPEN) {
+            log.warn("Database circuit breaker {} -> OPEN (failure rate {}%, slow-call rate {}%): "
+                            + "rejecting database calls for {} ms", from, window.failureRate(), window.slowCallRate(),
+                    waitNanos / 1_000_000);
+        } else {
+            log.info("Database circuit breaker {} -> {}", from, to);
+        }
+    }
+}
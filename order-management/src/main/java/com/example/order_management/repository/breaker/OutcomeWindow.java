@@ -0,0 +1,78 @@
+package com.example.order_management.repository.breaker;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free, count-based sliding window over the last N call outcomes
+ *
+ * Each call claims the next ring slot (one getAndIncrement), swaps its outcome bits in and adjusts
+ * the failure/slow totals by the difference to the outcome it evicted - no lock, no allocation.
+ * Totals may be off by the calls in flight at the moment they are read, which is fine for rates.
+ */
+final class OutcomeWindow {
+
+    static final int SUCCESS = 0;
+    static final int FAILURE = 1;
+    static final int SLOW = 2;
+    private static final int EMPTY = -1;
+
+    private final int size;
+    private final AtomicIntegerArray outcomes;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    OutcomeWindow(int size) {
+        this.size = size;
+        this.outcomes = new AtomicIntegerArray(size);
+        reset();
+    }
+
+    /**
+     * @param outcome SUCCESS, or FAILURE and/or SLOW bits
+     */
+    void record(int outcome) {
+        int slot = (int) (calls.getAndIncrement() % size);
+        int evicted = outcomes.getAndSet(slot, outcome);
+        if (evicted == EMPTY) {
+            evicted = SUCCESS;
+        }
+        failures.addAndGet(bit(outcome, FAILURE) - bit(evicted, FAILURE));
+        slowCalls.addAndGet(bit(outcome, SLOW) - bit(evicted, SLOW));
+    }
+
+    int recordedCalls() {
+        return (int) Math.min(calls.get(), size);
+    }
+
+    /**
+     * @return failure rate in percent of the recorded calls, 0 when empty
+     */
+    float failureRate() {
+        return rate(failures.get());
+    }
+
+    float slowCallRate() {
+        return rate(slowCalls.get());
+    }
+
+    void reset() {
+        for (int i = 0; i < size; i++) {
+            outcomes.set(i, EMPTY);
+        }
+        calls.set(0);
+        failures.set(0);
+        slowCalls.set(0);
+    }
+
+    private float rate(int count) {
+        int recorded = recordedCalls();
+        return recorded == 0 ? 0 : Math.max(0, count) * 100f / recorded;
+    }
+
+    private static int bit(int outcome, int mask) {
+        return (outcome & mask) != 0 ? 1 : 0;
+    }
+}
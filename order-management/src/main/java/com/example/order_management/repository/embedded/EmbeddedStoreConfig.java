@@ -0,0 +1,55 @@
+package com.example.order_management.repository.embedded;
+
+import com.example.order_management.config.AppProfiles;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Embedded order store, enabled with --spring.profiles.active=embedded-store
+ *
+ * app.orders.embedded-store.dir=./data/order-store
+ * app.orders.embedded-store.records-per-chunk=16384   data file growth step (288 bytes per record)
+ * app.orders.embedded-store.fsync=true                fsync the redo log on every write
+ * app.orders.embedded-store.max-log-size=64MB         checkpoint as soon as the redo log reaches it
+ * app.orders.embedded-store.maintenance-interval=1m   periodic checkpoint + compaction
+ *
+ * Metrics: orders.embedded_store.orders, orders.embedded_store.data.bytes, orders.embedded_store.index.bytes
+ */
+@Configuration
+@Profile(AppProfiles.EMBEDDED_STORE)
+public class EmbeddedStoreConfig {
+
+    @Bean
+    public FileOrderRepository fileOrderRepository(
+            @Value("${app.orders.embedded-store.dir:./data/order-store}") Path directory,
+            @Value("${app.orders.embedded-store.records-per-chunk:16384}") int recordsPerChunk,
+            @Value("${app.orders.embedded-store.fsync:true}") boolean fsync,
+            @Value("${app.orders.embedded-store.max-log-size:64MB}") DataSize maxLogSize,
+            @Value("${app.orders.embedded-store.maintenance-interval:1m}") Duration maintenanceInterval,
+            MeterRegistry meterRegistry) {
+        FileOrderRepository repository = FileOrderRepository.open(directory, recordsPerChunk, fsync,
+                maxLogSize.toBytes(), maintenanceInterval);
+        Gauge.builder("orders.embedded_store.orders", repository, FileOrderRepository::count)
+                .register(meterRegistry);
+        Gauge.builder("orders.embedded_store.data.bytes", repository, FileOrderRepository::dataSizeInBytes)
+                .description("Memory-mapped data file size")
+                .register(meterRegistry);
+        Gauge.builder("orders.embedded_store.index.bytes", repository, FileOrderRepository::indexSizeInBytes)
+                .description("Off-heap primary-key index size")
+                .register(meterRegistry);
+        return repository;
+    }
+
+    @Bean
+    public EmbeddedStoreTransactionManager transactionManager() {
+        return new EmbeddedStoreTransactionManager();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.order_management.repository.embedded;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Transaction manager for the embedded order store
+ *
+ * 🔹 WHY? @Transactional methods and TransactionTemplates (batch create, id filter seeding, group commit)
+ * need a PlatformTransactionManager. FileOrderRepository makes every write durable on its own,
+ * so begin/commit are no-ops and rollback cannot undo anything.
+ */
+public class EmbeddedStoreTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
@@ -0,0 +1,624 @@
+package com.example.order_management.repository.embedded;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.entity.id.TimeOrderedIdGenerator;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.repository.OrderStatusTotals;
+import com.example.order_management.repository.OrderStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Embedded, file-backed OrderStore for sites without MySQL ("embedded-store" profile)
+ *
+ * 🔹 STORAGE:
+ * directory/orders.dat   fixed-width records, memory-mapped (OrderDataFile)
+ * directory/orders.log   redo log of changes since the last checkpoint (OrderRedoLog)
+ *
+ * 🔹 READS: id → slot through an off-heap hash index (OffHeapLongIntIndex), then one record read
+ * from the mapping - no network round trip, no SQL, no persistence context. Keyset pages walk a
+ * sorted id array; time-ordered ids make every insert an append to it.
+ *
+ * 🔹 WRITES: log append (+ fsync) first, then the mapped record. A crash loses nothing that was
+ * acknowledged: on open, torn records are dropped and the log is replayed over the data file.
+ *
+ * 🔹 MAINTENANCE (background thread, every maintenance-interval or when the log passes max-log-size):
+ * checkpoint = force the data file + truncate the log; compaction = when fewer than half of the
+ * slots are live, rewrite the live records densely into a new file and swap it in atomically.
+ *
+ * Transactions are not supported: every write is durable on its own and nothing is rolled back.
+ */
+public class FileOrderRepository implements OrderStore, SmartLifecycle, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(FileOrderRepository.class);
+
+    static final String DATA_FILE = "orders.dat";
+    static final String LOG_FILE = "orders.log";
+    private static final String COMPACT_FILE = "orders.dat.compact";
+
+    private final Path directory;
+    private final int recordsPerChunk;
+    private final boolean fsync;
+    private final long maxLogBytes;
+    private final long maintenanceIntervalNanos;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private OrderDataFile data;
+    private OrderRedoLog redoLog;
+    private final OffHeapLongIntIndex index;
+    private final SortedIds ids = new SortedIds();
+    private BitSet usedSlots = new BitSet();
+
+    private volatile boolean running;
+    private Thread maintenance;
+
+    // Not @Repository: every failure is already thrown as a DataAccessException, nothing to translate
+    private FileOrderRepository(Path directory, int recordsPerChunk, boolean fsync,
+                                long maxLogBytes, Duration maintenanceInterval) {
+        this.directory = directory;
+        this.recordsPerChunk = recordsPerChunk;
+        this.fsync = fsync;
+        this.maxLogBytes = maxLogBytes;
+        this.maintenanceIntervalNanos = maintenanceInterval.toNanos();
+        this.index = new OffHeapLongIntIndex(recordsPerChunk);
+    }
+
+    /**
+     * Open (or create) the store: load the data file, replay the redo log, checkpoint
+     */
+    public static FileOrderRepository open(Path directory, int recordsPerChunk, boolean fsync,
+                                           long maxLogBytes, Duration maintenanceInterval) {
+        FileOrderRepository repository =
+                new FileOrderRepository(directory, recordsPerChunk, fsync, maxLogBytes, maintenanceInterval);
+        try {
+            repository.recover();
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not open order store in " + directory, ex);
+        }
+        return repository;
+    }
+
+    // ---------------------------------------------------------------- reads
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        requireId(id);
+        lock.readLock().lock();
+        try {
+            int slot = index.get(id);
+            return slot < 0 ? Optional.empty() : Optional.of(data.read(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> findExistingIds(Collection<Long> candidates) {
+        List<Long> existing = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates) {
+                if (id != null && index.get(id) >= 0) {
+                    existing.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return existing;
+    }
+
+    /**
+     * Live orders - the orders.embedded_store.orders gauge
+     */
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Snapshot of the ids at call time - does not need to run in a transaction
+     */
+    @Override
+    public Stream<Long> streamAllIds() {
+        long[] snapshot;
+        lock.readLock().lock();
+        try {
+            snapshot = ids.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Arrays.stream(snapshot).boxed();
+    }
+
+    @Override
+    public List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit) {
+        return page(null, afterId, limit);
+    }
+
+    @Override
+    public List<Order> findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus status, Long afterId, Limit limit) {
+        return page(status, afterId, limit);
+    }
+
+    private List<Order> page(OrderStatus status, long afterId, Limit limit) {
+        int max = limit.isUnlimited() ? Integer.MAX_VALUE : limit.max();
+        List<Order> orders = new ArrayList<>(Math.min(max, 1024));
+        lock.readLock().lock();
+        try {
+            for (int position = ids.firstAfter(afterId); position < ids.size() && orders.size() < max; position++) {
+                int slot = index.get(ids.get(position));
+                if (status == null || data.statusAt(slot) == status) {
+                    orders.add(data.read(slot));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return orders;
+    }
+
+    /**
+     * Full scan - the store has no per-status aggregates
+     */
+    @Override
+    public List<OrderStatusTotals> sumByStatus() {
+        Map<OrderStatus, long[]> counts = new EnumMap<>(OrderStatus.class);
+        Map<OrderStatus, double[]> totals = new EnumMap<>(OrderStatus.class);
+        lock.readLock().lock();
+        try {
+            for (int position = 0; position < ids.size(); position++) {
+                Order order = data.read(index.get(ids.get(position)));
+                if (order.getStatus() == null) {
+                    continue;
+                }
+                counts.computeIfAbsent(order.getStatus(), status -> new long[1])[0]++;
+                totals.computeIfAbsent(order.getStatus(), status -> new double[1])[0] +=
+                        order.getPrice() == null ? 0 : order.getPrice();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<OrderStatusTotals> rows = new ArrayList<>();
+        counts.forEach((status, count) -> rows.add(new OrderStatusTotals(status, count[0], totals.get(status)[0])));
+        return rows;
+    }
+
+    // ---------------------------------------------------------------- writes
+
+    @Override
+    public <S extends Order> S save(S order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Entity must not be null");
+        }
+        saveAll(List.of(order));
+        return order;
+    }
+
+    /**
+     * One log write (and one fsync) for the whole batch
+     */
+    @Override
+    public <S extends Order> List<S> saveAll(Iterable<S> orders) {
+        List<S> saved = new ArrayList<>();
+        List<byte[]> records = new ArrayList<>();
+        List<ByteBuffer> entries = new ArrayList<>();
+        for (S order : orders) {
+            if (order.getId() == null) {
+                order.setId(TimeOrderedIdGenerator.shared().nextId());
+            }
+            byte[] record = OrderDataFile.encode(order);
+            saved.add(order);
+            records.add(record);
+            entries.add(OrderRedoLog.put(record));
+        }
+        if (saved.isEmpty()) {
+            return saved;
+        }
+        lock.writeLock().lock();
+        try {
+            redoLog.append(entries);
+            for (byte[] record : records) {
+                applyPut(record);
+            }
+            checkpointIfLogFull();
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not write to order store", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return saved;
+    }
+
+    /**
+     * Status check and write under the write lock - same contract as the conditional UPDATE
+     */
+    @Override
+    public int updateStatus(Long id, OrderStatus expected, OrderStatus next) {
+        requireId(id);
+        lock.writeLock().lock();
+        try {
+            int slot = index.get(id);
+            if (slot < 0 || data.statusAt(slot) != expected) {
+                return 0;
+            }
+            Order order = data.read(slot);
+            order.setStatus(next);
+            byte[] record = OrderDataFile.encode(order);
+            redoLog.append(List.of(OrderRedoLog.put(record)));
+            applyPut(record);
+            checkpointIfLogFull();
+            return 1;
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not write to order store", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int deleteOrderById(Long id) {
+        requireId(id);
+        return deleteIds(List.of(id));
+    }
+
+    @Override
+    public int deleteOrderByIdAndStatus(Long id, OrderStatus expected) {
+        requireId(id);
+        lock.writeLock().lock();
+        try {
+            int slot = index.get(id);
+            if (slot < 0 || data.statusAt(slot) != expected) {
+                return 0;
+            }
+            return deleteIds(List.of(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int deleteOrdersByIds(Collection<Long> idsToDelete) {
+        return deleteIds(idsToDelete);
+    }
+
+    /**
+     * @return number of orders that existed and were deleted
+     */
+    private int deleteIds(Iterable<? extends Long> idsToDelete) {
+        lock.writeLock().lock();
+        try {
+            List<ByteBuffer> entries = new ArrayList<>();
+            Set<Long> present = new LinkedHashSet<>();
+            for (Long id : idsToDelete) {
+                if (id != null && index.get(id) >= 0 && present.add(id)) {
+                    entries.add(OrderRedoLog.delete(id));
+                }
+            }
+            if (entries.isEmpty()) {
+                return 0;
+            }
+            redoLog.append(entries);
+            for (long id : present) {
+                applyDelete(id);
+            }
+            checkpointIfLogFull();
+            return present.size();
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not write to order store", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ---------------------------------------------------------------- maintenance
+
+    /**
+     * Force the data file and truncate the redo log
+     */
+    public void checkpoint() {
+        lock.writeLock().lock();
+        try {
+            checkpointLocked();
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Order store checkpoint failed", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrite the live records densely if fewer than half of the slots are in use
+     *
+     * @return true if the data file was compacted
+     */
+    public boolean compact() {
+        lock.writeLock().lock();
+        try {
+            if (data.capacity() <= recordsPerChunk || ids.size() * 2L >= data.capacity()) {
+                return false;
+            }
+            checkpointLocked();
+            int before = data.capacity();
+
+            Path compactPath = directory.resolve(COMPACT_FILE);
+            Files.deleteIfExists(compactPath);
+            OrderDataFile compacted = OrderDataFile.open(compactPath, recordsPerChunk);
+            BitSet compactedSlots = new BitSet();
+            for (int position = 0; position < ids.size(); position++) {
+                if (position >= compacted.capacity()) {
+                    compacted.grow();
+                }
+                compacted.write(position, OrderDataFile.encode(data.read(index.get(ids.get(position)))));
+                compactedSlots.set(position);
+            }
+            compacted.close();
+            data.close();
+            Files.move(compactPath, directory.resolve(DATA_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            data = OrderDataFile.open(directory.resolve(DATA_FILE), recordsPerChunk);
+            index.clear();
+            for (int position = 0; position < ids.size(); position++) {
+                index.put(ids.get(position), position);
+            }
+            usedSlots = compactedSlots;
+            log.info("Order store compacted: {} orders, {} → {} slots", ids.size(), before, data.capacity());
+            return true;
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Order store compaction failed", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long dataSizeInBytes() {
+        return data.sizeInBytes();
+    }
+
+    public long indexSizeInBytes() {
+        return index.sizeInBytes();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        maintenance = new Thread(this::maintenanceLoop, "order-store-maintenance");
+        maintenance.setDaemon(true);
+        maintenance.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (maintenance != null) {
+            LockSupport.unpark(maintenance);
+            try {
+                maintenance.join(Duration.ofSeconds(30).toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        checkpoint();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Before the web server starts, after it stops
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            data.close();
+            redoLog.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void maintenanceLoop() {
+        while (running) {
+            LockSupport.parkNanos(maintenanceIntervalNanos);
+            if (!running) {
+                return;
+            }
+            try {
+                checkpoint();
+                compact();
+            } catch (RuntimeException ex) {
+                log.warn("Order store maintenance failed, will retry: {}", ex.getMessage());
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- internals
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        // Leftover from a compaction interrupted before its atomic swap - the old data file is intact
+        Files.deleteIfExists(directory.resolve(COMPACT_FILE));
+
+        data = OrderDataFile.open(directory.resolve(DATA_FILE), recordsPerChunk);
+        long[] loaded = new long[Math.max(16, data.capacity() / 4)];
+        int loadedCount = 0;
+        for (int slot = 0; slot < data.capacity(); slot++) {
+            if (!data.isLive(slot)) {
+                data.free(slot);
+                continue;
+            }
+            long id = data.idAt(slot);
+            index.put(id, slot);
+            usedSlots.set(slot);
+            if (loadedCount == loaded.length) {
+                loaded = Arrays.copyOf(loaded, loadedCount * 2);
+            }
+            loaded[loadedCount++] = id;
+        }
+        ids.load(loaded, loadedCount);
+
+        redoLog = OrderRedoLog.open(directory.resolve(LOG_FILE), fsync, new OrderRedoLog.Replay() {
+            @Override
+            public void put(byte[] record) {
+                applyPut(record);
+            }
+
+            @Override
+            public void delete(long id) {
+                applyDelete(id);
+            }
+        });
+        checkpointLocked();
+        log.info("Order store opened in {}: {} orders, {} slots", directory, ids.size(), data.capacity());
+    }
+
+    private void applyPut(byte[] record) {
+        long id = OrderDataFile.idOf(record);
+        int slot = index.get(id);
+        if (slot < 0) {
+            slot = allocateSlot();
+            index.put(id, slot);
+            ids.add(id);
+        }
+        data.write(slot, record);
+    }
+
+    private void applyDelete(long id) {
+        int slot = index.remove(id);
+        if (slot >= 0) {
+            data.free(slot);
+            usedSlots.clear(slot);
+            ids.remove(id);
+        }
+    }
+
+    private int allocateSlot() {
+        int slot = usedSlots.nextClearBit(0);
+        while (slot >= data.capacity()) {
+            try {
+                data.grow();
+            } catch (IOException ex) {
+                throw new DataAccessResourceFailureException("Could not grow order store", ex);
+            }
+        }
+        usedSlots.set(slot);
+        return slot;
+    }
+
+    private void checkpointIfLogFull() throws IOException {
+        if (redoLog.size() >= maxLogBytes) {
+            checkpointLocked();
+        }
+    }
+
+    private void checkpointLocked() throws IOException {
+        data.force();
+        redoLog.truncate();
+    }
+
+    private static void requireId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("The given id must not be null");
+        }
+    }
+
+    /**
+     * Ascending order ids for keyset pages - time-ordered ids make add() an append
+     */
+    static final class SortedIds {
+        private long[] values = new long[1024];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        long get(int position) {
+            return values[position];
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        void load(long[] unsorted, int count) {
+            values = Arrays.copyOf(unsorted, Math.max(1024, count));
+            size = count;
+            Arrays.sort(values, 0, size);
+        }
+
+        void add(long id) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            if (size == 0 || values[size - 1] < id) {
+                values[size++] = id;
+                return;
+            }
+            int position = Arrays.binarySearch(values, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int position = Arrays.binarySearch(values, 0, size, id);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, size - position - 1);
+                size--;
+            }
+        }
+
+        /**
+         * @return the position of the first id greater than afterId
+         */
+        int firstAfter(long afterId) {
+            if (afterId == Long.MAX_VALUE) {
+                return size;
+            }
+            int position = Arrays.binarySearch(values, 0, size, afterId + 1);
+            return position >= 0 ? position : -position - 1;
+        }
+    }
+}
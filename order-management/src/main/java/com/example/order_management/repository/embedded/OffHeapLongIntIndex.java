@@ -0,0 +1,162 @@
+package com.example.order_management.repository.embedded;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Primary-key index: order id → record slot, in a direct (off-heap) buffer
+ *
+ * 🔹 WHY off-heap? One entry is 12 bytes in a flat table instead of a HashMap node,
+ * boxed Long and boxed Integer (~64 bytes) - and the GC never has to trace it.
+ *
+ * Open addressing with linear probing; removals shift the following entries back,
+ * so there are no tombstones. Not thread-safe - FileOrderRepository guards it with its lock.
+ */
+final class OffHeapLongIntIndex {
+
+    private static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+    private static final double MAX_LOAD = 0.6;
+    // Keeps entry offsets within int range (~80M orders at MAX_LOAD)
+    private static final int MAX_CAPACITY = 1 << 27;
+
+    // value + 1 is stored, so 0 marks an empty entry
+    private ByteBuffer table;
+    private int capacity;
+    private int mask;
+    private int size;
+
+    OffHeapLongIntIndex(int expectedEntries) {
+        allocate(tableSizeFor(expectedEntries));
+    }
+
+    int size() {
+        return size;
+    }
+
+    long sizeInBytes() {
+        return (long) capacity * ENTRY_BYTES;
+    }
+
+    /**
+     * @return the slot, or -1 if the key is absent
+     */
+    int get(long key) {
+        for (int index = indexFor(key); ; index = (index + 1) & mask) {
+            int stored = valueAt(index);
+            if (stored == 0) {
+                return -1;
+            }
+            if (keyAt(index) == key) {
+                return stored - 1;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Slot must not be negative: " + value);
+        }
+        if (size + 1 > capacity * MAX_LOAD) {
+            if (capacity == MAX_CAPACITY) {
+                throw new IllegalStateException("Order index is full: " + size + " entries");
+            }
+            resize(capacity * 2);
+        }
+        for (int index = indexFor(key); ; index = (index + 1) & mask) {
+            int stored = valueAt(index);
+            if (stored == 0) {
+                write(index, key, value + 1);
+                size++;
+                return;
+            }
+            if (keyAt(index) == key) {
+                write(index, key, value + 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the removed slot, or -1 if the key was absent
+     */
+    int remove(long key) {
+        int index = indexFor(key);
+        while (true) {
+            int stored = valueAt(index);
+            if (stored == 0) {
+                return -1;
+            }
+            if (keyAt(index) == key) {
+                break;
+            }
+            index = (index + 1) & mask;
+        }
+        int removed = valueAt(index) - 1;
+
+        // Backward-shift deletion: move later entries of the probe chain into the hole
+        int hole = index;
+        for (int next = (hole + 1) & mask; valueAt(next) != 0; next = (next + 1) & mask) {
+            int home = indexFor(keyAt(next));
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                write(hole, keyAt(next), valueAt(next));
+                hole = next;
+            }
+        }
+        write(hole, 0L, 0);
+        size--;
+        return removed;
+    }
+
+    void clear() {
+        allocate(capacity);
+    }
+
+    private void resize(int newCapacity) {
+        ByteBuffer old = table;
+        int oldCapacity = capacity;
+        allocate(newCapacity);
+        for (int index = 0; index < oldCapacity; index++) {
+            int stored = old.getInt(index * ENTRY_BYTES + Long.BYTES);
+            if (stored != 0) {
+                put(old.getLong(index * ENTRY_BYTES), stored - 1);
+            }
+        }
+    }
+
+    private void allocate(int newCapacity) {
+        table = ByteBuffer.allocateDirect(newCapacity * ENTRY_BYTES).order(ByteOrder.nativeOrder());
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+        size = 0;
+    }
+
+    private int indexFor(long key) {
+        // murmur3 finalizer - time-ordered ids differ mostly in their low bits
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private long keyAt(int index) {
+        return table.getLong(index * ENTRY_BYTES);
+    }
+
+    private int valueAt(int index) {
+        return table.getInt(index * ENTRY_BYTES + Long.BYTES);
+    }
+
+    private void write(int index, long key, int storedValue) {
+        table.putLong(index * ENTRY_BYTES, key);
+        table.putInt(index * ENTRY_BYTES + Long.BYTES, storedValue);
+    }
+
+    private static int tableSizeFor(int expectedEntries) {
+        int needed = (int) Math.min(MAX_CAPACITY, Math.ceil(Math.max(16, expectedEntries) / MAX_LOAD));
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
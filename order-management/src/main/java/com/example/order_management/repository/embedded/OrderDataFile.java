@@ -0,0 +1,197 @@
+package com.example.order_management.repository.embedded;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Fixed-width order records in a memory-mapped file, addressed by slot number
+ *
+ * record (288 bytes):
+ * [byte state][byte status][short name length][int CRC32][long id][double price][name, up to 264 UTF-8 bytes]
+ * state 0 = free slot, 1 = live order; status / name length -1 and price NaN = null
+ *
+ * The file grows one chunk (records-per-chunk slots) at a time; each chunk is mapped separately,
+ * so growing never remaps what readers are using. The CRC covers everything but the state byte -
+ * a slot torn by a crash is treated as free on load and restored from the redo log.
+ */
+final class OrderDataFile implements Closeable {
+
+    static final int RECORD_BYTES = 288;
+    static final int MAX_NAME_BYTES = RECORD_BYTES - 24;
+
+    private static final byte FREE = 0;
+    private static final byte LIVE = 1;
+
+    private final Path path;
+    private final int recordsPerChunk;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+
+    private OrderDataFile(Path path, int recordsPerChunk) {
+        this.path = path;
+        this.recordsPerChunk = recordsPerChunk;
+    }
+
+    /**
+     * Map every existing chunk of the file (creating the first one if the file is new)
+     */
+    static OrderDataFile open(Path path, int recordsPerChunk) throws IOException {
+        OrderDataFile file = new OrderDataFile(path, recordsPerChunk);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long chunkBytes = file.chunkBytes();
+            long existing = (channel.size() + chunkBytes - 1) / chunkBytes;
+            for (long chunk = 0; chunk < Math.max(1, existing); chunk++) {
+                file.chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, chunk * chunkBytes, chunkBytes));
+            }
+        }
+        return file;
+    }
+
+    int capacity() {
+        return chunks.size() * recordsPerChunk;
+    }
+
+    long sizeInBytes() {
+        return (long) capacity() * RECORD_BYTES;
+    }
+
+    /**
+     * Add one chunk of free slots at the end of the file
+     */
+    void grow() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) chunks.size() * chunkBytes(), chunkBytes()));
+        }
+    }
+
+    /**
+     * @return true if the slot holds a complete live record
+     */
+    boolean isLive(int slot) {
+        ByteBuffer chunk = chunkOf(slot);
+        int offset = offsetOf(slot);
+        if (chunk.get(offset) != LIVE) {
+            return false;
+        }
+        byte[] record = new byte[RECORD_BYTES];
+        chunk.get(offset, record);
+        return checksumMatches(record);
+    }
+
+    long idAt(int slot) {
+        return chunkOf(slot).getLong(offsetOf(slot) + 8);
+    }
+
+    OrderStatus statusAt(int slot) {
+        byte status = chunkOf(slot).get(offsetOf(slot) + 1);
+        return status < 0 ? null : OrderStatus.values()[status];
+    }
+
+    Order read(int slot) {
+        ByteBuffer chunk = chunkOf(slot);
+        int offset = offsetOf(slot);
+        Order order = new Order();
+        order.setId(chunk.getLong(offset + 8));
+        double price = chunk.getDouble(offset + 16);
+        order.setPrice(Double.isNaN(price) ? null : price);
+        order.setStatus(statusAt(slot));
+        int nameLength = chunk.getShort(offset + 2);
+        if (nameLength >= 0) {
+            byte[] name = new byte[nameLength];
+            chunk.get(offset + 24, name);
+            order.setProductName(new String(name, StandardCharsets.UTF_8));
+        }
+        return order;
+    }
+
+    /**
+     * Copy an encoded record into a slot - the state byte goes last
+     */
+    void write(int slot, byte[] record) {
+        ByteBuffer chunk = chunkOf(slot);
+        int offset = offsetOf(slot);
+        chunk.put(offset + 1, record, 1, RECORD_BYTES - 1);
+        chunk.put(offset, LIVE);
+    }
+
+    void free(int slot) {
+        chunkOf(slot).put(offsetOf(slot), FREE);
+    }
+
+    void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+        chunks.clear();
+    }
+
+    /**
+     * Encode an order (with its id assigned) as a complete record image
+     *
+     * @throws DataIntegrityViolationException if the product name does not fit the fixed-width record -
+     *                                         the same exception type a too-long column raises through JPA
+     */
+    static byte[] encode(Order order) {
+        byte[] name = order.getProductName() == null ? null
+                : order.getProductName().getBytes(StandardCharsets.UTF_8);
+        if (name != null && name.length > MAX_NAME_BYTES) {
+            throw new DataIntegrityViolationException("productName exceeds " + MAX_NAME_BYTES + " bytes");
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        record.put(0, LIVE);
+        record.put(1, order.getStatus() == null ? -1 : (byte) order.getStatus().ordinal());
+        record.putShort(2, (short) (name == null ? -1 : name.length));
+        record.putLong(8, order.getId());
+        record.putDouble(16, order.getPrice() == null ? Double.NaN : order.getPrice());
+        if (name != null) {
+            record.put(24, name);
+        }
+        record.putInt(4, checksum(record.array()));
+        return record.array();
+    }
+
+    static long idOf(byte[] record) {
+        return ByteBuffer.wrap(record).getLong(8);
+    }
+
+    static boolean checksumMatches(byte[] record) {
+        return ByteBuffer.wrap(record).getInt(4) == checksum(record);
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 1, 3);
+        crc.update(record, 8, RECORD_BYTES - 8);
+        return (int) crc.getValue();
+    }
+
+    private ByteBuffer chunkOf(int slot) {
+        return chunks.get(slot / recordsPerChunk);
+    }
+
+    private int offsetOf(int slot) {
+        return (slot % recordsPerChunk) * RECORD_BYTES;
+    }
+
+    private long chunkBytes() {
+        return (long) recordsPerChunk * RECORD_BYTES;
+    }
+}
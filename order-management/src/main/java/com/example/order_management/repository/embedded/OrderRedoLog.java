@@ -0,0 +1,154 @@
+package com.example.order_management.repository.embedded;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only redo log in front of OrderDataFile
+ *
+ * entry = [int body length][int CRC32 of body][body]
+ * body  = [byte PUT][288-byte record image] | [byte DELETE][long id]
+ *
+ * Every change is appended (and forced, unless fsync is off) before it touches the mapped data file.
+ * On open, entries are replayed up to the first incomplete or corrupt one; the tail after it is cut off.
+ * A checkpoint forces the data file and truncates the log.
+ */
+final class OrderRedoLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderRedoLog.class);
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    /**
+     * Receives replayed changes in log order
+     */
+    interface Replay {
+        void put(byte[] record);
+
+        void delete(long id);
+    }
+
+    private final FileChannel channel;
+    private final boolean fsync;
+
+    private OrderRedoLog(FileChannel channel, boolean fsync) {
+        this.channel = channel;
+        this.fsync = fsync;
+    }
+
+    static OrderRedoLog open(Path path, boolean fsync, Replay replay) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long valid = replay(channel, replay);
+        if (valid < channel.size()) {
+            log.warn("Order redo log {} has a torn entry at byte {} - discarding the tail", path, valid);
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        channel.position(valid);
+        return new OrderRedoLog(channel, fsync);
+    }
+
+    static ByteBuffer put(byte[] record) {
+        return entry(ByteBuffer.allocate(1 + record.length).put(PUT).put(record));
+    }
+
+    static ByteBuffer delete(long id) {
+        return entry(ByteBuffer.allocate(1 + Long.BYTES).put(DELETE).putLong(id));
+    }
+
+    /**
+     * Append entries in one write and make them durable
+     */
+    void append(List<ByteBuffer> entries) throws IOException {
+        ByteBuffer[] buffers = entries.toArray(ByteBuffer[]::new);
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+    }
+
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Called once the data file is forced - everything logged so far is in it
+     */
+    void truncate() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static ByteBuffer entry(ByteBuffer body) {
+        byte[] bytes = body.array();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return ByteBuffer.allocate(HEADER_BYTES + bytes.length)
+                .putInt(bytes.length)
+                .putInt((int) crc.getValue())
+                .put(bytes)
+                .flip();
+    }
+
+    /**
+     * @return the offset after the last valid entry
+     */
+    private static long replay(FileChannel channel, Replay replay) throws IOException {
+        long size = channel.size();
+        long offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (offset + HEADER_BYTES <= size) {
+            header.clear();
+            channel.read(header, offset);
+            int length = header.getInt(0);
+            if (length <= 0 || length > 1 + OrderDataFile.RECORD_BYTES || offset + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer body = ByteBuffer.allocate(length);
+            while (body.hasRemaining() && channel.read(body, offset + HEADER_BYTES + body.position()) > 0) {
+                // read fully
+            }
+            CRC32 crc = new CRC32();
+            crc.update(body.array());
+            if ((int) crc.getValue() != header.getInt(Integer.BYTES)) {
+                break;
+            }
+            byte op = body.get(0);
+            if (op == PUT && length == 1 + OrderDataFile.RECORD_BYTES) {
+                byte[] record = new byte[OrderDataFile.RECORD_BYTES];
+                body.get(1, record);
+                replay.put(record);
+            } else if (op == DELETE && length == 1 + Long.BYTES) {
+                replay.delete(body.getLong(1));
+            } else {
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.order_management.repository.reactive;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the "orders" table (same table and columns as the JPA Order entity)
+ */
+@Table("orders")
+public record OrderRecord(@Id Long id, String productName, Double price, OrderStatus status) {
+
+    public static OrderRecord from(Order order) {
+        return new OrderRecord(order.getId(), order.getProductName(), order.getPrice(), order.getStatus());
+    }
+
+    public Order toOrder() {
+        Order order = new Order();
+        order.setId(id);
+        order.setProductName(productName);
+        order.setPrice(price);
+        order.setStatus(status);
+        return order;
+    }
+}
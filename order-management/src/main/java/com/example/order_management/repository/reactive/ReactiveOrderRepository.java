@@ -0,0 +1,23 @@
+package com.example.order_management.repository.reactive;
+
+import com.example.order_management.enums.OrderStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking order repository ("reactive" profile)
+ * Inserts go through R2dbcEntityTemplate.insert - ids are assigned in-process, so save() would UPDATE
+ */
+public interface ReactiveOrderRepository extends R2dbcRepository<OrderRecord, Long> {
+
+    /**
+     * Keyset page: seeks on the primary key, cost independent of page depth
+     */
+    Flux<OrderRecord> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Keyset page filtered by status, served by idx_orders_status_id
+     */
+    Flux<OrderRecord> findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus status, Long afterId, Limit limit);
+}
@@ -0,0 +1,12 @@
+package com.example.order_management.service;
+
+import com.example.order_management.dto.BatchDeleteResponseDTO;
+import com.example.order_management.dto.BatchOrderResponseDTO;
+import com.example.order_management.dto.OrderRequestDTO;
+
+import java.util.List;
+
+public interface OrderBatchService {
+    BatchOrderResponseDTO createOrders(List<OrderRequestDTO> orderDTOs, String path);
+    BatchDeleteResponseDTO deleteOrders(List<Long> ids, String path);
+}
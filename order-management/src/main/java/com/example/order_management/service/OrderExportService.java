@@ -0,0 +1,10 @@
+package com.example.order_management.service;
+
+import com.example.order_management.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface OrderExportService {
+    void exportOrders(ExportFormat format, OutputStream out, String path) throws IOException;
+}
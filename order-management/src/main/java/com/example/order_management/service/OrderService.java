@@ -1,9 +1,18 @@
 package com.example.order_management.service;
 
 import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface OrderService {
     Order getOrderById(Long id);
     Order createOrder(Order order);
+    Order acceptOrder(Order order);
+    List<Order> createOrders(List<Order> orders);
+    Order changeStatus(Long id, OrderStatus status);
     void deleteOrder(Long id);
+    List<Long> deleteOrders(Collection<Long> ids);
+    List<Order> listOrders(OrderStatus status, Long afterId, int limit);
 }
@@ -0,0 +1,15 @@
+package com.example.order_management.service;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of OrderService ("reactive" profile)
+ */
+public interface ReactiveOrderService {
+    Mono<Order> getOrderById(Long id);
+    Mono<Order> createOrder(Order order);
+    Flux<Order> listOrders(OrderStatus status, Long afterId, int limit);
+}
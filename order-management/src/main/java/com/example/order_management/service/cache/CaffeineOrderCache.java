@@ -0,0 +1,47 @@
+package com.example.order_management.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded order cache
+ *
+ * 🔹 WHY CAFFEINE? W-TinyLFU admission keeps hot orders cached even when
+ * scrapers sweep through many one-off ids
+ * 🔹 STATS: hit/miss/eviction published as cache.* metrics with tag cache=orders
+ */
+public class CaffeineOrderCache implements OrderCache {
+
+    static final String CACHE_NAME = "orders";
+
+    private final Cache<Long, OrderSnapshot> cache;
+
+    public CaffeineOrderCache(long maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public OrderSnapshot get(Long id, Function<Long, OrderSnapshot> loader) {
+        return cache.get(id, loader);
+    }
+
+    @Override
+    public OrderSnapshot getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+}
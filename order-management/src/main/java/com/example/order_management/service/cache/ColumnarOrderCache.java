@@ -0,0 +1,468 @@
+package com.example.order_management.service.cache;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.repository.OrderStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory order store for read-heavy nodes: one primitive column per field instead of one object graph per order
+ *
+ * 🔹 WHY? A HashMap<Long, Order> entry is a node, a boxed key, the entity, a boxed id, a boxed price
+ * and a String - roughly 180 bytes and seven objects the GC has to trace. Here an order is one row:
+ *
+ * long[] ids      8 bytes
+ * double[] prices 8 bytes   (NaN = null)
+ * byte[] statuses 1 byte    (OrderStatus ordinal, -1 = null)
+ * int[] names     4 bytes   (code into a product-name dictionary, -1 = null)
+ * int[] written   4 bytes   (seconds since the cache was created, for expire-after-write)
+ * + the id → row index (LongIntHashMap, ~20 bytes) and the shared dictionary entries
+ *
+ * 🔹 READS: optimistic (StampedLock) - no lock word written on the hot path; a read that overlaps
+ * a write is retried under the read lock.
+ *
+ * 🔹 SYNC: OrderServiceImpl hands every saved order to onWrite() and every delete to invalidate().
+ * Misses (orders written by another node) are loaded through the loader and kept - unless the id was
+ * invalidated while the load ran: the loaded snapshot may predate the delete, so it is returned but not stored.
+ * With preload, all orders are paged in from the repository once the application is ready.
+ *
+ * 🔹 EXPIRY: nothing tells this node about writes made on another node. A row older than
+ * expire-after-write is treated as a miss and reloaded, so a remote change or delete is visible here
+ * after at most that long. Duration.ZERO keeps rows until they are invalidated locally - only safe
+ * when every write goes through this node.
+ *
+ * Once max-orders rows are in use, further orders are served through the loader but not stored.
+ * Dictionary entries are counted by the rows that use them: once the last one is deleted or overwritten,
+ * the name is dropped and its code reused - the dictionary tracks the names in the cache, not every name seen.
+ *
+ * Metrics: orders.columnar.size, orders.columnar.heap.bytes, orders.columnar.heap.bytes_per_order,
+ * orders.columnar.baseline.bytes (estimated HashMap<Long, Order> holding the same orders)
+ */
+public class ColumnarOrderCache implements OrderCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarOrderCache.class);
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final int PRELOAD_PAGE = 10_000;
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    // Object layout estimates (64-bit JVM, compressed oops, 8-byte alignment)
+    private static final int ROW_BYTES = Long.BYTES + Double.BYTES + Byte.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int DICTIONARY_ENTRY_BYTES = 32 + 16 + 6 + 4 + 24;   // node, Integer, table, array slot, String
+    private static final int BASELINE_ENTRY_BYTES = 32 + 6 + 16 + 32 + 16 + 16 + 24; // node, table, Long key,
+                                                                                     // Order, Long id, Double, String
+
+    private final int maxOrders;
+    private final int expireAfterWriteSeconds;
+    private final LongSupplier nanoClock;
+    private final long createdAt;
+    private final OrderStore orderRepository;
+    private final boolean preload;
+
+    private final StampedLock lock = new StampedLock();
+    private final LongIntHashMap index;
+    private long[] ids;
+    private double[] prices;
+    private byte[] statuses;
+    private int[] nameCodes;
+    private int[] writtenAt;
+    private int rows;
+    private int[] freeRows = new int[16];
+    private int freeCount;
+
+    private String[] dictionary = new String[64];
+    private int[] nameReferences = new int[64];
+    private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+    private int nameCodeLimit;
+    private int[] freeNameCodes = new int[16];
+    private int freeNameCount;
+    private long dictionaryBytes;
+    private long nameBytesInBaseline;
+
+    // Invalidations per id stripe - a miss load that overlapped one for its stripe is not stored
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    // Ids deleted while the preload runs - a page read before the delete must not bring them back
+    private final Set<Long> deletedDuringPreload = ConcurrentHashMap.newKeySet();
+    private volatile boolean preloading;
+
+    /**
+     * @param expireAfterWrite whole seconds; Duration.ZERO = never expire
+     */
+    public ColumnarOrderCache(int maxOrders, Duration expireAfterWrite, OrderStore orderRepository, boolean preload,
+                              MeterRegistry meterRegistry) {
+        this(maxOrders, expireAfterWrite, orderRepository, preload, meterRegistry, System::nanoTime);
+    }
+
+    ColumnarOrderCache(int maxOrders, Duration expireAfterWrite, OrderStore orderRepository, boolean preload,
+                       MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (expireAfterWrite.isNegative() || expireAfterWrite.getSeconds() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("expire-after-write must be between 0 and "
+                    + Integer.MAX_VALUE + " seconds: " + expireAfterWrite);
+        }
+        this.maxOrders = maxOrders;
+        this.expireAfterWriteSeconds = (int) expireAfterWrite.getSeconds();
+        this.nanoClock = nanoClock;
+        this.createdAt = nanoClock.getAsLong();
+        this.orderRepository = orderRepository;
+        this.preload = preload;
+        int initialRows = Math.min(maxOrders, 1024);
+        this.index = new LongIntHashMap(initialRows);
+        this.ids = new long[initialRows];
+        this.prices = new double[initialRows];
+        this.statuses = new byte[initialRows];
+        this.nameCodes = new int[initialRows];
+        this.writtenAt = new int[initialRows];
+
+        Gauge.builder("orders.columnar.size", this, ColumnarOrderCache::size)
+                .register(meterRegistry);
+        Gauge.builder("orders.columnar.heap.bytes", this, ColumnarOrderCache::heapBytes)
+                .description("Estimated heap held by the columns, index and name dictionary")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("orders.columnar.heap.bytes_per_order", this, ColumnarOrderCache::bytesPerOrder)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("orders.columnar.baseline.bytes", this, ColumnarOrderCache::baselineBytes)
+                .description("Estimated heap of a HashMap<Long, Order> holding the same orders")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public OrderSnapshot get(Long id, Function<Long, OrderSnapshot> loader) {
+        OrderSnapshot snapshot = getIfPresent(id);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        int stripe = stripe(id);
+        long invalidationsBefore = invalidations.get(stripe);
+        snapshot = loader.apply(id);
+        if (snapshot != null && snapshot.id() != null) {
+            put(snapshot, false, stripe, invalidationsBefore);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public OrderSnapshot getIfPresent(Long id) {
+        long stamp = lock.tryOptimisticRead();
+        OrderSnapshot snapshot;
+        try {
+            snapshot = read(id);
+        } catch (RuntimeException torn) {
+            // Arrays swapped by a concurrent write - validate() fails below
+            snapshot = null;
+        }
+        if (lock.validate(stamp)) {
+            return snapshot;
+        }
+        stamp = lock.readLock();
+        try {
+            return read(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * A saved order replaces whatever was stored for its id
+     */
+    @Override
+    public void onWrite(OrderSnapshot snapshot) {
+        put(snapshot, true);
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        if (preloading) {
+            deletedDuringPreload.add(id);
+        }
+        long stamp = lock.writeLock();
+        try {
+            invalidations.incrementAndGet(stripe(id));
+            int row = index.remove(id);
+            if (row != LongIntHashMap.MISSING) {
+                if (freeCount == freeRows.length) {
+                    freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+                }
+                freeRows[freeCount++] = row;
+                nameBytesInBaseline -= baselineNameBytes(nameCodes[row]);
+                releaseName(nameCodes[row]);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Estimated heap of columns (allocated capacity), index and dictionary
+     */
+    public long heapBytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) ids.length * ROW_BYTES
+                    + (long) index.capacity() * INDEX_ENTRY_BYTES
+                    + (long) dictionary.length * 8
+                    + dictionaryBytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Distinct product names held
+     */
+    int dictionarySize() {
+        long stamp = lock.readLock();
+        try {
+            return dictionaryCodes.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public double bytesPerOrder() {
+        int size = size();
+        return size == 0 ? 0 : heapBytes() / (double) size;
+    }
+
+    /**
+     * Estimated heap of a HashMap<Long, Order> of detached entities with the same content
+     */
+    public long baselineBytes() {
+        long stamp = lock.readLock();
+        try {
+            return (long) index.size() * BASELINE_ENTRY_BYTES + nameBytesInBaseline;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!preload || orderRepository == null) {
+            return;
+        }
+        Thread loader = new Thread(this::preload, "order-columnar-preload");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Page every order in from the repository (keyset pages, no long-running transaction)
+     */
+    void preload() {
+        preloading = true;
+        long started = System.nanoTime();
+        try {
+            long afterId = Long.MIN_VALUE;
+            List<Order> page;
+            do {
+                page = orderRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(PRELOAD_PAGE));
+                for (Order order : page) {
+                    if (!deletedDuringPreload.contains(order.getId())) {
+                        put(OrderSnapshot.from(order), false);
+                    }
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == PRELOAD_PAGE && size() < maxOrders);
+            log.info("Columnar order store preloaded {} orders in {} ms: {} bytes/order vs ~{} for HashMap<Long, Order>",
+                    size(), (System.nanoTime() - started) / 1_000_000, Math.round(bytesPerOrder()),
+                    size() == 0 ? 0 : baselineBytes() / size());
+        } catch (RuntimeException ex) {
+            log.error("Columnar order store preload failed after {} orders - misses load on demand", size(), ex);
+        } finally {
+            preloading = false;
+            deletedDuringPreload.clear();
+        }
+    }
+
+    private OrderSnapshot read(Long id) {
+        int row = index.get(id);
+        if (row == LongIntHashMap.MISSING || expired(row)) {
+            return null;
+        }
+        double price = prices[row];
+        byte status = statuses[row];
+        int nameCode = nameCodes[row];
+        return new OrderSnapshot(ids[row],
+                nameCode < 0 ? null : dictionary[nameCode],
+                Double.isNaN(price) ? null : price,
+                status < 0 ? null : STATUSES[status]);
+    }
+
+    private void put(OrderSnapshot snapshot, boolean replace) {
+        if (snapshot == null || snapshot.id() == null) {
+            return;
+        }
+        put(snapshot, replace, stripe(snapshot.id()), -1);
+    }
+
+    /**
+     * @param replace false = keep an existing row (a loaded value never overwrites a newer write)
+     * @param invalidationsBefore the stripe's invalidation count before the load, -1 = store unconditionally
+     */
+    private void put(OrderSnapshot snapshot, boolean replace, int stripe, long invalidationsBefore) {
+        long stamp = lock.writeLock();
+        try {
+            // Counted under the write lock, like invalidate(): a delete either precedes the load or is seen here
+            if (invalidationsBefore >= 0 && invalidations.get(stripe) != invalidationsBefore) {
+                return;
+            }
+            int row = index.get(snapshot.id());
+            int previousNameCode = -1;
+            if (row != LongIntHashMap.MISSING) {
+                if (!replace && !expired(row)) {
+                    return;
+                }
+                nameBytesInBaseline -= baselineNameBytes(nameCodes[row]);
+                previousNameCode = nameCodes[row];
+            } else {
+                row = allocateRow();
+                if (row < 0) {
+                    return;
+                }
+                index.put(snapshot.id(), row);
+            }
+            ids[row] = snapshot.id();
+            prices[row] = snapshot.price() == null ? Double.NaN : snapshot.price();
+            statuses[row] = snapshot.status() == null ? -1 : (byte) snapshot.status().ordinal();
+            // Encode before releasing: an unchanged name keeps its entry
+            nameCodes[row] = encodeName(snapshot.productName());
+            releaseName(previousNameCode);
+            writtenAt[row] = now();
+            nameBytesInBaseline += baselineNameBytes(nameCodes[row]);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Expired rows stay allocated until the reload after the miss replaces them, or an invalidation frees them
+     */
+    private boolean expired(int row) {
+        return expireAfterWriteSeconds > 0 && now() - writtenAt[row] >= expireAfterWriteSeconds;
+    }
+
+    private int now() {
+        return (int) ((nanoClock.getAsLong() - createdAt) / 1_000_000_000L);
+    }
+
+    private static int stripe(long id) {
+        return (int) (id ^ (id >>> 32)) & (INVALIDATION_STRIPES - 1);
+    }
+
+    /**
+     * @return a free row, or -1 when max-orders rows are in use
+     */
+    private int allocateRow() {
+        if (freeCount > 0) {
+            return freeRows[--freeCount];
+        }
+        if (rows == maxOrders) {
+            return -1;
+        }
+        if (rows == ids.length) {
+            int capacity = (int) Math.min(maxOrders, ids.length * 2L);
+            ids = Arrays.copyOf(ids, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            nameCodes = Arrays.copyOf(nameCodes, capacity);
+            writtenAt = Arrays.copyOf(writtenAt, capacity);
+        }
+        return rows++;
+    }
+
+    /**
+     * @return the name's code, with one more reference counted for it
+     */
+    private int encodeName(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer code = dictionaryCodes.get(name);
+        if (code != null) {
+            nameReferences[code]++;
+            return code;
+        }
+        int newCode;
+        if (freeNameCount > 0) {
+            newCode = freeNameCodes[--freeNameCount];
+        } else {
+            newCode = nameCodeLimit++;
+            if (newCode == dictionary.length) {
+                dictionary = Arrays.copyOf(dictionary, newCode * 2);
+                nameReferences = Arrays.copyOf(nameReferences, newCode * 2);
+            }
+        }
+        dictionary[newCode] = name;
+        nameReferences[newCode] = 1;
+        dictionaryCodes.put(name, newCode);
+        dictionaryBytes += DICTIONARY_ENTRY_BYTES + stringBytes(name);
+        return newCode;
+    }
+
+    /**
+     * Drop one reference; the last one removes the name and frees its code
+     */
+    private void releaseName(int nameCode) {
+        if (nameCode < 0 || --nameReferences[nameCode] > 0) {
+            return;
+        }
+        String name = dictionary[nameCode];
+        dictionary[nameCode] = null;
+        dictionaryCodes.remove(name);
+        dictionaryBytes -= DICTIONARY_ENTRY_BYTES + stringBytes(name);
+        if (freeNameCount == freeNameCodes.length) {
+            freeNameCodes = Arrays.copyOf(freeNameCodes, freeNameCount * 2);
+        }
+        freeNameCodes[freeNameCount++] = nameCode;
+    }
+
+    /**
+     * Every entity in the baseline holds its own copy of the name
+     */
+    private long baselineNameBytes(int nameCode) {
+        return nameCode < 0 ? 0 : stringBytes(dictionary[nameCode]);
+    }
+
+    /**
+     * byte[] of a compact (Latin-1) or UTF-16 string, header included, 8-byte aligned
+     */
+    private static long stringBytes(String value) {
+        int length = value.length();
+        boolean latin1 = true;
+        for (int i = 0; i < length && latin1; i++) {
+            latin1 = value.charAt(i) < 256;
+        }
+        long arrayBytes = 16L + (latin1 ? length : length * 2L);
+        return (arrayBytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.order_management.service.cache;
+
+/**
+ * long → int open-addressing map on two primitive arrays - no Long keys, no Integer values, no nodes
+ *
+ * Linear probing; removals shift the following entries back, so there are no tombstones.
+ * Not thread-safe - ColumnarOrderCache guards it with its lock.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+    private static final double MAX_LOAD = 0.6;
+
+    private long[] keys;
+    // value + 1, so 0 marks an empty entry
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap(int expectedEntries) {
+        int capacity = Integer.highestOneBit((int) Math.ceil(Math.max(16, expectedEntries) / MAX_LOAD) - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    int get(long key) {
+        for (int index = indexFor(key, mask); ; index = (index + 1) & mask) {
+            int stored = values[index];
+            if (stored == 0) {
+                return MISSING;
+            }
+            if (keys[index] == key) {
+                return stored - 1;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (size + 1 > keys.length * MAX_LOAD) {
+            resize(keys.length * 2);
+        }
+        for (int index = indexFor(key, mask); ; index = (index + 1) & mask) {
+            if (values[index] == 0) {
+                keys[index] = key;
+                values[index] = value + 1;
+                size++;
+                return;
+            }
+            if (keys[index] == key) {
+                values[index] = value + 1;
+                return;
+            }
+        }
+    }
+
+    int remove(long key) {
+        int index = indexFor(key, mask);
+        while (values[index] != 0 && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        if (values[index] == 0) {
+            return MISSING;
+        }
+        int removed = values[index] - 1;
+        int hole = index;
+        for (int next = (hole + 1) & mask; values[next] != 0; next = (next + 1) & mask) {
+            int home = indexFor(keys[next], mask);
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        values[hole] = 0;
+        size--;
+        return removed;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[newCapacity];
+        values = new int[newCapacity];
+        mask = newCapacity - 1;
+        size = 0;
+        for (int index = 0; index < oldKeys.length; index++) {
+            if (oldValues[index] != 0) {
+                put(oldKeys[index], oldValues[index] - 1);
+            }
+        }
+    }
+
+    private static int indexFor(long key, int mask) {
+        // murmur3 finalizer - time-ordered ids differ mostly in their low bits
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
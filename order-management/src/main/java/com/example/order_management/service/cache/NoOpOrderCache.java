@@ -0,0 +1,24 @@
+package com.example.order_management.service.cache;
+
+import java.util.function.Function;
+
+/**
+ * Cache disabled: every read goes to the loader
+ */
+public class NoOpOrderCache implements OrderCache {
+
+    @Override
+    public OrderSnapshot get(Long id, Function<Long, OrderSnapshot> loader) {
+        return loader.apply(id);
+    }
+
+    @Override
+    public OrderSnapshot getIfPresent(Long id) {
+        return null;
+    }
+
+    @Override
+    public void invalidate(Long id) {
+        // nothing cached
+    }
+}
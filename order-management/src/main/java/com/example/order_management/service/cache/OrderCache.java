@@ -0,0 +1,28 @@
+package com.example.order_management.service.cache;
+
+import java.util.function.Function;
+
+/**
+ * Read-through cache in front of OrderService.getOrderById
+ */
+public interface OrderCache {
+
+    /**
+     * @return the cached snapshot, or the one produced by the loader (which may throw)
+     */
+    OrderSnapshot get(Long id, Function<Long, OrderSnapshot> loader);
+
+    /**
+     * @return the cached snapshot, or null - never loads
+     */
+    OrderSnapshot getIfPresent(Long id);
+
+    void invalidate(Long id);
+
+    /**
+     * Called with every saved order - caches that mirror the table keep it, the rest drop any stale entry
+     */
+    default void onWrite(OrderSnapshot snapshot) {
+        invalidate(snapshot.id());
+    }
+}
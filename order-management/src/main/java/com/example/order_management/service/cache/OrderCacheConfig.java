@@ -0,0 +1,57 @@
+package com.example.order_management.service.cache;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.repository.OrderStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * Order cache selection
+ *
+ * app.cache.orders.enabled=true        → CaffeineOrderCache (app.cache.orders.type=caffeine, default)
+ * app.cache.orders.maximum-size=10000
+ * app.cache.orders.ttl=5m
+ *
+ * app.cache.orders.type=columnar       → ColumnarOrderCache (read replicas)
+ * app.cache.orders.columnar.max-orders=5000000
+ * app.cache.orders.columnar.preload=false
+ * app.cache.orders.columnar.expire-after-write=5m   bounds staleness from writes on other nodes, 0 = never
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+public class OrderCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.orders.enabled", havingValue = "true")
+    @ConditionalOnProperty(name = "app.cache.orders.type", havingValue = "caffeine", matchIfMissing = true)
+    public OrderCache caffeineOrderCache(
+            @Value("${app.cache.orders.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.orders.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        return new CaffeineOrderCache(maximumSize, ttl, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.orders.enabled", havingValue = "true")
+    @ConditionalOnProperty(name = "app.cache.orders.type", havingValue = "columnar")
+    public ColumnarOrderCache columnarOrderCache(
+            OrderStore orderRepository,
+            @Value("${app.cache.orders.columnar.max-orders:5000000}") int maxOrders,
+            @Value("${app.cache.orders.columnar.preload:false}") boolean preload,
+            @Value("${app.cache.orders.columnar.expire-after-write:5m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        return new ColumnarOrderCache(maxOrders, expireAfterWrite, orderRepository, preload, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.orders.enabled", havingValue = "false", matchIfMissing = true)
+    public OrderCache noOpOrderCache() {
+        return new NoOpOrderCache();
+    }
+}
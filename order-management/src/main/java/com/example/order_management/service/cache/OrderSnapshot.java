@@ -0,0 +1,25 @@
+package com.example.order_management.service.cache;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+
+/**
+ * Immutable read snapshot of an Order
+ * 🔹 WHY? Caches must never hold managed JPA entities - a snapshot is detached by
+ * construction, and every read hands out a fresh Order copy
+ */
+public record OrderSnapshot(Long id, String productName, Double price, OrderStatus status) {
+
+    public static OrderSnapshot from(Order order) {
+        return new OrderSnapshot(order.getId(), order.getProductName(), order.getPrice(), order.getStatus());
+    }
+
+    public Order toOrder() {
+        Order order = new Order();
+        order.setId(id);
+        order.setProductName(productName);
+        order.setPrice(price);
+        order.setStatus(status);
+        return order;
+    }
+}
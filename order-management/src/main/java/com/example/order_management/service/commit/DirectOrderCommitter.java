@@ -0,0 +1,21 @@
+package com.example.order_management.service.commit;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.repository.OrderStore;
+
+/**
+ * Group commit disabled - every createOrder commits its own transaction
+ */
+public class DirectOrderCommitter implements OrderCommitter {
+
+    private final OrderStore orderRepository;
+
+    public DirectOrderCommitter(OrderStore orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public Order save(Order order) {
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.order_management.service.commit;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.repository.OrderStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for concurrent createOrder calls
+ *
+ * 🔹 WHY?
+ * Hundreds of concurrent creates each paying for their own transaction and commit round trip
+ * saturate the connection pool long before the database runs out of insert capacity.
+ *
+ * 🔹 HOW?
+ * Callers enqueue their order and block on their own future. A committer thread takes the first
+ * waiting order, keeps collecting for up to window (or until max-batch orders), then saves the
+ * whole group with saveAll in one transaction - one JDBC batch (hibernate.jdbc.batch_size), one commit.
+ * Under load the queue already holds a full batch and the window is never waited out.
+ *
+ * 🔹 FAILURES: if the group transaction fails, every order in it is retried in its own transaction,
+ * so one bad order fails only its own caller - everyone else still gets their saved order.
+ *
+ * Metrics: orders.group_commit.latency (caller wait, with p50/p99), orders.group_commit.commits,
+ * orders.group_commit.batch_size, orders.group_commit.fallbacks
+ */
+public class GroupOrderCommitter implements OrderCommitter, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupOrderCommitter.class);
+
+    private final OrderStore orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final int committers;
+
+    private final BlockingQueue<PendingOrder> queue = new LinkedBlockingQueue<>();
+
+    private final Timer latencyTimer;
+    private final Counter commitCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter fallbackCounter;
+
+    private volatile boolean running;
+    private final List<Thread> threads = new ArrayList<>();
+
+    public GroupOrderCommitter(OrderStore orderRepository, TransactionTemplate transactionTemplate,
+                               Duration window, int maxBatch, int committers,
+                               MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.windowNanos = window.toNanos();
+        this.maxBatch = maxBatch;
+        this.committers = committers;
+
+        this.latencyTimer = Timer.builder("orders.group_commit.latency")
+                .description("Time a createOrder caller waits for its group to commit")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitCounter = Counter.builder("orders.group_commit.commits")
+                .description("Committed group transactions")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("orders.group_commit.batch_size")
+                .description("Orders per group commit")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("orders.group_commit.fallbacks")
+                .description("Groups retried order by order after the group transaction failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Order save(Order order) {
+        if (!running) {
+            throw new IllegalStateException("Group committer is not running");
+        }
+        long start = System.nanoTime();
+        PendingOrder pending = enqueue(order);
+        try {
+            return pending.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        } finally {
+            latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Queue the order unless stop() began after the running check - its last drain may already be done,
+     * and nothing would ever complete the order
+     */
+    PendingOrder enqueue(Order order) {
+        PendingOrder pending = new PendingOrder(order);
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException("Group committer is not running");
+        }
+        // Still queued while stopping: a committer or the final drain in stop() takes it
+        return pending;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < committers; i++) {
+            Thread thread = new Thread(this::commitLoop, "order-group-committer-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    @Override
+    public void stop() {
+        // Committers finish the queue, then exit within one poll timeout
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        threads.clear();
+        // Orders queued before running was cleared that the committers did not reach;
+        // anything queued after this drain is taken back by enqueue()
+        List<PendingOrder> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (!leftovers.isEmpty()) {
+            commit(leftovers);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Before the web server starts, after it stops - in-flight requests still get their commit
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void commitLoop() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (!collect(batch)) {
+                    continue;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                if (batch.isEmpty()) {
+                    return;
+                }
+            }
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Wait for the first order, then gather more until the window closes or the batch is full
+     *
+     * @return false if nothing arrived
+     */
+    boolean collect(List<PendingOrder> batch) throws InterruptedException {
+        PendingOrder first = running ? queue.poll(1, TimeUnit.SECONDS) : queue.poll();
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatch) {
+            queue.drainTo(batch, maxBatch - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatch || remaining <= 0) {
+                break;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    void commit(List<PendingOrder> batch) {
+        List<Order> orders = new ArrayList<>(batch.size());
+        for (PendingOrder pending : batch) {
+            orders.add(pending.order);
+        }
+        try {
+            List<Order> savedOrders;
+            try {
+                savedOrders = transactionTemplate.execute(status -> orderRepository.saveAll(orders));
+            } catch (RuntimeException ex) {
+                fallbackCounter.increment();
+                log.warn("Group commit of {} orders failed, retrying one by one: {}", batch.size(), ex.getMessage());
+                commitIndividually(batch);
+                return;
+            }
+            commitCounter.increment();
+            batchSizeSummary.record(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(savedOrders.get(i));
+            }
+        } finally {
+            // Never leave a caller blocked (e.g. an Error escaped the transaction)
+            for (PendingOrder pending : batch) {
+                pending.result.completeExceptionally(new IllegalStateException("Group commit aborted"));
+            }
+        }
+    }
+
+    private void commitIndividually(List<PendingOrder> batch) {
+        for (PendingOrder pending : batch) {
+            try {
+                Order saved = transactionTemplate.execute(status -> orderRepository.save(pending.order));
+                commitCounter.increment();
+                batchSizeSummary.record(1);
+                pending.result.complete(saved);
+            } catch (RuntimeException | Error ex) {
+                pending.result.completeExceptionally(ex);
+            }
+        }
+    }
+
+    /**
+     * One caller's order and the future its thread is blocked on
+     */
+    static final class PendingOrder {
+        private final Order order;
+        private final CompletableFuture<Order> result = new CompletableFuture<>();
+
+        PendingOrder(Order order) {
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.order_management.service.commit;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.repository.OrderStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Order commit strategy
+ *
+ * app.orders.group-commit.enabled=false   → DirectOrderCommitter (one transaction per createOrder)
+ * app.orders.group-commit.enabled=true    → GroupOrderCommitter
+ * app.orders.group-commit.window=2ms      max time the first order of a group waits for company
+ * app.orders.group-commit.max-batch=50    orders per group (keep at or below hibernate.jdbc.batch_size)
+ * app.orders.group-commit.committers=2    groups committed in parallel (connections held)
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+public class OrderCommitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.orders.group-commit.enabled", havingValue = "true")
+    public GroupOrderCommitter groupOrderCommitter(
+            OrderStore orderRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.orders.group-commit.window:2ms}") Duration window,
+            @Value("${app.orders.group-commit.max-batch:50}") int maxBatch,
+            @Value("${app.orders.group-commit.committers:2}") int committers,
+            MeterRegistry meterRegistry) {
+        return new GroupOrderCommitter(orderRepository, new TransactionTemplate(transactionManager),
+                window, maxBatch, committers, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.orders.group-commit.enabled", havingValue = "false", matchIfMissing = true)
+    public OrderCommitter directOrderCommitter(OrderStore orderRepository) {
+        return new DirectOrderCommitter(orderRepository);
+    }
+}
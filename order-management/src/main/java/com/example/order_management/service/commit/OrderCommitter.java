@@ -0,0 +1,17 @@
+package com.example.order_management.service.commit;
+
+import com.example.order_management.entity.Order;
+
+/**
+ * Persists a single new order for OrderServiceImpl.createOrder
+ *
+ * DirectOrderCommitter → one transaction per order (default)
+ * GroupOrderCommitter  → concurrent creates share one transaction and one JDBC batch
+ */
+public interface OrderCommitter {
+
+    /**
+     * @return the saved order - or the exception of this order's own insert
+     */
+    Order save(Order order);
+}
@@ -0,0 +1,86 @@
+package com.example.order_management.service.impl;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.ExportFormat;
+import com.example.order_management.mapper.OrderMapper;
+import com.example.order_management.repository.OrderStore;
+import com.example.order_management.service.OrderExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Order export on the embedded store - same formats and error trailer as OrderExportServiceImpl
+ *
+ * 🔹 HOW: keyset pages of fetch-size orders (no JPA cursor here); the store's lock is only held
+ * while a page is read, never while a slow client is being written to.
+ */
+@Service
+@Profile(AppProfiles.EMBEDDED_STORE)
+public class EmbeddedOrderExportServiceImpl implements OrderExportService {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(EmbeddedOrderExportServiceImpl.class);
+
+    private final OrderStore orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderExportWriter writer;
+    private final int fetchSize;
+
+    public EmbeddedOrderExportServiceImpl(OrderStore orderRepository,
+                                          OrderMapper orderMapper,
+                                          ObjectMapper objectMapper,
+                                          @Value("${app.orders.export.fetch-size:1000}") int fetchSize) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.writer = new OrderExportWriter(objectMapper);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void exportOrders(ExportFormat format, OutputStream out, String path) throws IOException {
+        writer.writeHeader(format, out);
+        try {
+            long rows = writeRows(format, out);
+            out.flush();
+            log.info("Exported {} orders as {}", rows, format);
+        } catch (UncheckedIOException ex) {
+            log.warn("Order export aborted by client: {}", ex.getCause().getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Order export failed at {}: {}", path, ex.getMessage(), ex);
+            writer.writeErrorTrailer(format, out, path);
+        }
+    }
+
+    private long writeRows(ExportFormat format, OutputStream out) {
+        long rows = 0;
+        long afterId = Long.MIN_VALUE;
+        try {
+            List<Order> page;
+            do {
+                page = orderRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(fetchSize));
+                for (Order order : page) {
+                    writer.writeRow(format, orderMapper.toDTO(order), out);
+                }
+                rows += page.size();
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                    out.flush();
+                }
+            } while (page.size() == fetchSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return rows;
+    }
+}
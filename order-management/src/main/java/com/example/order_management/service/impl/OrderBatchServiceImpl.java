@@ -0,0 +1,211 @@
+package com.example.order_management.service.impl;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.dto.BatchDeleteResponseDTO;
+import com.example.order_management.dto.BatchOrderItemResultDTO;
+import com.example.order_management.dto.BatchOrderResponseDTO;
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.entity.Order;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.custom.BusinessException;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.global.ErrorStatusResolver;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.exception.model.AppConstants;
+import com.example.order_management.mapper.OrderMapper;
+import com.example.order_management.service.OrderBatchService;
+import com.example.order_management.service.OrderService;
+import com.example.order_management.validation.DtoValidator;
+import com.example.order_management.validation.DtoValidators;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk order creation with per-item error reporting, and bulk delete
+ *
+ * 🔹 FLOW:
+ * 1. Every item is validated - invalid items get a VALIDATION_FAILED ApiError
+ * 2. Valid items are persisted in chunks, one transaction per chunk (OrderService.createOrders)
+ * 3. A failed chunk is retried one order at a time (OrderService.createOrder, own transaction each),
+ *    so one bad item fails alone - the rest of its chunk and of the batch is kept
+ *
+ * 🔹 DELETE: distinct ids in chunks, one transaction per chunk (OrderService.deleteOrders).
+ * A failed chunk is rolled back and its ids reported in failedIds - the other chunks are kept, so the
+ * response says exactly what was deleted instead of a 500 after earlier chunks committed.
+ */
+@Service
+@Profile(AppProfiles.SERVLET)
+public class OrderBatchServiceImpl implements OrderBatchService {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(OrderBatchServiceImpl.class);
+
+    // @GenerateValidator output - same checks and messages as Bean Validation, without reflection
+    private static final DtoValidator<OrderRequestDTO> GENERATED_VALIDATOR =
+            DtoValidators.forType(OrderRequestDTO.class);
+
+    private final OrderService orderService;
+    private final OrderMapper orderMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public OrderBatchServiceImpl(OrderService orderService,
+                                 OrderMapper orderMapper,
+                                 Validator validator,
+                                 @Value("${app.orders.batch.chunk-size:100}") int chunkSize,
+                                 @Value("${app.orders.batch.max-items:1000}") int maxItems) {
+        this.orderService = orderService;
+        this.orderMapper = orderMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public BatchOrderResponseDTO createOrders(List<OrderRequestDTO> orderDTOs, String path) {
+        if (orderDTOs == null || orderDTOs.isEmpty() || orderDTOs.size() > maxItems) {
+            throw new ValidationException("orders", "must contain between 1 and " + maxItems + " items");
+        }
+
+        BatchOrderItemResultDTO[] results = new BatchOrderItemResultDTO[orderDTOs.size()];
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        List<Order> chunk = new ArrayList<>(chunkSize);
+
+        for (int index = 0; index < orderDTOs.size(); index++) {
+            String violation = firstViolation(orderDTOs.get(index));
+            if (violation != null) {
+                results[index] = new BatchOrderItemResultDTO(index, null, new ApiError(
+                        AppConstants.BAD_REQUEST, ErrorCodes.VALIDATION_FAILED, violation, ErrorType.VALIDATION, path));
+                continue;
+            }
+            chunkIndexes.add(index);
+            chunk.add(orderMapper.toEntity(orderDTOs.get(index)));
+            if (chunk.size() == chunkSize) {
+                persistChunk(chunk, chunkIndexes, results, path);
+            }
+        }
+        persistChunk(chunk, chunkIndexes, results, path);
+
+        return toResponse(results);
+    }
+
+    @Override
+    public BatchDeleteResponseDTO deleteOrders(List<Long> ids, String path) {
+        if (ids == null || ids.isEmpty() || ids.size() > maxItems) {
+            throw new ValidationException("ids", "must contain between 1 and " + maxItems + " ids");
+        }
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        List<Long> missingIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        ApiError error = null;
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            try {
+                missingIds.addAll(orderService.deleteOrders(chunk));
+            } catch (RuntimeException ex) {
+                log.warn("Batch delete chunk of {} ids failed at {}: {}", chunk.size(), path, ex.getMessage());
+                failedIds.addAll(chunk);
+                if (error == null) {
+                    error = itemError(ex, path);
+                }
+            }
+        }
+
+        BatchDeleteResponseDTO response = new BatchDeleteResponseDTO();
+        response.setRequested(distinctIds.size());
+        response.setDeleted(distinctIds.size() - missingIds.size() - failedIds.size());
+        response.setMissingIds(missingIds);
+        response.setFailedIds(failedIds);
+        response.setError(error);
+        return response;
+    }
+
+    private void persistChunk(List<Order> chunk, List<Integer> chunkIndexes,
+                              BatchOrderItemResultDTO[] results, String path) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            List<Order> savedOrders = orderService.createOrders(chunk);
+            for (int i = 0; i < savedOrders.size(); i++) {
+                int index = chunkIndexes.get(i);
+                results[index] = new BatchOrderItemResultDTO(index, orderMapper.toDTO(savedOrders.get(i)), null);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Batch chunk of {} orders failed at {}, retrying one by one: {}", chunk.size(), path,
+                    ex.getMessage());
+            persistIndividually(chunk, chunkIndexes, results, path);
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    private void persistIndividually(List<Order> chunk, List<Integer> chunkIndexes,
+                                     BatchOrderItemResultDTO[] results, String path) {
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunkIndexes.get(i);
+            try {
+                Order savedOrder = orderService.createOrder(chunk.get(i));
+                results[index] = new BatchOrderItemResultDTO(index, orderMapper.toDTO(savedOrder), null);
+            } catch (RuntimeException ex) {
+                log.error("Batch item {} failed at {}: {}", index, path, ex.getMessage(), ex);
+                results[index] = new BatchOrderItemResultDTO(index, null, itemError(ex, path));
+            }
+        }
+    }
+
+    /**
+     * Same status, code and message as a single create (or delete) failing the same way: a BusinessException
+     * keeps its own, anything else is a DATABASE_ERROR
+     */
+    private static ApiError itemError(RuntimeException ex, String path) {
+        if (ex instanceof BusinessException business) {
+            return new ApiError(ErrorStatusResolver.resolve(business).value(), business.getErrorCode(),
+                    business.getMessage(), business.getErrorType(), path);
+        }
+        return new ApiError(ErrorStatusResolver.resolve(ErrorCodes.DATABASE_ERROR, ErrorType.SYSTEM).value(),
+                ErrorCodes.DATABASE_ERROR, ErrorMessages.DATABASE_ERROR, ErrorType.SYSTEM, path);
+    }
+
+    /**
+     * Same "field: message" format as GlobalExceptionHandler.handleValidationException
+     */
+    private String firstViolation(OrderRequestDTO orderDTO) {
+        if (orderDTO == null) {
+            return "order: must not be null";
+        }
+        if (GENERATED_VALIDATOR != null) {
+            return GENERATED_VALIDATOR.firstViolation(orderDTO);
+        }
+        Set<ConstraintViolation<OrderRequestDTO>> violations = validator.validate(orderDTO);
+        return violations.stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .orElse(null);
+    }
+
+    private BatchOrderResponseDTO toResponse(BatchOrderItemResultDTO[] results) {
+        BatchOrderResponseDTO response = new BatchOrderResponseDTO();
+        int failed = (int) Arrays.stream(results).filter(result -> result.getError() != null).count();
+        response.setTotal(results.length);
+        response.setSucceeded(results.length - failed);
+        response.setFailed(failed);
+        response.setResults(Arrays.asList(results));
+        return response;
+    }
+}
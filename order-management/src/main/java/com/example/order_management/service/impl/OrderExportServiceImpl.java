@@ -0,0 +1,102 @@
+package com.example.order_management.service.impl;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.ExportFormat;
+import com.example.order_management.mapper.OrderMapper;
+import com.example.order_management.service.OrderExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Constant-memory export of the orders table
+ *
+ * 🔹 HOW:
+ * - forward-only cursor with a configurable JDBC fetch size (MySQL needs useCursorFetch=true)
+ * - read-only entities, persistence context cleared every fetch-size rows
+ * - rows written straight to the response stream, flushed per fetch
+ *
+ * 🔹 ERRORS: once rows have been written the status code can no longer change -
+ * a failure mid-stream is reported as a trailer record (NDJSON: {"error":ApiError},
+ * CSV: #error,errorCode,message) instead of a truncated or corrupted body.
+ */
+@Service
+@Profile(AppProfiles.JPA)
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(OrderExportServiceImpl.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final OrderMapper orderMapper;
+    private final OrderExportWriter writer;
+    private final int fetchSize;
+
+    public OrderExportServiceImpl(PlatformTransactionManager transactionManager,
+                                  OrderMapper orderMapper,
+                                  ObjectMapper objectMapper,
+                                  @Value("${app.orders.export.fetch-size:1000}") int fetchSize) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.orderMapper = orderMapper;
+        this.writer = new OrderExportWriter(objectMapper);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void exportOrders(ExportFormat format, OutputStream out, String path) throws IOException {
+        writer.writeHeader(format, out);
+        try {
+            Long rows = readOnlyTransaction.execute(status -> streamRows(format, out));
+            out.flush();
+            log.info("Exported {} orders as {}", rows, format);
+        } catch (UncheckedIOException ex) {
+            // Client went away - nothing left to report to
+            log.warn("Order export aborted by client: {}", ex.getCause().getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Order export failed at {}: {}", path, ex.getMessage(), ex);
+            writer.writeErrorTrailer(format, out, path);
+        }
+    }
+
+    private long streamRows(ExportFormat format, OutputStream out) {
+        long rows = 0;
+        try (Stream<Order> orders = entityManager
+                .createQuery("select o from Order o order by o.id", Order.class)
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(format, orderMapper.toDTO(iterator.next()), out);
+                if (++rows % fetchSize == 0) {
+                    entityManager.clear();
+                    out.flush();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return rows;
+    }
+}
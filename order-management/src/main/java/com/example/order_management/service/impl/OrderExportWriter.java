@@ -0,0 +1,71 @@
+package com.example.order_management.service.impl;
+
+import com.example.order_management.dto.OrderResponseDTO;
+import com.example.order_management.enums.ExportFormat;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.exception.model.AppConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NDJSON / CSV encoding of exported orders, shared by every export implementation
+ */
+final class OrderExportWriter {
+
+    private static final byte[] NEWLINE = {'\n'};
+    private static final String CSV_HEADER = "id,productName,price,status\n";
+
+    private final ObjectMapper objectMapper;
+
+    OrderExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    void writeHeader(ExportFormat format, OutputStream out) throws IOException {
+        if (format == ExportFormat.CSV) {
+            out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    void writeRow(ExportFormat format, OrderResponseDTO dto, OutputStream out) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            out.write(objectMapper.writeValueAsBytes(dto));
+            out.write(NEWLINE);
+        } else {
+            String row = dto.getId() + "," + csv(dto.getProductName()) + "," + dto.getPrice() + ","
+                    + dto.getStatus() + "\n";
+            out.write(row.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    void writeErrorTrailer(ExportFormat format, OutputStream out, String path) throws IOException {
+        ApiError apiError = new ApiError(AppConstants.INTERNAL_ERROR, ErrorCodes.DATABASE_ERROR,
+                ErrorMessages.DATABASE_ERROR, ErrorType.SYSTEM, path);
+        if (format == ExportFormat.NDJSON) {
+            out.write("{\"error\":".getBytes(StandardCharsets.UTF_8));
+            out.write(objectMapper.writeValueAsBytes(apiError));
+            out.write('}');
+            out.write(NEWLINE);
+        } else {
+            out.write(("#error," + apiError.getErrorCode() + "," + csv(apiError.getMessage()) + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        out.flush();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,33 +1,302 @@
 package com.example.order_management.service.impl;
 
+import com.example.order_management.config.AppProfiles;
 import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.custom.InvalidOrderStatusException;
+import com.example.order_management.exception.custom.OrderPendingException;
 import com.example.order_management.exception.custom.ResourceNotFoundException;
-import com.example.order_management.repository.OrderRepository;
+import com.example.order_management.repository.OrderStore;
 import com.example.order_management.service.OrderService;
+import com.example.order_management.service.cache.OrderCache;
+import com.example.order_management.service.cache.OrderSnapshot;
+import com.example.order_management.service.commit.OrderCommitter;
+import com.example.order_management.service.journal.OrderWriteBehind;
+import com.example.order_management.service.lookup.OrderExistenceFilter;
+import com.example.order_management.service.stats.OrderStatistics;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Profile(AppProfiles.SERVLET)
 public class OrderServiceImpl implements OrderService {
 
-    private final OrderRepository orderRepository;
+    private final OrderStore orderRepository;
+    private final OrderCache orderCache;
+    private final OrderExistenceFilter existenceFilter;
+    private final OrderWriteBehind orderWriteBehind;
+    private final OrderCommitter orderCommitter;
+    private final OrderStatistics orderStatistics;
 
-    public OrderServiceImpl(OrderRepository orderRepository){
+    public OrderServiceImpl(OrderStore orderRepository,
+                            OrderCache orderCache,
+                            OrderExistenceFilter existenceFilter,
+                            OrderWriteBehind orderWriteBehind,
+                            OrderCommitter orderCommitter,
+                            OrderStatistics orderStatistics){
         this.orderRepository = orderRepository;
+        this.orderCache = orderCache;
+        this.existenceFilter = existenceFilter;
+        this.orderWriteBehind = orderWriteBehind;
+        this.orderCommitter = orderCommitter;
+        this.orderStatistics = orderStatistics;
     }
 
     @Override
     public Order getOrderById(Long id) {
-      return orderRepository.findById(id).orElseThrow(()-> new ResourceNotFoundException("Order", id));
+        // Accepted but not yet flushed to the database (write-behind mode)
+        Order pending = orderWriteBehind.findPending(id);
+        if (pending != null) {
+            return pending;
+        }
+        rejectIfDefinitelyMissing(id);
+        // Cached reads hand out a detached copy, never the managed entity
+        return orderCache.get(id, this::loadSnapshot).toOrder();
     }
 
     @Override
     public Order createOrder(Order order) {
-        return orderRepository.save(order);
+        OrderStatus status = order.getStatus();
+        orderStatistics.writeStarted(status);
+        try {
+            // Direct save, or shared with concurrent creates in one group commit
+            Order savedOrder = orderCommitter.save(order);
+            orderCache.onWrite(OrderSnapshot.from(savedOrder));
+            existenceFilter.recordCreated(savedOrder.getId());
+            orderStatistics.recordCreated(savedOrder);
+            return savedOrder;
+        } finally {
+            orderStatistics.writeFinished(status);
+        }
+    }
+
+    /**
+     * Write-behind: journaled now, inserted by the background flush, which then updates
+     * the cache and the statistics
+     */
+    @Override
+    public Order acceptOrder(Order order) {
+        return orderWriteBehind.accept(order);
+    }
+
+    /**
+     * One transaction, inserts sent as JDBC batches (hibernate.jdbc.batch_size)
+     */
+    @Override
+    @Transactional
+    public List<Order> createOrders(List<Order> orders) {
+        Runnable finishWrites = startWrites(orders.stream().map(Order::getStatus).toList());
+        try {
+            List<Order> savedOrders = orderRepository.saveAll(orders);
+            // Inserts are flushed at commit - a rolled-back batch must not reach the cache or the id filter
+            List<OrderSnapshot> snapshots = savedOrders.stream().map(OrderSnapshot::from).toList();
+            afterCommit(() -> {
+                snapshots.forEach(snapshot -> existenceFilter.recordCreated(snapshot.id()));
+                snapshots.forEach(orderCache::onWrite);
+                savedOrders.forEach(orderStatistics::recordCreated);
+            });
+            return savedOrders;
+        } finally {
+            finishWrites.run();
+        }
+    }
+
+    /**
+     * Checked against the transition table, then applied as a conditional UPDATE on the status that
+     * was read - a concurrent change makes it match 0 rows (409) instead of being overwritten
+     */
+    @Override
+    public Order changeStatus(Long id, OrderStatus status) {
+        rejectIfPending(id);
+        rejectIfDefinitelyMissing(id);
+        Order order = findOrder(id);
+        OrderStatus current = order.getStatus();
+        if (current == null || !current.canTransitionTo(status)) {
+            throw new InvalidOrderStatusException(id, current, status);
+        }
+        orderStatistics.writeStarted(current);
+        orderStatistics.writeStarted(status);
+        try {
+            if (orderRepository.updateStatus(id, current, status) == 0) {
+                orderCache.invalidate(id);
+                throw new InvalidOrderStatusException(id, current, status);
+            }
+            order.setStatus(status);
+            orderCache.onWrite(OrderSnapshot.from(order));
+            orderStatistics.recordStatusChange(order.getPrice(), current, status);
+            return order;
+        } finally {
+            orderStatistics.writeFinished(current);
+            orderStatistics.writeFinished(status);
+        }
     }
 
+    /**
+     * DELETE ... WHERE id = ? AND status = ? on the status the counters will be decremented for - taken
+     * from the cache, else one primary key read (which is also the 404). A 0 row count means the order
+     * was deleted or changed concurrently: it is read again, so the delete is always counted in the
+     * bucket it came from. Transitions never return to an earlier status, so this ends.
+     */
     @Override
     public void deleteOrder(Long id) {
-        Order order = getOrderById(id);
-        orderRepository.delete(order);
+        // Not in the table yet - the flush would bring it back
+        rejectIfPending(id);
+        rejectIfDefinitelyMissing(id);
+        OrderSnapshot current = orderCache.getIfPresent(id);
+        while (true) {
+            if (current == null) {
+                current = loadSnapshot(id);
+            }
+            OrderStatus status = current.status();
+            orderStatistics.writeStarted(status);
+            try {
+                int deleted = status == null
+                        ? orderRepository.deleteOrderById(id)
+                        : orderRepository.deleteOrderByIdAndStatus(id, status);
+                orderCache.invalidate(id);
+                if (deleted == 1) {
+                    existenceFilter.recordDeleted(id);
+                    orderStatistics.recordDeleted(status, current.price());
+                    return;
+                }
+            } finally {
+                orderStatistics.writeFinished(status);
+            }
+            current = null;
+        }
+    }
+
+    /**
+     * One transaction, ids probed with one SELECT and deleted with one DELETE ... WHERE id IN (...)
+     * (MySQL has no DELETE ... RETURNING, so the probe is what tells which ids were missing)
+     *
+     * @return the ids that did not exist
+     */
+    @Override
+    @Transactional
+    public List<Long> deleteOrders(Collection<Long> ids) {
+        ids.forEach(this::rejectIfPending);
+        List<Long> candidates = ids.stream().filter(id -> !existenceFilter.isDefinitelyMissing(id)).toList();
+        List<Long> present = candidates.isEmpty() ? List.of() : orderRepository.findExistingIds(candidates);
+        List<OrderSnapshot> cached = present.stream().map(orderCache::getIfPresent).toList();
+        Runnable finishWrites = startWrites(cached.stream().filter(Objects::nonNull).map(OrderSnapshot::status).toList());
+        try {
+            int deleted = present.isEmpty() ? 0 : orderRepository.deleteOrdersByIds(present);
+
+            Set<Long> presentIds = new HashSet<>(present);
+            List<Long> missing = new ArrayList<>(ids.size() - present.size());
+            for (Long id : ids) {
+                if (!presentIds.contains(id)) {
+                    missing.add(id);
+                }
+            }
+            // Counters follow once the deletes are committed
+            afterCommit(() -> {
+                present.forEach(orderCache::invalidate);
+                present.forEach(existenceFilter::recordDeleted);
+                missing.forEach(existenceFilter::recordMissing);
+                if (deleted == present.size()) {
+                    cached.forEach(this::recordDeleted);
+                } else {
+                    // Some were deleted concurrently between the probe and the DELETE, and counted by
+                    // that delete - which ones is unknown without DELETE ... RETURNING, so none are
+                    // counted here and the next stale check reconciles
+                    orderStatistics.markStale();
+                }
+            });
+            return missing;
+        } finally {
+            finishWrites.run();
+        }
+    }
+
+    private void recordDeleted(OrderSnapshot cached) {
+        if (cached != null) {
+            orderStatistics.recordDeleted(cached.status(), cached.price());
+        } else {
+            orderStatistics.markStale();
+        }
+    }
+
+    /**
+     * Keyset (seek) pagination - status may be null for all orders
+     */
+    @Override
+    public List<Order> listOrders(OrderStatus status, Long afterId, int limit) {
+        long after = afterId == null ? Long.MIN_VALUE : afterId;
+        return status == null
+                ? orderRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit))
+                : orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, after, Limit.of(limit));
+    }
+
+    /**
+     * Announce writes to OrderStatistics until the surrounding transaction has completed
+     * (after the afterCommit counter updates)
+     *
+     * @return to run in a finally - ends the writes when there is no transaction, else a no-op
+     */
+    private Runnable startWrites(List<OrderStatus> statuses) {
+        statuses.forEach(orderStatistics::writeStarted);
+        Runnable finish = () -> statuses.forEach(orderStatistics::writeFinished);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return finish;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                finish.run();
+            }
+        });
+        return () -> { };
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private OrderSnapshot loadSnapshot(Long id) {
+        return OrderSnapshot.from(findOrder(id));
+    }
+
+    private Order findOrder(Long id) {
+        return orderRepository.findById(id).orElseThrow(() -> {
+            existenceFilter.recordMissing(id);
+            return new ResourceNotFoundException("Order", id);
+        });
+    }
+
+    /**
+     * Accepted by write-behind but not flushed - 409 until it is in the database
+     */
+    private void rejectIfPending(Long id) {
+        if (orderWriteBehind.findPending(id) != null) {
+            throw new OrderPendingException(id);
+        }
+    }
+
+    private void rejectIfDefinitelyMissing(Long id) {
+        if (existenceFilter.isDefinitelyMissing(id)) {
+            throw new ResourceNotFoundException("Order", id);
+        }
     }
 }
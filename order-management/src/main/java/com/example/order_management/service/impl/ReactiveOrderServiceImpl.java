@@ -0,0 +1,61 @@
+package com.example.order_management.service.impl;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.entity.Order;
+import com.example.order_management.entity.id.TimeOrderedIdGenerator;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import com.example.order_management.repository.reactive.OrderRecord;
+import com.example.order_management.repository.reactive.ReactiveOrderRepository;
+import com.example.order_management.service.ReactiveOrderService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same behaviour as OrderServiceImpl on R2DBC - nothing here blocks the event loop
+ */
+@Service
+@Profile(AppProfiles.REACTIVE)
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+
+    private final ReactiveOrderRepository orderRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+
+    public ReactiveOrderServiceImpl(ReactiveOrderRepository orderRepository,
+                                    R2dbcEntityTemplate entityTemplate) {
+        this.orderRepository = orderRepository;
+        this.entityTemplate = entityTemplate;
+    }
+
+    @Override
+    public Mono<Order> getOrderById(Long id) {
+        return orderRepository.findById(id)
+                .map(OrderRecord::toOrder)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Order", id)));
+    }
+
+    /**
+     * Ids come from the same TimeOrderedIdGenerator the JPA stack uses
+     */
+    @Override
+    public Mono<Order> createOrder(Order order) {
+        if (order.getId() == null) {
+            order.setId(TimeOrderedIdGenerator.shared().nextId());
+        }
+        return entityTemplate.insert(OrderRecord.from(order))
+                .map(OrderRecord::toOrder);
+    }
+
+    @Override
+    public Flux<Order> listOrders(OrderStatus status, Long afterId, int limit) {
+        long after = afterId == null ? Long.MIN_VALUE : afterId;
+        Flux<OrderRecord> page = status == null
+                ? orderRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit))
+                : orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, after, Limit.of(limit));
+        return page.map(OrderRecord::toOrder);
+    }
+}
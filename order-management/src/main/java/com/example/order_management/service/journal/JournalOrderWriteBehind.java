@@ -0,0 +1,426 @@
+package com.example.order_management.service.journal;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.entity.id.TimeOrderedIdGenerator;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.custom.SharedBusinessException;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.service.cache.OrderCache;
+import com.example.order_management.service.cache.OrderSnapshot;
+import com.example.order_management.service.lookup.OrderExistenceFilter;
+import com.example.order_management.service.stats.OrderStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind ingestion: OrderJournal → pending buffer → batched JDBC flush
+ *
+ * 🔹 ACCEPT: id from TimeOrderedIdGenerator, append to the journal, wait for the group fsync,
+ * then 202. The order is in the pending buffer from the moment it is appended.
+ *
+ * 🔹 FLUSH: one background thread takes up to batch-size entries in journal order, inserts them
+ * in one transaction as a JDBC batch, checkpoints the journal and drops them from the buffer.
+ * ON DUPLICATE KEY UPDATE id = id makes a replayed entry that was already inserted (crash between
+ * commit and checkpoint) a no-op. Committed orders then reach the order cache and OrderStatistics,
+ * like a synchronous create.
+ * Which replayed entries were already there is read with a SELECT in the same transaction: the
+ * update counts can't tell - Connector/J reports found rows (1) by default, and SUCCESS_NO_INFO
+ * with rewriteBatchedStatements.
+ *
+ * 🔹 BAD ROWS: a row the database refuses (DataIntegrityViolationException - truncation, NOT NULL,
+ * bad enum value) fails its whole batch. The batch is then inserted row by row: the good rows
+ * are committed, and a row that fails on its own is appended to dead-letter.log in the journal
+ * directory, counted and dropped - it would fail on every retry and hold up every order behind it.
+ * Any other error (connection, timeout) leaves the rest of the batch queued for the next flush.
+ *
+ * 🔹 RESTART: entries after the last checkpoint are replayed into the buffer before the
+ * web server accepts requests (lifecycle phase 0 starts before, and stops after, the server).
+ *
+ * Metrics: orders.write_behind.pending, orders.write_behind.flush (timer per batch),
+ * orders.write_behind.flushed, orders.write_behind.flush.failures, orders.write_behind.dead_letters
+ */
+public class JournalOrderWriteBehind implements OrderWriteBehind, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalOrderWriteBehind.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO orders (id, product_name, price, status) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+    private static final String EXISTING_SQL = "SELECT id FROM orders WHERE id IN (%s)";
+    private static final String DEAD_LETTER_FILE = "dead-letter.log";
+
+    // What a flush did with an entry
+    private static final byte INSERTED = 0;
+    private static final byte ALREADY_INSERTED = 1;
+    private static final byte DEAD_LETTERED = 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderExistenceFilter existenceFilter;
+    private final OrderCache orderCache;
+    private final OrderStatistics orderStatistics;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxPending;
+
+    private final ConcurrentMap<Long, OrderSnapshot> pending = new ConcurrentHashMap<>();
+    private final Queue<OrderJournal.Entry> unflushed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failureCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile OrderJournal journal;
+    // Entries up to this position were replayed on startup and may already be in the database
+    private volatile long replayedThrough = -1;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public JournalOrderWriteBehind(Path directory, int segmentSize,
+                                   JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                   OrderExistenceFilter existenceFilter,
+                                   OrderCache orderCache, OrderStatistics orderStatistics,
+                                   int batchSize, Duration flushInterval, int maxPending,
+                                   MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.existenceFilter = existenceFilter;
+        this.orderCache = orderCache;
+        this.orderStatistics = orderStatistics;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxPending = maxPending;
+
+        Gauge.builder("orders.write_behind.pending", pendingCount, AtomicInteger::get)
+                .description("Orders accepted but not yet in the database")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("orders.write_behind.flush")
+                .description("Batch insert of pending orders")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("orders.write_behind.flushed")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("orders.write_behind.flush.failures")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("orders.write_behind.dead_letters")
+                .description("Accepted orders the database refused, moved to the dead-letter log")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public Order accept(Order order) {
+        if (pendingCount.get() >= maxPending) {
+            throw SharedBusinessException.of(ErrorCodes.ORDER_BACKLOG_FULL, ErrorType.SYSTEM,
+                    ErrorMessages.ORDER_BACKLOG_FULL);
+        }
+        order.setId(TimeOrderedIdGenerator.shared().nextId());
+        OrderSnapshot snapshot = OrderSnapshot.from(order);
+
+        long position = journal.append(snapshot, this::enqueue);
+        journal.awaitDurable(position);
+        existenceFilter.recordCreated(order.getId());
+
+        if (pendingCount.get() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return order;
+    }
+
+    @Override
+    public Order findPending(Long id) {
+        OrderSnapshot snapshot = pending.get(id);
+        return snapshot == null ? null : snapshot.toOrder();
+    }
+
+    /**
+     * Runs in journal order (under the journal's append lock, or during replay)
+     */
+    private void enqueue(OrderJournal.Entry entry) {
+        pending.put(entry.order().id(), entry.order());
+        unflushed.add(entry);
+        pendingCount.incrementAndGet();
+    }
+
+    @Override
+    public void start() {
+        openJournal();
+        running = true;
+        flusher = new Thread(this::flushLoop, "order-write-behind-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Open the journal and replay entries that were not flushed before the last shutdown
+     */
+    void openJournal() {
+        try {
+            journal = OrderJournal.open(directory, segmentSize, entry -> {
+                enqueue(entry);
+                existenceFilter.recordCreated(entry.order().id());
+                replayedThrough = entry.position();
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open order journal in " + directory, ex);
+        }
+        if (pendingCount.get() > 0) {
+            log.info("Replayed {} unflushed orders from the order journal in {}", pendingCount.get(), directory);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Before the web server starts, after it stops
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void flushLoop() {
+        while (running) {
+            int flushed;
+            try {
+                flushed = flushPending();
+            } catch (RuntimeException ex) {
+                failureCounter.increment();
+                log.warn("Flushing {} pending orders failed, will retry: {}", pendingCount.get(), ex.getMessage());
+                flushed = 0;
+            }
+            if (flushed < batchSize) {
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+        // Last attempt on shutdown - whatever is left is replayed from the journal on restart
+        try {
+            while (flushPending() > 0) {
+                // drain
+            }
+        } catch (RuntimeException ex) {
+            log.warn("{} orders left in the order journal at shutdown: {}", pendingCount.get(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Insert the next batch in journal order
+     *
+     * @return number of orders flushed
+     */
+    int flushPending() {
+        List<OrderJournal.Entry> batch = new ArrayList<>(Math.min(batchSize, pendingCount.get()));
+        Iterator<OrderJournal.Entry> entries = unflushed.iterator();
+        while (entries.hasNext() && batch.size() < batchSize) {
+            batch.add(entries.next());
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // Reconciling OrderStatistics leaves these buckets alone until the rows are counted
+        batch.forEach(entry -> orderStatistics.writeStarted(entry.order().status()));
+        try {
+            Set<Long> alreadyInserted;
+            try {
+                alreadyInserted = insert(batch);
+            } catch (DataIntegrityViolationException ex) {
+                log.warn("Batch of {} pending orders refused by the database, inserting them one by one: {}",
+                        batch.size(), ex.getMessage());
+                return flushIndividually(batch);
+            }
+            byte[] outcomes = new byte[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                outcomes[i] = alreadyInserted.contains(batch.get(i).order().id()) ? ALREADY_INSERTED : INSERTED;
+            }
+            complete(batch, outcomes);
+        } finally {
+            batch.forEach(entry -> orderStatistics.writeFinished(entry.order().status()));
+        }
+        return batch.size();
+    }
+
+    /**
+     * Insert the batch one row per transaction, dead-lettering the rows the database refuses
+     *
+     * @return number of orders taken off the queue - fewer than the batch if the database fails
+     */
+    private int flushIndividually(List<OrderJournal.Entry> batch) {
+        byte[] outcomes = new byte[batch.size()];
+        int done = 0;
+        try {
+            for (; done < batch.size(); done++) {
+                OrderJournal.Entry entry = batch.get(done);
+                try {
+                    outcomes[done] = insert(List.of(entry)).isEmpty() ? INSERTED : ALREADY_INSERTED;
+                } catch (DataIntegrityViolationException ex) {
+                    deadLetter(entry.order(), ex);
+                    outcomes[done] = DEAD_LETTERED;
+                }
+            }
+        } finally {
+            // The rows before the failure are committed (or dead-lettered) - never retry them
+            if (done > 0) {
+                complete(batch.subList(0, done), outcomes);
+            }
+        }
+        return done;
+    }
+
+    /**
+     * Checkpoint past the entries and take them off the queue
+     *
+     * @param outcomes INSERTED / ALREADY_INSERTED / DEAD_LETTERED per entry
+     */
+    private void complete(List<OrderJournal.Entry> entries, byte[] outcomes) {
+        try {
+            journal.checkpoint(entries.get(entries.size() - 1).position());
+        } catch (IOException ex) {
+            // Rows are committed; without the checkpoint they are replayed and ignored on restart
+            throw new UncheckedIOException("Could not checkpoint order journal", ex);
+        } finally {
+            // Single consumer: the entries are the head of the queue
+            int flushed = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                OrderSnapshot order = entries.get(i).order();
+                if (outcomes[i] != DEAD_LETTERED) {
+                    orderCache.onWrite(order);
+                    // Already counted by the reconcile that followed the restart
+                    if (outcomes[i] == INSERTED) {
+                        orderStatistics.recordCreated(order.status(), order.price());
+                    }
+                    flushed++;
+                }
+                unflushed.poll();
+                pending.remove(order.id());
+            }
+            pendingCount.addAndGet(-entries.size());
+            flushedCounter.increment(flushed);
+        }
+    }
+
+    /**
+     * One line per refused order: id, price, status, product name (tab-separated, escaped), then the error
+     */
+    private void deadLetter(OrderSnapshot order, DataAccessException error) {
+        String line = order.id() + "\t" + order.price() + "\t" + order.status() + "\t"
+                + escape(order.productName()) + "\t" + escape(error.getMostSpecificCause().getMessage()) + "\n";
+        try {
+            Files.writeString(directory.resolve(DEAD_LETTER_FILE), line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException ex) {
+            // Not recorded anywhere yet - keep it queued
+            throw new UncheckedIOException("Could not write order " + order.id() + " to the dead-letter log", ex);
+        }
+        deadLetterCounter.increment();
+        log.error("Order {} refused by the database, moved to {}: {}", order.id(),
+                directory.resolve(DEAD_LETTER_FILE), error.getMostSpecificCause().getMessage());
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "null";
+        }
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * One transaction, one JDBC batch
+     *
+     * @return ids of replayed entries that were already in the database
+     */
+    private Set<Long> insert(List<OrderJournal.Entry> batch) {
+        return flushTimer.record(() -> transactionTemplate.execute(status -> {
+            Set<Long> alreadyInserted = findReplayedRows(batch);
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, entry) -> {
+                OrderSnapshot order = entry.order();
+                statement.setLong(1, order.id());
+                statement.setString(2, order.productName());
+                if (order.price() == null) {
+                    statement.setNull(3, Types.DOUBLE);
+                } else {
+                    statement.setDouble(3, order.price());
+                }
+                statement.setString(4, order.status() == null ? null : order.status().name());
+            });
+            return alreadyInserted;
+        }));
+    }
+
+    /**
+     * Only entries replayed on startup can already be in the database - no query once they are flushed
+     */
+    private Set<Long> findReplayedRows(List<OrderJournal.Entry> batch) {
+        List<Long> replayed = new ArrayList<>();
+        for (OrderJournal.Entry entry : batch) {
+            if (entry.position() <= replayedThrough) {
+                replayed.add(entry.order().id());
+            }
+        }
+        if (replayed.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(replayed.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(EXISTING_SQL.formatted(placeholders), Long.class,
+                replayed.toArray()));
+    }
+}
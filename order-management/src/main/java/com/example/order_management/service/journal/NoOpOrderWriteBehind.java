@@ -0,0 +1,24 @@
+package com.example.order_management.service.journal;
+
+import com.example.order_management.entity.Order;
+
+/**
+ * Write-behind disabled - every order is committed synchronously by OrderService
+ */
+public class NoOpOrderWriteBehind implements OrderWriteBehind {
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public Order accept(Order order) {
+        throw new IllegalStateException("Write-behind order ingestion is disabled");
+    }
+
+    @Override
+    public Order findPending(Long id) {
+        return null;
+    }
+}
@@ -0,0 +1,350 @@
+package com.example.order_management.service.journal;
+
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.service.cache.OrderSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Local append-only order journal on memory-mapped segment files
+ *
+ * 🔹 LAYOUT:
+ * directory/segment-00000000000000000042.log   fixed-size, memory-mapped, zero-filled tail
+ * directory/checkpoint                         position up to which entries are in the database
+ *
+ * record = [int payload length][int CRC32 of payload][payload]
+ * payload = [long id][double price][byte status][int name length][UTF-8 name]   (-1 / NaN = null)
+ *
+ * 🔹 POSITIONS: segment index in the high 32 bits, byte offset in the low 32 bits -
+ * plain long comparison orders them. An entry's position is where its record ends.
+ *
+ * 🔹 GROUP FSYNC: awaitDurable() forces the mapped range written so far; callers that queue
+ * behind an in-flight force are usually covered by it and return without forcing again.
+ * Locks are ReentrantLocks, not monitors: a virtual thread blocked in force() must not pin its carrier.
+ *
+ * 🔹 RECOVERY: replays records after the checkpoint and stops at the first zero length
+ * or CRC mismatch (a torn write at the tail), which is then zeroed before appending resumes.
+ */
+final class OrderJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderJournal.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    /**
+     * An order read from or appended to the journal, with the position where its record ends
+     */
+    record Entry(OrderSnapshot order, long position) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+
+    // Appends and segment rotation
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private Segment current;
+
+    // One force() at a time; waiting callers are usually covered by the one in flight
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile long durablePosition;
+
+    private OrderJournal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Open (or create) the journal, handing every entry after the checkpoint to unflushed
+     */
+    static OrderJournal open(Path directory, int segmentSize, Consumer<Entry> unflushed) throws IOException {
+        Files.createDirectories(directory);
+        OrderJournal journal = new OrderJournal(directory, segmentSize);
+        journal.recover(unflushed);
+        return journal;
+    }
+
+    static long position(long segment, int offset) {
+        return (segment << 32) | offset;
+    }
+
+    static long segmentOf(long position) {
+        return position >>> 32;
+    }
+
+    static int offsetOf(long position) {
+        return (int) position;
+    }
+
+    /**
+     * Append one order; onAppend runs under the append lock, so it observes entries in journal order
+     *
+     * @return the entry's position - pass it to awaitDurable before acknowledging the write
+     */
+    long append(OrderSnapshot order, Consumer<Entry> onAppend) {
+        byte[] payload = encode(order);
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentSize) {
+            throw new IllegalArgumentException("Journal record of " + recordBytes + " bytes exceeds segment size");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        appendLock.lock();
+        try {
+            if (current == null) {
+                throw new IllegalStateException("Order journal is closed");
+            }
+            if (current.writeOffset + recordBytes > segmentSize) {
+                rotate();
+            }
+            MappedByteBuffer buffer = current.buffer;
+            int offset = current.writeOffset;
+            buffer.putInt(offset + Integer.BYTES, (int) crc.getValue());
+            buffer.put(offset + HEADER_BYTES, payload);
+            buffer.putInt(offset, payload.length);
+            current.writeOffset = offset + recordBytes;
+
+            long position = position(current.index, current.writeOffset);
+            onAppend.accept(new Entry(order, position));
+            return position;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Block until everything up to position is on disk
+     */
+    void awaitDurable(long position) {
+        if (durablePosition >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durablePosition >= position) {
+                return;
+            }
+            Segment segment;
+            int from;
+            int to;
+            appendLock.lock();
+            try {
+                segment = current;
+                if (segment == null) {
+                    throw new IllegalStateException("Order journal is closed");
+                }
+                from = segment.forcedOffset;
+                to = segment.writeOffset;
+            } finally {
+                appendLock.unlock();
+            }
+            if (to > from) {
+                segment.buffer.force(from, to - from);
+                segment.forcedOffset = to;
+            }
+            durablePosition = Math.max(durablePosition, position(segment.index, to));
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Record that every entry up to position is in the database and drop segments before it
+     */
+    void checkpoint(long position) throws IOException {
+        Path temp = directory.resolve(CHECKPOINT + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, position));
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long checkpointSegment = segmentOf(position);
+        for (long index : segmentIndexes()) {
+            if (index < checkpointSegment) {
+                try {
+                    Files.deleteIfExists(segmentPath(index));
+                } catch (IOException ex) {
+                    // Still mapped on some platforms - retried at the next checkpoint
+                    log.debug("Could not delete journal segment {}: {}", index, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (current != null) {
+                current.buffer.force();
+                current = null;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void recover(Consumer<Entry> unflushed) throws IOException {
+        long checkpoint = readCheckpoint();
+        long checkpointSegment = segmentOf(checkpoint);
+        List<Long> indexes = segmentIndexes();
+
+        Segment last = null;
+        for (long index : indexes) {
+            if (index < checkpointSegment) {
+                continue;
+            }
+            Segment segment = map(index);
+            int offset = index == checkpointSegment ? offsetOf(checkpoint) : 0;
+            segment.writeOffset = replay(segment, offset, unflushed);
+            last = segment;
+        }
+
+        if (last == null) {
+            last = map(Math.max(checkpointSegment, indexes.isEmpty() ? 0 : indexes.get(indexes.size() - 1) + 1));
+        } else if (last.writeOffset + Integer.BYTES <= segmentSize && last.buffer.getInt(last.writeOffset) != 0) {
+            log.warn("Order journal segment {} has a torn record at offset {} - discarding the tail",
+                    last.index, last.writeOffset);
+            for (int offset = last.writeOffset; offset < segmentSize; offset++) {
+                last.buffer.put(offset, (byte) 0);
+            }
+            last.buffer.force();
+        }
+        last.forcedOffset = last.writeOffset;
+        current = last;
+        durablePosition = position(last.index, last.writeOffset);
+    }
+
+    /**
+     * @return the offset after the last valid record
+     */
+    private int replay(Segment segment, int offset, Consumer<Entry> unflushed) {
+        MappedByteBuffer buffer = segment.buffer;
+        while (offset + HEADER_BYTES <= segmentSize) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > segmentSize) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                break;
+            }
+            offset += HEADER_BYTES + length;
+            unflushed.accept(new Entry(decode(payload), position(segment.index, offset)));
+        }
+        return offset;
+    }
+
+    /**
+     * Called under the append lock - the full segment is forced first, so positions in it are durable
+     */
+    private void rotate() {
+        Segment previous = current;
+        previous.buffer.force();
+        previous.forcedOffset = previous.writeOffset;
+        try {
+            current = map(previous.index + 1);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not create order journal segment " + (previous.index + 1), ex);
+        }
+    }
+
+    private Segment map(long index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(index), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(index, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT);
+        if (!Files.exists(checkpoint)) {
+            return position(0, 0);
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(checkpoint)).getLong();
+    }
+
+    private List<Long> segmentIndexes() throws IOException {
+        List<Long> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(indexes::add);
+        }
+        return indexes;
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    static byte[] encode(OrderSnapshot order) {
+        byte[] name = order.productName() == null ? null : order.productName().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(Long.BYTES + Double.BYTES + 1 + Integer.BYTES
+                + (name == null ? 0 : name.length));
+        payload.putLong(order.id());
+        payload.putDouble(order.price() == null ? Double.NaN : order.price());
+        payload.put(order.status() == null ? -1 : (byte) order.status().ordinal());
+        payload.putInt(name == null ? -1 : name.length);
+        if (name != null) {
+            payload.put(name);
+        }
+        return payload.array();
+    }
+
+    static OrderSnapshot decode(byte[] bytes) {
+        ByteBuffer payload = ByteBuffer.wrap(bytes);
+        long id = payload.getLong();
+        double price = payload.getDouble();
+        byte status = payload.get();
+        int nameLength = payload.getInt();
+        String name = null;
+        if (nameLength >= 0) {
+            name = new String(bytes, payload.position(), nameLength, StandardCharsets.UTF_8);
+        }
+        return new OrderSnapshot(id, name, Double.isNaN(price) ? null : price,
+                status < 0 ? null : OrderStatus.values()[status]);
+    }
+
+    private static final class Segment {
+        private final long index;
+        private final MappedByteBuffer buffer;
+        private int writeOffset;
+        private int forcedOffset;
+
+        private Segment(long index, MappedByteBuffer buffer) {
+            this.index = index;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.order_management.service.journal;
+
+import com.example.order_management.entity.Order;
+
+/**
+ * Accept-then-persist order ingestion
+ *
+ * 🔹 WHY?
+ * POST /api/orders latency is dominated by the synchronous database commit. With write-behind
+ * the order is acknowledged (202) once it is durable in a local journal and reaches the
+ * database in the background, in large batches.
+ */
+public interface OrderWriteBehind {
+
+    /**
+     * @return true when POST /api/orders should go through accept() instead of OrderService
+     */
+    boolean isEnabled();
+
+    /**
+     * Assign an id, make the order durable in the journal and queue it for the database
+     */
+    Order accept(Order order);
+
+    /**
+     * @return the accepted order if it is not in the database yet (read-your-writes), else null
+     */
+    Order findPending(Long id);
+}
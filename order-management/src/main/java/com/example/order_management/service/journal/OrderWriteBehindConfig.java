@@ -0,0 +1,67 @@
+package com.example.order_management.service.journal;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.service.cache.OrderCache;
+import com.example.order_management.service.lookup.OrderExistenceFilter;
+import com.example.order_management.service.stats.OrderStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Write-behind selection
+ *
+ * app.orders.write-behind.enabled=true              → JournalOrderWriteBehind (POST returns 202)
+ * app.orders.write-behind.journal-dir=./data/order-journal
+ * app.orders.write-behind.segment-size=64MB
+ * app.orders.write-behind.batch-size=500
+ * app.orders.write-behind.flush-interval=200ms
+ * app.orders.write-behind.max-pending=100000       (beyond it POST returns 503 ORDER_BACKLOG_FULL)
+ *
+ * The flush needs JDBC, so JournalOrderWriteBehind is JPA-only - with embedded-store every order is
+ * committed synchronously whatever the property says.
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+public class OrderWriteBehindConfig {
+
+    @Bean
+    @Profile(AppProfiles.JPA)
+    @ConditionalOnProperty(name = "app.orders.write-behind.enabled", havingValue = "true")
+    public JournalOrderWriteBehind journalOrderWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            OrderExistenceFilter existenceFilter,
+            OrderCache orderCache,
+            OrderStatistics orderStatistics,
+            @Value("${app.orders.write-behind.journal-dir:./data/order-journal}") Path journalDir,
+            @Value("${app.orders.write-behind.segment-size:64MB}") DataSize segmentSize,
+            @Value("${app.orders.write-behind.batch-size:500}") int batchSize,
+            @Value("${app.orders.write-behind.flush-interval:200ms}") Duration flushInterval,
+            @Value("${app.orders.write-behind.max-pending:100000}") int maxPending,
+            MeterRegistry meterRegistry) {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("app.orders.write-behind.segment-size must be below 2GB");
+        }
+        return new JournalOrderWriteBehind(journalDir, (int) segmentSize.toBytes(),
+                jdbcTemplate, new TransactionTemplate(transactionManager), existenceFilter,
+                orderCache, orderStatistics, batchSize, flushInterval, maxPending, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OrderWriteBehind.class)
+    public OrderWriteBehind noOpOrderWriteBehind() {
+        return new NoOpOrderWriteBehind();
+    }
+}
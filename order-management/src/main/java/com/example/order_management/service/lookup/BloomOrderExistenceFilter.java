@@ -0,0 +1,186 @@
+package com.example.order_management.service.lookup;
+
+import com.example.order_management.repository.OrderStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of existing order ids + short-TTL negative cache
+ *
+ * 🔹 FLOW:
+ * - startup: filter is seeded from the orders table in the background; until then every id "may exist"
+ * - create:  id added to the filter, negative cache entry dropped
+ * - delete:  Bloom filters cannot remove keys, the id goes to the negative cache instead
+ * - miss:    a DB lookup that found nothing is remembered for negative-cache-ttl
+ *
+ * 🔹 REBUILD: deletes leave stale bits and the table may outgrow expected-insertions -
+ * once the expected false-positive rate doubles the target, the filter is reseeded
+ * into a fresh instance (sized for twice the current insertions, within max-bytes)
+ * while writes keep going to both. A filter already at max-bytes is not rebuilt:
+ * a new one could be no bigger, so the table scan would buy nothing.
+ *
+ * 🔹 LIMITATION: the filter only sees writes made through this instance - run it on a
+ * single writer, or keep negative lookups disabled when several instances create orders.
+ */
+public class BloomOrderExistenceFilter implements OrderExistenceFilter {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(BloomOrderExistenceFilter.class);
+
+    private static final int REBUILD_CHECK_INTERVAL = 1024;
+
+    private final OrderStore orderRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long maxBytes;
+    private final Cache<Long, Boolean> negativeCache;
+    private final Counter filterRejections;
+    private final Counter negativeCacheRejections;
+    private final AtomicBoolean seeding = new AtomicBoolean();
+
+    private volatile LongBloomFilter filter;
+    private volatile LongBloomFilter building;
+    private volatile boolean ready;
+
+    public BloomOrderExistenceFilter(OrderStore orderRepository,
+                                     TransactionTemplate readOnlyTransaction,
+                                     long expectedInsertions,
+                                     double falsePositiveRate,
+                                     long maxBytes,
+                                     Duration negativeCacheTtl,
+                                     long negativeCacheSize,
+                                     MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxBytes = maxBytes;
+        this.filter = newFilter(0);
+        this.negativeCache = Caffeine.newBuilder()
+                .expireAfterWrite(negativeCacheTtl)
+                .maximumSize(negativeCacheSize)
+                .build();
+
+        this.filterRejections = Counter.builder("orders.lookup.rejected")
+                .tag("reason", "filter")
+                .register(meterRegistry);
+        this.negativeCacheRejections = Counter.builder("orders.lookup.rejected")
+                .tag("reason", "negative_cache")
+                .register(meterRegistry);
+        Gauge.builder("orders.lookup.filter.bytes", this, f -> f.filter.sizeInBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("orders.lookup.filter.insertions", this, f -> f.filter.insertions())
+                .register(meterRegistry);
+        Gauge.builder("orders.lookup.filter.expected_fpp", this, f -> f.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("orders.lookup.filter.ready", this, f -> f.ready ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isDefinitelyMissing(Long id) {
+        if (negativeCache.getIfPresent(id) != null) {
+            negativeCacheRejections.increment();
+            return true;
+        }
+        if (ready && !filter.mightContain(id)) {
+            filterRejections.increment();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void recordMissing(Long id) {
+        negativeCache.put(id, Boolean.TRUE);
+    }
+
+    @Override
+    public void recordCreated(Long id) {
+        negativeCache.invalidate(id);
+        LongBloomFilter current = filter;
+        current.put(id);
+        LongBloomFilter next = building;
+        if (next != null) {
+            next.put(id);
+        }
+        // seed() may have swapped in its filter between the two reads above - then the id is not in it yet
+        LongBloomFilter latest = filter;
+        if (latest != current && latest != next) {
+            latest.put(id);
+        }
+        if (current.insertions() % REBUILD_CHECK_INTERVAL == 0
+                && !current.isAtMemoryBudget()
+                && current.expectedFalsePositiveRate() > 2 * falsePositiveRate) {
+            startSeeding();
+        }
+    }
+
+    @Override
+    public void recordDeleted(Long id) {
+        negativeCache.put(id, Boolean.TRUE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startSeeding();
+    }
+
+    /**
+     * Seed a fresh filter from the database on a background thread, then swap it in
+     */
+    public void startSeeding() {
+        if (!seeding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread seeder = new Thread(this::seed, "order-id-filter-seed");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+
+    void seed() {
+        try {
+            LongBloomFilter next = newFilter(filter.insertions());
+            building = next;
+            long started = System.nanoTime();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Long> ids = orderRepository.streamAllIds()) {
+                    ids.forEach(next::put);
+                }
+            });
+            filter = next;
+            building = null;
+            ready = true;
+            log.info("Order id filter seeded: {} ids, {} bytes, {} hash functions, expected fpp {} in {} ms",
+                    next.insertions(), next.sizeInBytes(), next.hashFunctions(),
+                    String.format("%.5f", next.expectedFalsePositiveRate()),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (RuntimeException ex) {
+            building = null;
+            log.error("Order id filter seeding failed, negative lookups use the negative cache only", ex);
+        } finally {
+            seeding.set(false);
+        }
+    }
+
+    /**
+     * Room for the ids seen so far to double before the next rebuild, capped by maxBytes
+     */
+    private LongBloomFilter newFilter(long insertions) {
+        return LongBloomFilter.create(Math.max(expectedInsertions, 2 * insertions), falsePositiveRate, maxBytes);
+    }
+}
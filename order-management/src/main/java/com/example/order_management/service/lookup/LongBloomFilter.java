@@ -0,0 +1,115 @@
+package com.example.order_management.service.lookup;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of long keys
+ *
+ * 🔹 GUARANTEE: mightContain(x) == false means x was never put - no false negatives
+ * 🔹 SIZING: bits and hash count derived from expected insertions and target
+ * false-positive rate, capped by a memory budget (the reported fpp reflects the cap)
+ */
+public class LongBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final boolean atMemoryBudget;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private LongBloomFilter(long bitSize, int hashFunctions, boolean atMemoryBudget) {
+        int wordCount = (int) ((bitSize + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashFunctions = hashFunctions;
+        this.atMemoryBudget = atMemoryBudget;
+    }
+
+    /**
+     * @param expectedInsertions number of keys the filter is sized for
+     * @param falsePositiveRate  target false-positive rate at expectedInsertions
+     * @param maxBytes           memory budget for the bit array
+     */
+    public static LongBloomFilter create(long expectedInsertions, double falsePositiveRate, long maxBytes) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1 || maxBytes < 8) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing: n=" + expectedInsertions
+                    + ", fpp=" + falsePositiveRate + ", maxBytes=" + maxBytes);
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long maxBits = Math.min(maxBytes * 8, (long) Integer.MAX_VALUE * 64);
+        long bits = Math.max(64, Math.min(optimalBits, maxBits));
+        int hashes = (int) Math.max(1, Math.round((double) bits / expectedInsertions * LN2));
+        return new LongBloomFilter(bits, Math.min(hashes, 16), optimalBits > maxBits);
+    }
+
+    public void put(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, bitSize));
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(long key) {
+        long hash1 = mix(key);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return false-positive rate expected for the current number of insertions
+     */
+    public double expectedFalsePositiveRate() {
+        double fillRatio = -(double) hashFunctions * insertions.get() / bitSize;
+        return Math.pow(1 - Math.exp(fillRatio), hashFunctions);
+    }
+
+    /**
+     * @return true if the memory budget capped the size - a bigger filter cannot be built
+     */
+    public boolean isAtMemoryBudget() {
+        return atMemoryBudget;
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    public long sizeInBytes() {
+        return bitSize / 8;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+            word = words.get(index);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(index, word, word | mask));
+    }
+
+    // SplitMix64 finalizer - sequential ids spread across the whole bit array
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
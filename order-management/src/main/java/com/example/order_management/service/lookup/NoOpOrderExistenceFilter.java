@@ -0,0 +1,27 @@
+package com.example.order_management.service.lookup;
+
+/**
+ * Negative lookup disabled: every id may exist
+ */
+public class NoOpOrderExistenceFilter implements OrderExistenceFilter {
+
+    @Override
+    public boolean isDefinitelyMissing(Long id) {
+        return false;
+    }
+
+    @Override
+    public void recordMissing(Long id) {
+        // nothing tracked
+    }
+
+    @Override
+    public void recordCreated(Long id) {
+        // nothing tracked
+    }
+
+    @Override
+    public void recordDeleted(Long id) {
+        // nothing tracked
+    }
+}
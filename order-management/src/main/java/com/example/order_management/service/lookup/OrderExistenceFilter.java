@@ -0,0 +1,26 @@
+package com.example.order_management.service.lookup;
+
+/**
+ * Negative lookup for order ids
+ * 🔹 WHY? Random ids from scrapers cost a DB round trip each - ids that are
+ * definitely missing are rejected without a query
+ */
+public interface OrderExistenceFilter {
+
+    /**
+     * @return true only if the order certainly does not exist
+     */
+    boolean isDefinitelyMissing(Long id);
+
+    /**
+     * A lookup went to the database and found nothing
+     */
+    void recordMissing(Long id);
+
+    /**
+     * Called once the order is committed, so a reseed that reads the table afterwards includes it
+     */
+    void recordCreated(Long id);
+
+    void recordDeleted(Long id);
+}
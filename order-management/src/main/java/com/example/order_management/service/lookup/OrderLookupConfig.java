@@ -0,0 +1,54 @@
+package com.example.order_management.service.lookup;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.repository.OrderStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Negative lookup selection
+ *
+ * app.lookup.orders.enabled=true                  → BloomOrderExistenceFilter
+ * app.lookup.orders.expected-insertions=1000000
+ * app.lookup.orders.false-positive-rate=0.01
+ * app.lookup.orders.max-memory=8MB
+ * app.lookup.orders.negative-cache-ttl=30s
+ * app.lookup.orders.negative-cache-size=100000
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+public class OrderLookupConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.lookup.orders.enabled", havingValue = "true")
+    public OrderExistenceFilter bloomOrderExistenceFilter(
+            OrderStore orderRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.lookup.orders.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.lookup.orders.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${app.lookup.orders.max-memory:8MB}") DataSize maxMemory,
+            @Value("${app.lookup.orders.negative-cache-ttl:30s}") Duration negativeCacheTtl,
+            @Value("${app.lookup.orders.negative-cache-size:100000}") long negativeCacheSize,
+            MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new BloomOrderExistenceFilter(orderRepository, readOnlyTransaction,
+                expectedInsertions, falsePositiveRate, maxMemory.toBytes(),
+                negativeCacheTtl, negativeCacheSize, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.lookup.orders.enabled", havingValue = "false", matchIfMissing = true)
+    public OrderExistenceFilter noOpOrderExistenceFilter() {
+        return new NoOpOrderExistenceFilter();
+    }
+}
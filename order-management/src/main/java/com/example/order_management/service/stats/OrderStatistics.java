@@ -0,0 +1,257 @@
+package com.example.order_management.service.stats;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.dto.OrderStatsDTO;
+import com.example.order_management.dto.OrderStatusStatsDTO;
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.repository.OrderStatusTotals;
+import com.example.order_management.repository.OrderStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-status order count and price total, maintained incrementally
+ *
+ * 🔹 WHY?
+ * A GROUP BY over the whole orders table per stats request is a full scan. Writers already know
+ * what changed, so they bump a counter and GET /api/orders/stats only reads the counters.
+ *
+ * 🔹 HOW?
+ * - one LongAdder + DoubleAdder per status (striped cells - concurrent writers don't contend)
+ * - the EnumMap is filled once in the constructor and never modified, so reads need no lock
+ * - seeded from the database when the application is ready
+ * - a periodic reconciliation adds the difference to the database totals, correcting drift from
+ *   rolled-back writes and other writers (write-behind orders are counted once flushed)
+ * - writes that cannot be attributed to a status mark the counters stale; a stale check reconciles
+ *   them early, but at most once per stale-reconcile-interval, so a steady stream of such deletes
+ *   costs one GROUP BY per interval rather than one per check
+ *
+ * 🔹 IN-FLIGHT WRITES: writers call writeStarted before the database write and writeFinished once
+ * the counter is updated (or the write failed). A bucket with a write in flight at any point of the
+ * reconcile query - committed but not counted yet, or counted but not visible to the query - is
+ * left for the next round, so the write is neither counted twice nor lost.
+ */
+@Component
+@Profile(AppProfiles.SERVLET)
+public class OrderStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatistics.class);
+
+    private static final long WRITE_STARTED = 1L << 32;
+    private static final long IN_FLIGHT_MASK = WRITE_STARTED - 1;
+    /**
+     * Half a cent - the DoubleAdder and the database SUM round differently, so totals that agree can
+     * differ in the last bits
+     */
+    private static final double PRICE_TOLERANCE = 0.005;
+
+    private final OrderStore orderRepository;
+    private final Map<OrderStatus, Bucket> buckets = new EnumMap<>(OrderStatus.class);
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final long staleReconcileIntervalNanos;
+    private volatile long lastReconcileNanos;
+    private volatile LocalDateTime lastReconciledAt;
+
+    public OrderStatistics(OrderStore orderRepository,
+                           @Value("${app.orders.stats.stale-reconcile-interval:30s}") Duration staleReconcileInterval) {
+        this.orderRepository = orderRepository;
+        this.staleReconcileIntervalNanos = staleReconcileInterval.toNanos();
+        this.lastReconcileNanos = System.nanoTime() - staleReconcileIntervalNanos;
+        for (OrderStatus status : OrderStatus.values()) {
+            buckets.put(status, new Bucket());
+        }
+    }
+
+    /**
+     * Before the database write of an order in this status - pair with writeFinished in a finally
+     */
+    public void writeStarted(OrderStatus status) {
+        if (status != null) {
+            buckets.get(status).writes.addAndGet(WRITE_STARTED + 1);
+        }
+    }
+
+    /**
+     * After the counter update for the write, or after the write failed
+     */
+    public void writeFinished(OrderStatus status) {
+        if (status != null) {
+            buckets.get(status).writes.decrementAndGet();
+        }
+    }
+
+    public void recordCreated(Order order) {
+        recordCreated(order.getStatus(), order.getPrice());
+    }
+
+    public void recordCreated(OrderStatus status, Double price) {
+        add(status, 1, price(price));
+    }
+
+    public void recordDeleted(Order order) {
+        recordDeleted(order.getStatus(), order.getPrice());
+    }
+
+    public void recordDeleted(OrderStatus status, Double price) {
+        add(status, -1, -price(price));
+    }
+
+    /**
+     * A write whose status/price is not known here (e.g. an uncached order in a bulk delete) -
+     * reconciled by the next stale check once stale-reconcile-interval has passed since the last
+     * reconciliation, instead of waiting for the full interval
+     */
+    public void markStale() {
+        stale.set(true);
+    }
+
+    public void recordStatusChange(Double price, OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        add(from, -1, -price(price));
+        add(to, 1, price(price));
+    }
+
+    public OrderStatsDTO snapshot() {
+        Map<OrderStatus, OrderStatusStatsDTO> byStatus = new EnumMap<>(OrderStatus.class);
+        long totalCount = 0;
+        double totalPrice = 0;
+        for (Map.Entry<OrderStatus, Bucket> entry : buckets.entrySet()) {
+            long count = entry.getValue().count.sum();
+            double priceTotal = entry.getValue().priceTotal.sum();
+            byStatus.put(entry.getKey(), new OrderStatusStatsDTO(count, priceTotal));
+            totalCount += count;
+            totalPrice += priceTotal;
+        }
+        OrderStatsDTO stats = new OrderStatsDTO();
+        stats.setTotalCount(totalCount);
+        stats.setTotalPrice(totalPrice);
+        stats.setByStatus(byStatus);
+        stats.setLastReconciledAt(lastReconciledAt);
+        return stats;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${app.orders.stats.reconcile-interval:5m}",
+            fixedDelayString = "${app.orders.stats.reconcile-interval:5m}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            log.warn("Order statistics reconciliation failed, keeping current counters: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.stats.stale-check-interval:1s}")
+    public void reconcileIfStale() {
+        if (stale.get() && System.nanoTime() - lastReconcileNanos >= staleReconcileIntervalNanos) {
+            scheduledReconcile();
+        }
+    }
+
+    /**
+     * Bring the counters in line with the database
+     *
+     * @return number of status buckets that were corrected
+     */
+    public int reconcile() {
+        if (!reconcileLock.tryLock()) {
+            return 0;
+        }
+        try {
+            // Writes marked stale from here on are picked up by the next round
+            stale.set(false);
+            lastReconcileNanos = System.nanoTime();
+            Map<OrderStatus, long[]> before = marks();
+            List<OrderStatusTotals> rows = orderRepository.sumByStatus();
+            Map<OrderStatus, long[]> after = marks();
+
+            Map<OrderStatus, OrderStatusTotals> actual = new EnumMap<>(OrderStatus.class);
+            for (OrderStatusTotals row : rows) {
+                if (row.status() != null) {
+                    actual.put(row.status(), row);
+                }
+            }
+
+            int corrected = 0;
+            for (Map.Entry<OrderStatus, Bucket> entry : buckets.entrySet()) {
+                OrderStatus status = entry.getKey();
+                long[] marks = before.get(status);
+                // In flight when the query started, or counted / started since
+                if ((marks[1] & IN_FLIGHT_MASK) != 0 || !Arrays.equals(marks, after.get(status))) {
+                    continue;
+                }
+                Bucket bucket = entry.getValue();
+                OrderStatusTotals totals = actual.get(status);
+                long countDrift = (totals == null ? 0 : totals.count()) - bucket.count.sum();
+                double priceDrift = (totals == null ? 0 : price(totals.priceTotal())) - bucket.priceTotal.sum();
+                if (countDrift != 0 || Math.abs(priceDrift) > PRICE_TOLERANCE) {
+                    bucket.count.add(countDrift);
+                    bucket.priceTotal.add(priceDrift);
+                    corrected++;
+                }
+            }
+            lastReconciledAt = LocalDateTime.now();
+            if (corrected > 0) {
+                log.info("Order statistics reconciled: {} status buckets corrected", corrected);
+            }
+            return corrected;
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /**
+     * Per status: {count, writes}
+     */
+    private Map<OrderStatus, long[]> marks() {
+        Map<OrderStatus, long[]> marks = new EnumMap<>(OrderStatus.class);
+        buckets.forEach((status, bucket) -> marks.put(status, new long[] {bucket.count.sum(), bucket.writes.get()}));
+        return marks;
+    }
+
+    private void add(OrderStatus status, long count, double price) {
+        if (status == null) {
+            return;
+        }
+        Bucket bucket = buckets.get(status);
+        bucket.count.add(count);
+        bucket.priceTotal.add(price);
+    }
+
+    private static double price(Double price) {
+        return price == null ? 0 : price;
+    }
+
+    private static final class Bucket {
+        final LongAdder count = new LongAdder();
+        final DoubleAdder priceTotal = new DoubleAdder();
+        // Writes started (high 32 bits) and in flight (low 32 bits) - one word, read atomically
+        final AtomicLong writes = new AtomicLong();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.order_management.validation;
+
+import com.example.order_management.exception.custom.ValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validator generated at compile time for a @GenerateValidator DTO
+ *
+ * Violations use the "field: message" format of GlobalExceptionHandler.handleValidationException and
+ * are checked in property-name order, so the first one is deterministic.
+ */
+public interface DtoValidator<T> {
+
+    Class<T> type();
+
+    /**
+     * @return the first violation, or null if the DTO is valid - no allocation either way
+     */
+    String firstViolation(T dto);
+
+    void collectViolations(T dto, List<String> violations);
+
+    /**
+     * @param collectAll false: report the first violation, true: all of them in one message
+     * @throws ValidationException if the DTO violates a constraint
+     */
+    default void validate(T dto, boolean collectAll) {
+        if (!collectAll) {
+            String violation = firstViolation(dto);
+            if (violation != null) {
+                throw new ValidationException(violation);
+            }
+            return;
+        }
+        List<String> violations = new ArrayList<>(4);
+        collectViolations(dto, violations);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(String.join(", ", violations));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.order_management.validation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Generated validators by DTO type
+ *
+ * DtoValidatorProcessor registers every validator it writes in
+ * META-INF/services/com.example.order_management.validation.DtoValidator; they are loaded once.
+ */
+public final class DtoValidators {
+
+    private static final Map<Class<?>, DtoValidator<?>> VALIDATORS = load();
+
+    private DtoValidators() {
+    }
+
+    /**
+     * @return the generated validator for this exact type, or null if it has none
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> DtoValidator<T> forType(Class<T> type) {
+        return (DtoValidator<T>) VALIDATORS.get(type);
+    }
+
+    private static Map<Class<?>, DtoValidator<?>> load() {
+        Map<Class<?>, DtoValidator<?>> validators = new HashMap<>();
+        for (DtoValidator<?> validator : ServiceLoader.load(DtoValidator.class, DtoValidators.class.getClassLoader())) {
+            validators.put(validator.type(), validator);
+        }
+        return Map.copyOf(validators);
+    }
+}
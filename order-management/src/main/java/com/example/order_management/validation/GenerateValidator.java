@@ -0,0 +1,23 @@
+package com.example.order_management.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a plain-Java DtoValidator for this class at compile time
+ *
+ * DtoValidatorProcessor (validation-processor module) writes &lt;ClassName&gt;Validator next to the DTO, with one
+ * null/length/range check per jakarta.validation constraint on its fields. At runtime @Valid on a
+ * request body runs that class instead of Hibernate Validator (see GeneratedValidatorAdapter).
+ *
+ * Supported: @NotNull, @NotBlank, @NotEmpty, @Size, @Min, @Max, @Positive, @PositiveOrZero with the
+ * default or a literal message. Anything else is a compile error, not a silently skipped check.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateValidator {
+}
@@ -0,0 +1,58 @@
+package com.example.order_management.validation;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Spring Validator for @Valid arguments: generated validator first, Bean Validation otherwise
+ *
+ * 🔹 WHY?
+ * Hibernate Validator looks up constraint metadata and calls every constraint reflectively, and a
+ * failure goes through BindingResult → MethodArgumentNotValidException → field error lookup.
+ * For a @GenerateValidator DTO the generated class does the same checks as plain Java and throws
+ * ValidationException directly (400 via GlobalExceptionHandler.handleBusinessException, same
+ * "field: message" text).
+ *
+ * Types without a generated validator (and validation hints/groups) still go to the Bean Validation
+ * delegate unchanged.
+ */
+public class GeneratedValidatorAdapter implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final boolean collectAllErrors;
+
+    public GeneratedValidatorAdapter(SmartValidator delegate, boolean collectAllErrors) {
+        this.delegate = delegate;
+        this.collectAllErrors = collectAllErrors;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return DtoValidators.forType(clazz) != null || delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (!validateGenerated(target)) {
+            delegate.validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (validationHints.length > 0 || !validateGenerated(target)) {
+            delegate.validate(target, errors, validationHints);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean validateGenerated(Object target) {
+        DtoValidator<Object> validator = target == null ? null
+                : (DtoValidator<Object>) DtoValidators.forType(target.getClass());
+        if (validator == null) {
+            return false;
+        }
+        validator.validate(target, collectAllErrors);
+        return true;
+    }
+}
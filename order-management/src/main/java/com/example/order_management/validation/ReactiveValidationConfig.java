@@ -0,0 +1,32 @@
+package com.example.order_management.validation;
+
+import com.example.order_management.config.AppProfiles;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Request body validation with the compile-time generated validators (reactive stack, see ValidationConfig)
+ */
+@Configuration
+@Profile(AppProfiles.REACTIVE)
+@ConditionalOnProperty(name = "app.validation.generated.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveValidationConfig implements WebFluxConfigurer {
+
+    private final GeneratedValidatorAdapter validator;
+
+    public ReactiveValidationConfig(@Qualifier("defaultValidator") SmartValidator beanValidator,
+                                    @Value("${app.validation.generated.collect-all-errors:false}") boolean collectAllErrors) {
+        this.validator = new GeneratedValidatorAdapter(beanValidator, collectAllErrors);
+    }
+
+    @Override
+    public Validator getValidator() {
+        return validator;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.order_management.validation;
+
+import com.example.order_management.config.AppProfiles;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Request body validation with the compile-time generated validators (servlet stack)
+ *
+ * app.validation.generated.enabled=true              → @Valid bodies of @GenerateValidator DTOs use the
+ *                                                       generated validator (default)
+ * app.validation.generated.enabled=false             → Hibernate Validator for everything
+ * app.validation.generated.collect-all-errors=false  → report the first violation (as before), true: all of them
+ *
+ * The "reactive" profile gets the same validator from ReactiveValidationConfig.
+ */
+@Configuration
+@Profile(AppProfiles.SERVLET)
+@ConditionalOnProperty(name = "app.validation.generated.enabled", havingValue = "true", matchIfMissing = true)
+public class ValidationConfig implements WebMvcConfigurer {
+
+    private final GeneratedValidatorAdapter validator;
+
+    public ValidationConfig(@Qualifier("defaultValidator") SmartValidator beanValidator,
+                            @Value("${app.validation.generated.collect-all-errors:false}") boolean collectAllErrors) {
+        this.validator = new GeneratedValidatorAdapter(beanValidator, collectAllErrors);
+    }
+
+    @Override
+    public Validator getValidator() {
+        return validator;
+    }
+}
@@ -0,0 +1,8 @@
+-- "orders" table for embedded R2DBC stand-ins (H2), same shape as the JPA Order entity
+CREATE TABLE IF NOT EXISTS orders (
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    price        DOUBLE,
+    product_name VARCHAR(255),
+    status       VARCHAR(255)
+);
+CREATE INDEX IF NOT EXISTS idx_orders_status_id ON orders (status, id);
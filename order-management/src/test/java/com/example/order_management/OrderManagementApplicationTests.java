@@ -3,7 +3,7 @@ package com.example.order_management;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.orders.id.node-id=0")
 class OrderManagementApplicationTests {
 
 	@Test
@@ -0,0 +1,71 @@
+package com.example.order_management.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VirtualThreadPinningMonitor - real JFR events, no Spring context
+ */
+public class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void testPinningSiteSkipsJdkFrames() {
+        List<String> frames = List.of(
+                "java.lang.Thread.sleep:100",
+                "com.mysql.cj.jdbc.ConnectionImpl.execSQL:2000",
+                "com.example.order_management.service.impl.OrderServiceImpl.getOrderById:60");
+
+        assertEquals("com.mysql.cj.jdbc.ConnectionImpl.execSQL:2000",
+                VirtualThreadPinningMonitor.pinningSite(frames));
+        assertEquals("unknown", VirtualThreadPinningMonitor.pinningSite(List.of()));
+    }
+
+    @Test
+    void testEveryEventIsCounted() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(20));
+        List<String> frames = List.of("com.example.Pinned.run:10");
+
+        monitor.record(Duration.ofMillis(30), "vt-1", frames);
+        monitor.record(Duration.ofMillis(40), "vt-2", frames);
+
+        assertEquals(2, monitor.pinnedCount());
+        assertEquals(70, registry.get("jvm.threads.virtual.pinned").timer().totalTime(
+                TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void testDetectsSleepInsideSynchronized() throws Exception {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(10));
+        monitor.start();
+        try {
+            Object lock = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            // JFR streams events in ~1 s chunks
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (monitor.pinnedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertTrue(monitor.pinnedCount() > 0, "pinning event should be reported");
+        } finally {
+            monitor.stop();
+        }
+        assertFalse(monitor.isRunning());
+    }
+}
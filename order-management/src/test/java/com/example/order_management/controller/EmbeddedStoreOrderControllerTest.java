@@ -0,0 +1,158 @@
+package com.example.order_management.controller;
+
+import com.example.order_management.config.AppProfiles;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * OrderControllerTest and the exception handler tests again, over HTTP with the "embedded-store" profile
+ *
+ * 🔹 WHY A CONTEXT?
+ * The other controller and exception suites build their objects by hand, so a profile would not change
+ * what they run. Here the same cases go through the real MVC stack, FileOrderRepository and
+ * GlobalExceptionHandler - no DataSource, no JPA.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles(AppProfiles.EMBEDDED_STORE)
+class EmbeddedStoreOrderControllerTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void storeDirectory(DynamicPropertyRegistry registry) {
+        registry.add("app.orders.embedded-store.dir", () -> directory.toString());
+        registry.add("app.orders.embedded-store.fsync", () -> "false");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createdOrder_ShouldBeReadChangedAndDeleted() throws Exception {
+        String id = create("Laptop", 999.99);
+
+        JsonNode order = body(perform(get("/api/orders/" + id)), 200);
+        assertEquals("Laptop", order.get("productName").asText());
+        assertEquals("CREATED", order.get("status").asText());
+
+        JsonNode confirmed = body(perform(patch("/api/orders/" + id + "/status")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"confirmed\"}")), 200);
+        assertEquals("CONFIRMED", confirmed.get("status").asText());
+
+        assertEquals(204, perform(delete("/api/orders/" + id)).getStatus());
+        assertError(perform(get("/api/orders/" + id)), 404, ErrorCodes.ORDER_NOT_FOUND);
+    }
+
+    @Test
+    void unknownOrder_ShouldBe404WithApiError() throws Exception {
+        JsonNode error = assertError(perform(get("/api/orders/999")), 404, ErrorCodes.ORDER_NOT_FOUND);
+
+        assertTrue(error.get("message").asText().endsWith("999"));
+        assertEquals("/api/orders/999", error.get("path").asText());
+        assertNotNull(error.get("timestamp"));
+        assertError(perform(delete("/api/orders/999")), 404, ErrorCodes.ORDER_NOT_FOUND);
+    }
+
+    @Test
+    void listOrders_ShouldReturnCursorOnlyWhenMoreRowsExist() throws Exception {
+        String first = create("Pen", 1.0);
+        String second = create("Pencil", 2.0);
+        String third = create("Paper", 3.0);
+        for (String id : new String[] {first, second, third}) {
+            perform(patch("/api/orders/" + id + "/status")
+                    .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"CANCELLED\"}"));
+        }
+
+        JsonNode page = body(perform(get("/api/orders").param("status", "cancelled").param("limit", "2")), 200);
+        assertEquals(2, page.get("items").size());
+        assertEquals(first, page.get("items").get(0).get("id").asText());
+        assertFalse(page.get("nextCursor").isNull());
+
+        JsonNode next = body(perform(get("/api/orders").param("status", "CANCELLED").param("limit", "2")
+                .param("after", page.get("nextCursor").asText())), 200);
+        assertEquals(1, next.get("items").size());
+        assertEquals(third, next.get("items").get(0).get("id").asText());
+        assertTrue(next.get("nextCursor").isNull());
+
+        // A cursor issued for one status filter cannot be replayed with another
+        assertError(perform(get("/api/orders").param("status", "CONFIRMED")
+                .param("after", page.get("nextCursor").asText())), 400, ErrorCodes.VALIDATION_FAILED);
+    }
+
+    @Test
+    void badInput_ShouldBe400WithApiError() throws Exception {
+        assertError(perform(get("/api/orders").param("status", "SHIPPED")), 400, ErrorCodes.VALIDATION_FAILED);
+        assertError(perform(get("/api/orders").param("after", "not-a-cursor")), 400, ErrorCodes.VALIDATION_FAILED);
+        assertError(perform(get("/api/orders").param("limit", "101")), 400, ErrorCodes.VALIDATION_FAILED);
+
+        JsonNode error = assertError(perform(post("/api/orders").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productName\":\"\",\"price\":1.0}")), 400, ErrorCodes.VALIDATION_FAILED);
+        assertTrue(error.get("message").asText().startsWith("productName"));
+    }
+
+    @Test
+    void disallowedTransition_ShouldBe409() throws Exception {
+        // Only the listing test cancels orders: it pages through all of them
+        String id = create("Desk", 120.0);
+        perform(patch("/api/orders/" + id + "/status")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"CONFIRMED\"}"));
+
+        assertError(perform(patch("/api/orders/" + id + "/status")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"CREATED\"}")),
+                409, ErrorCodes.INVALID_ORDER_STATUS);
+    }
+
+    private String create(String productName, double price) throws Exception {
+        String request = objectMapper.writeValueAsString(
+                objectMapper.createObjectNode().put("productName", productName).put("price", price));
+        return body(perform(post("/api/orders").contentType(MediaType.APPLICATION_JSON).content(request)), 200)
+                .get("id").asText();
+    }
+
+    private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result.getAsyncResult();
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result.getResponse();
+    }
+
+    private JsonNode body(MockHttpServletResponse response, int expectedStatus) throws Exception {
+        String content = response.getContentAsString();
+        assertEquals(expectedStatus, response.getStatus(), content);
+        return objectMapper.readTree(content);
+    }
+
+    private JsonNode assertError(MockHttpServletResponse response, int expectedStatus, String errorCode)
+            throws Exception {
+        JsonNode error = body(response, expectedStatus);
+        assertEquals(expectedStatus, error.get("status").asInt());
+        assertEquals(errorCode, error.get("errorCode").asText());
+        return error;
+    }
+}
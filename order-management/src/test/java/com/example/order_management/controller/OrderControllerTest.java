@@ -1,11 +1,21 @@
 package com.example.order_management.controller;
 
+import com.example.order_management.dto.OrderPageDTO;
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
 import com.example.order_management.exception.custom.OrderNotFoundException;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.service.OrderBatchService;
+import com.example.order_management.service.OrderExportService;
 import com.example.order_management.service.OrderService;
+import com.example.order_management.service.journal.NoOpOrderWriteBehind;
+import com.example.order_management.mapper.OrderCursorMapper;
 import com.example.order_management.mapper.OrderMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -22,7 +32,9 @@ public class OrderControllerTest {
     void setUp() {
         orderService = mock(OrderService.class);
         orderMapper = mock(OrderMapper.class);
-        orderController = new OrderController(orderService, orderMapper);
+        orderController = new OrderController(orderService, orderMapper,
+                mock(OrderBatchService.class), mock(OrderExportService.class), new OrderCursorMapper(),
+                new NoOpOrderWriteBehind());
     }
 
     @Test
@@ -44,4 +56,41 @@ public class OrderControllerTest {
         System.out.println("✅ Controller exception test passed");
         System.out.println("   Exception: " + exception.getMessage());
     }
+
+    @Test
+    void testListOrdersReturnsCursorOnlyWhenMoreRowsExist() {
+        when(orderService.listOrders(OrderStatus.CONFIRMED, null, 3))
+                .thenReturn(List.of(order(10L), order(20L), order(30L)));
+
+        OrderPageDTO page = orderController.listOrders("confirmed", null, 2).getBody();
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+
+        // The cursor seeks after the last returned id, with the same filter
+        when(orderService.listOrders(OrderStatus.CONFIRMED, 20L, 3)).thenReturn(List.of(order(30L)));
+        OrderPageDTO next = orderController.listOrders("CONFIRMED", page.getNextCursor(), 2).getBody();
+
+        assertEquals(1, next.getItems().size());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void testListOrdersRejectsBadInput() {
+        assertThrows(ValidationException.class, () -> orderController.listOrders("SHIPPED", null, 20));
+        assertThrows(ValidationException.class, () -> orderController.listOrders(null, "not-a-cursor", 20));
+        assertThrows(ValidationException.class, () -> orderController.listOrders(null, null, 0));
+        assertThrows(ValidationException.class, () -> orderController.listOrders(null, null, 101));
+
+        // A cursor issued for one status filter cannot be replayed with another
+        String cursor = new OrderCursorMapper().encode(20L, OrderStatus.CREATED);
+        assertThrows(ValidationException.class, () -> orderController.listOrders("CANCELLED", cursor, 20));
+        verifyNoInteractions(orderService);
+    }
+
+    private static Order order(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        return order;
+    }
 }
@@ -2,7 +2,11 @@ package com.example.order_management.controller;
 
 import com.example.order_management.exception.custom.OrderNotFoundException;
 import com.example.order_management.exception.global.GlobalExceptionHandler;
+import com.example.order_management.service.OrderBatchService;
+import com.example.order_management.service.OrderExportService;
 import com.example.order_management.service.OrderService;
+import com.example.order_management.service.journal.NoOpOrderWriteBehind;
+import com.example.order_management.mapper.OrderCursorMapper;
 import com.example.order_management.mapper.OrderMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,7 +29,9 @@ public class SimpleControllerTest {
     void setUp() {
         orderService = mock(OrderService.class);
         orderMapper = mock(OrderMapper.class);
-        orderController = new OrderController(orderService, orderMapper);
+        orderController = new OrderController(orderService, orderMapper,
+                mock(OrderBatchService.class), mock(OrderExportService.class), new OrderCursorMapper(),
+                new NoOpOrderWriteBehind());
     }
 
     @Test
@@ -0,0 +1,119 @@
+package com.example.order_management.controller.limit;
+
+import com.example.order_management.controller.OrderController;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.custom.BusinessException;
+import com.example.order_management.exception.global.ErrorStatusResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Limit adaptation on a manual clock, and shedding through the interceptor - no Spring context
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE_RTT = Duration.ofMillis(5).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void fullyUsedAtBaselineLatency_ShouldRaiseLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), BASELINE_RTT);
+        }
+
+        assertTrue(limiter.getLimit() > 20, "limit was " + limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void latencyOverTolerance_ShouldLowerLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(40);
+        runWindow(limiter, 40, BASELINE_RTT);
+        int before = limiter.getLimit();
+
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), BASELINE_RTT * 4);
+        }
+
+        assertTrue(limiter.getLimit() < before, before + " -> " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 4, "Never below min-limit");
+    }
+
+    @Test
+    void lightLoad_ShouldNotRaiseLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(40);
+
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, 10, BASELINE_RTT);
+        }
+
+        assertEquals(40, limiter.getLimit());
+    }
+
+    @Test
+    void interceptor_ShouldShedOverLimitWith429AndLimitReadsSeparately() throws Exception {
+        AdaptiveConcurrencyLimiter reads = limiter("read", 1, 1);
+        AdaptiveConcurrencyLimiter writes = limiter("write", 1, 1);
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(OrderController.class, reads, writes);
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString")) {
+            @Override
+            public Class<?> getBeanType() {
+                return OrderController.class;
+            }
+        };
+        MockHttpServletRequest firstGet = new MockHttpServletRequest("GET", "/api/orders/1");
+        assertTrue(interceptor.preHandle(firstGet, new MockHttpServletResponse(), handler));
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> interceptor.preHandle(
+                new MockHttpServletRequest("GET", "/api/orders/2"), new MockHttpServletResponse(), handler));
+        assertEquals(ErrorCodes.TOO_MANY_CONCURRENT_REQUESTS, ex.getErrorCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ErrorStatusResolver.resolve(ex));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("POST", "/api/orders"),
+                new MockHttpServletResponse(), handler), "Writes have their own limit");
+
+        interceptor.afterCompletion(firstGet, new MockHttpServletResponse(), handler, null);
+        assertEquals(0, reads.getInFlight());
+        assertEquals(1.0, meterRegistry.get("orders.concurrency.rejected").tag("operation", "read").counter().count());
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return limiter("read", initialLimit, 4);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String operation, int initialLimit, int minLimit) {
+        return new AdaptiveConcurrencyLimiter(operation, initialLimit, minLimit, 200, 1.5, 0.2, Duration.ofMillis(100),
+                meterRegistry, now::get);
+    }
+
+    /**
+     * concurrency requests in flight together, all completing after rtt, then the window closes
+     */
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long rtt) {
+        for (int i = 0; i < concurrency; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        now.addAndGet(Duration.ofMillis(100).toNanos());
+        for (int i = 0; i < concurrency; i++) {
+            limiter.release(rtt);
+        }
+    }
+}
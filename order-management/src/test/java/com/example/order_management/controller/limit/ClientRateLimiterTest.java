@@ -0,0 +1,106 @@
+package com.example.order_management.controller.limit;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.custom.RateLimitExceededException;
+import com.example.order_management.exception.global.GlobalExceptionHandler;
+import com.example.order_management.exception.model.ApiError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Token buckets on a manual clock, table bounds, client keying and the 429 response - no Spring context
+ */
+class ClientRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void burstThenRefill_ShouldFollowTokenBucket() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 5, 64, meterRegistry, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("client-a", 0), "burst request " + i);
+        }
+        long wait = limiter.tryAcquire("client-a", 0);
+        assertEquals(Duration.ofMillis(100).toNanos(), wait, "One token every 100ms");
+        assertEquals(0, limiter.tryAcquire("client-b", 0), "Other clients have their own bucket");
+
+        now.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("client-a", 0));
+        assertTrue(limiter.tryAcquire("client-a", 0) > 0);
+        assertEquals(2.0, meterRegistry.get("orders.rate_limit.rejected").counter().count());
+    }
+
+    @Test
+    void manyDistinctClients_ShouldStayWithinFixedTable() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 1024, meterRegistry, now::get);
+
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(0, limiter.tryAcquire("10.0." + (i >> 8) + "." + (i & 255), 0));
+        }
+
+        assertEquals(1024, limiter.capacity());
+        assertTrue(meterRegistry.get("orders.rate_limit.evictions").tag("reason", "capacity").counter().count() > 0);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(1024, limiter.evictIdle(), "All buckets refilled: every slot is idle");
+        assertEquals(0.0, meterRegistry.get("orders.rate_limit.clients").gauge().value());
+    }
+
+    @Test
+    void apiKeyAndAddress_ShouldBeSeparateClients() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 64, meterRegistry, now::get);
+
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", 1));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1", 2));
+        assertTrue(limiter.tryAcquire("10.0.0.1", 1) > 0);
+    }
+
+    @Test
+    void rotatingApiKeys_ShouldNotEscapeTheAddressBudget() throws NoSuchMethodException {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 2, 64, meterRegistry, now::get);
+        ClientRateLimitInterceptor interceptor = new ClientRateLimitInterceptor(Object.class, limiter);
+        HandlerMethod handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(interceptor.preHandle(post("10.0.0.1", "key-" + i), new MockHttpServletResponse(), handler));
+        }
+        assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(post("10.0.0.1", "key-2"), new MockHttpServletResponse(), handler));
+        assertTrue(interceptor.preHandle(post("10.0.0.2", "key-2"), new MockHttpServletResponse(), handler));
+    }
+
+    @Test
+    void rateLimited_ShouldReturn429WithRetryAfter() {
+        ResponseEntity<ApiError> response = new GlobalExceptionHandler().handleBusinessException(
+                new RateLimitExceededException(3), new MockHttpServletRequest("POST", "/api/orders"));
+
+        assertEquals(429, response.getStatusCode().value());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(ErrorCodes.RATE_LIMIT_EXCEEDED, response.getBody().getErrorCode());
+    }
+
+    private MockHttpServletRequest post(String remoteAddress, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        request.setRemoteAddr(remoteAddress);
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+}
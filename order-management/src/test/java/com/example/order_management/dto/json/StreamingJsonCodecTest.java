@@ -0,0 +1,141 @@
+package com.example.order_management.dto.json;
+
+import com.example.order_management.dto.OrderPageDTO;
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.dto.OrderResponseDTO;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.exception.render.ApiErrorJsonWriter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streaming codecs against Jackson databind with the Spring Boot ObjectMapper settings - no Spring context required
+ */
+class StreamingJsonCodecTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void writeOrder_ShouldProduceSameJsonAsDatabind() throws IOException {
+        List<OrderResponseDTO> orders = List.of(
+                order(369963416942542848L, "MacBook Pro", 2499.99, "CREATED"),
+                order(1L, "Quote \" backslash \\ tab \t and ünïcödé ✓", 1e-7, "CANCELLED"),
+                order(null, null, null, null),
+                order(2L, "x", Double.NaN, "LEGACY_STATUS"));
+
+        for (OrderResponseDTO order : orders) {
+            assertEquals(objectMapper.writeValueAsString(order), write(OrderJsonCodec::writeOrder, order));
+        }
+
+        OrderPageDTO page = new OrderPageDTO();
+        assertEquals(objectMapper.writeValueAsString(page), write(OrderJsonCodec::writePage, page));
+        page.setItems(Arrays.asList(orders.get(0), null, orders.get(1)));
+        page.setNextCursor("eyJpZCI6MX0");
+        assertEquals(objectMapper.writeValueAsString(page), write(OrderJsonCodec::writePage, page));
+    }
+
+    @Test
+    void writeApiError_ShouldProduceSameJsonAsDatabind() throws IOException {
+        List<ApiError> errors = List.of(
+                new ApiError(404, ErrorCodes.ORDER_NOT_FOUND, "Order not found with id: 7", ErrorType.BUSINESS,
+                        "/api/orders/7", LocalDateTime.of(2026, 10, 17, 21, 42, 32, 480_000_000)),
+                new ApiError(500, ErrorCodes.INTERNAL_SERVER_ERROR, null, ErrorType.SYSTEM, null,
+                        LocalDateTime.of(2026, 1, 2, 3, 4)),
+                new ApiError(400, null, "price: must not be null", null, "/api/orders", null),
+                new ApiError(409, ErrorCodes.INVALID_ORDER_STATUS, "x", ErrorType.BUSINESS, "/",
+                        LocalDateTime.of(987, 12, 31, 23, 59, 59, 1)),
+                new ApiError(503, ErrorCodes.DATABASE_ERROR, "x", ErrorType.SYSTEM, "/",
+                        LocalDateTime.of(12345, 6, 7, 8, 9, 10, 123_456_789)),
+                new ApiError(429, ErrorCodes.RATE_LIMIT_EXCEEDED, "Retry \"later\"", ErrorType.VALIDATION));
+
+        for (ApiError error : errors) {
+            assertEquals(objectMapper.writeValueAsString(error), write(ApiErrorJsonWriter::write, error));
+        }
+    }
+
+    @Test
+    void readOrderRequest_ShouldMatchDatabindIncludingCoercionAndUnknownFields() throws IOException {
+        List<String> bodies = List.of(
+                "{\"productName\":\"MacBook Pro\",\"price\":2499.99}",
+                "{\"price\":12,\"productName\":null}",
+                "{\"productName\":\"A\",\"extra\":{\"nested\":[1,2,{\"x\":null}]},\"price\":\"12.5\"}",
+                "{\"productName\":42,\"price\":null,\"productName\":\"last wins\"}",
+                "{}",
+                "null");
+
+        for (String body : bodies) {
+            OrderRequestDTO expected = objectMapper.readValue(body, OrderRequestDTO.class);
+            OrderRequestDTO actual = OrderJsonCodec.readOrderRequest(objectMapper.createParser(body), objectMapper);
+            assertEquals(expected, actual, body);
+        }
+    }
+
+    @Test
+    void converter_ShouldRejectMalformedBodiesLikeJacksonAndFollowMapperFormat() throws IOException {
+        @SuppressWarnings("unchecked")
+        HttpMessageConverter<OrderRequestDTO> reader =
+                (HttpMessageConverter<OrderRequestDTO>) JsonCodecConfig.converters(objectMapper).get(0);
+
+        assertTrue(reader.canRead(OrderRequestDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(reader.canWrite(OrderRequestDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(reader.canRead(OrderResponseDTO.class, MediaType.APPLICATION_JSON));
+        for (String body : List.of("{\"productName\":", "{\"price\":\"abc\"}", "[1]")) {
+            MockHttpInputMessage input = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+            assertThrows(HttpMessageNotReadableException.class,
+                    () -> reader.read(OrderRequestDTO.class, input), body);
+        }
+
+        @SuppressWarnings("unchecked")
+        HttpMessageConverter<OrderResponseDTO> writer =
+                (HttpMessageConverter<OrderResponseDTO>) JsonCodecConfig.converters(objectMapper).get(1);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        OrderResponseDTO order = order(1L, "MacBook Pro", 2499.99, "CONFIRMED");
+        writer.write(order, MediaType.APPLICATION_JSON, output);
+        assertEquals(objectMapper.writeValueAsString(order), output.getBodyAsString(StandardCharsets.UTF_8));
+
+        assertTrue(JsonCodecConfig.writesDefaultFormat(objectMapper));
+        assertFalse(JsonCodecConfig.writesDefaultFormat(Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build()));
+    }
+
+    private <T> String write(StreamingJsonHttpMessageConverter.BodyWriter<T> writer, T value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            writer.write(generator, value);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private OrderResponseDTO order(Long id, String productName, Double price, String status) {
+        OrderResponseDTO order = new OrderResponseDTO();
+        order.setId(id);
+        order.setProductName(productName);
+        order.setPrice(price);
+        order.setStatus(status);
+        return order;
+    }
+}
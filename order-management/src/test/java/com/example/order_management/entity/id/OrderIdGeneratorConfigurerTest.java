@@ -0,0 +1,33 @@
+package com.example.order_management.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Node id derived from the host address - no Spring context required
+ */
+class OrderIdGeneratorConfigurerTest {
+
+    @Test
+    void nodeIdOf_ShouldTakeLowBitsOfIpv4Address() throws UnknownHostException {
+        // 10.0.5.20: (5 << 8 | 20) & 1023
+        assertEquals(276, OrderIdGeneratorConfigurer.nodeIdOf(InetAddress.getByName("10.0.5.20")));
+        assertNotEquals(OrderIdGeneratorConfigurer.nodeIdOf(InetAddress.getByName("10.0.5.20")),
+                OrderIdGeneratorConfigurer.nodeIdOf(InetAddress.getByName("10.0.5.21")));
+    }
+
+    @Test
+    void nodeIdOf_ShouldRejectAddressesThatDoNotTellHostsApart() throws UnknownHostException {
+        InetAddress loopback = InetAddress.getByName("127.0.1.1");
+        InetAddress ipv6 = InetAddress.getByName("fe80::1");
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> OrderIdGeneratorConfigurer.nodeIdOf(loopback));
+        assertTrue(ex.getMessage().contains("app.orders.id.node-id"));
+        assertThrows(IllegalStateException.class, () -> OrderIdGeneratorConfigurer.nodeIdOf(ipv6));
+    }
+}
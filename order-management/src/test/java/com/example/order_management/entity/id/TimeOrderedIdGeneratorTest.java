@@ -0,0 +1,67 @@
+package com.example.order_management.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Order id generation - no Spring context required
+ */
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void nextId_ShouldBeStrictlyIncreasing() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void nextId_ShouldEncodeNodeAndTimestamp() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(42);
+
+        long id = generator.nextId();
+
+        assertEquals(42, TimeOrderedIdGenerator.nodeIdOf(id));
+        assertTrue(Duration.between(TimeOrderedIdGenerator.timestampOf(id), Instant.now()).abs().toSeconds() < 5);
+    }
+
+    @Test
+    void nextId_ShouldBeUniqueAcrossThreads() throws InterruptedException {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(160_000, ids.size());
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.order_management.exception;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.exception.render.ApiErrorRenderer;
+import com.example.order_management.exception.render.CoarseClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Template rendering must stay byte-compatible with Jackson databind
+ */
+class ApiErrorRendererTest {
+
+    // Same date handling Spring Boot applies to the MVC ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final CoarseClock clock = new CoarseClock();
+    private final ApiErrorRenderer renderer = new ApiErrorRenderer(clock, objectMapper);
+
+    @Test
+    void render_ShouldMatchJacksonForBusinessError() throws IOException {
+        ApiError apiError = new ApiError(404, ErrorCodes.ORDER_NOT_FOUND,
+                "Order not found with id: Order with id: 999", ErrorType.BUSINESS,
+                "/api/orders/999", clock.now().time());
+
+        assertSameJson(apiError);
+        // Second render hits the cached message/template
+        assertSameJson(apiError);
+    }
+
+    @Test
+    void render_ShouldMatchJacksonForEscapedAndMissingFields() throws IOException {
+        assertSameJson(new ApiError(400, ErrorCodes.VALIDATION_FAILED,
+                "productName: \"quoted\"\n\tü €", ErrorType.VALIDATION, "/api/orders?x=\\"));
+        assertSameJson(new ApiError(500, ErrorCodes.INTERNAL_SERVER_ERROR,
+                null, ErrorType.SYSTEM));
+        assertSameJson(new ApiError(500, ErrorCodes.INTERNAL_SERVER_ERROR,
+                ErrorMessages.INTERNAL_SERVER_ERROR, ErrorType.SYSTEM, "/api/orders",
+                LocalDateTime.of(2026, 2, 10, 17, 12, 0)));
+    }
+
+    @Test
+    void render_ShouldFallBackToJacksonWithoutErrorCode() throws IOException {
+        ApiError apiError = new ApiError(500, null, "boom", null, "/api/orders");
+        apiError.setTimestamp(null);
+
+        assertSameJson(apiError);
+    }
+
+    @Test
+    void render_ShouldHandleSameCodeWithDifferentStatus() throws IOException {
+        assertSameJson(new ApiError(404, ErrorCodes.DATABASE_ERROR, "a", ErrorType.SYSTEM, "/x"));
+        assertSameJson(new ApiError(503, ErrorCodes.DATABASE_ERROR, "b", ErrorType.SYSTEM, "/y"));
+    }
+
+    private void assertSameJson(ApiError apiError) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(apiError, out);
+
+        assertEquals(objectMapper.writeValueAsString(apiError), out.toString(StandardCharsets.UTF_8));
+    }
+}
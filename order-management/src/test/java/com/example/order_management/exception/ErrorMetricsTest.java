@@ -0,0 +1,74 @@
+package com.example.order_management.exception;
+
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.global.GlobalExceptionHandler;
+import com.example.order_management.exception.metrics.ErrorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Error counters by route template, bounded cardinality and an allocation-free hot path
+ */
+class ErrorMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ErrorMetrics errorMetrics = new ErrorMetrics(meterRegistry);
+
+    @Test
+    void handledErrors_ShouldBeCountedByRouteTemplateNotRawUri() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(null, errorMetrics);
+
+        handler.handleBusinessException(new ResourceNotFoundException("Order", 1L), request("/api/orders/1"));
+        handler.handleBusinessException(new ResourceNotFoundException("Order", 2L), request("/api/orders/2"));
+        handler.handleAllExceptions(new IllegalStateException("boom"), new MockHttpServletRequest("GET", "/nowhere"));
+
+        assertEquals(2.0, meterRegistry.get("http.server.errors")
+                .tags("errorCode", "ORDER_NOT_FOUND", "errorType", "BUSINESS", "status", "404",
+                        "route", "/api/orders/{id}")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get("http.server.errors")
+                .tags("errorCode", "INTERNAL_SERVER_ERROR", "status", "500", "route", "UNKNOWN")
+                .counter().count());
+        assertEquals(2, meterRegistry.get("http.server.errors.render").tag("errorType", "BUSINESS").timer().count());
+    }
+
+    @Test
+    void routes_ShouldBeCappedToBoundCardinality() {
+        for (int i = 0; i < 300; i++) {
+            errorMetrics.record("/route/" + i, "ORDER_NOT_FOUND", ErrorType.BUSINESS, 404, System.nanoTime());
+        }
+
+        assertEquals(44.0, meterRegistry.get("http.server.errors").tag("route", "OTHER").counter().count());
+        assertEquals(257, meterRegistry.get("http.server.errors").counters().size());
+    }
+
+    @Test
+    void recording_ShouldNotAllocatePerEvent() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < 20_000; i++) {
+            errorMetrics.record("/api/orders/{id}", "ORDER_NOT_FOUND", ErrorType.BUSINESS, 404, System.nanoTime());
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            errorMetrics.record("/api/orders/{id}", "ORDER_NOT_FOUND", ErrorType.BUSINESS, 404, System.nanoTime());
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 100_000, "Expected well under 1 byte per event, allocated " + allocated + " bytes");
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/{id}");
+        return request;
+    }
+}
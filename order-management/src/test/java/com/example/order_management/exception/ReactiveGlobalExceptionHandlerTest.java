@@ -0,0 +1,111 @@
+package com.example.order_management.exception;
+
+import com.example.order_management.controller.ReactiveOrderController;
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.exception.global.GlobalExceptionHandler;
+import com.example.order_management.exception.global.ReactiveGlobalExceptionHandler;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.exception.render.ApiErrorRenderer;
+import com.example.order_management.exception.render.CoarseClock;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The reactive handler must produce the same ApiError (minus timestamp) as GlobalExceptionHandler
+ */
+class ReactiveGlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ReactiveGlobalExceptionHandler reactiveHandler =
+            new ReactiveGlobalExceptionHandler(objectMapper, (ApiErrorRenderer) null, (CoarseClock) null);
+    private final GlobalExceptionHandler servletHandler = new GlobalExceptionHandler();
+
+    @Test
+    void businessException_ShouldMatchServletHandler() throws Exception {
+        ResourceNotFoundException notFound = new ResourceNotFoundException("Order", 999L);
+
+        JsonNode reactive = handle(notFound, "/api/orders/999");
+        ResponseEntity<ApiError> servlet = servletHandler.handleBusinessException(
+                notFound, new MockHttpServletRequest("GET", "/api/orders/999"));
+
+        assertSameError(servlet, reactive);
+        assertEquals(404, reactive.get("status").asInt());
+    }
+
+    @Test
+    void validationException_ShouldMatchServletHandler() throws Exception {
+        ValidationException invalid = new ValidationException("status", "must be one of CREATED");
+
+        JsonNode reactive = handle(invalid, "/api/orders");
+        ResponseEntity<ApiError> servlet = servletHandler.handleBusinessException(
+                invalid, new MockHttpServletRequest("GET", "/api/orders"));
+
+        assertSameError(servlet, reactive);
+        assertEquals(400, reactive.get("status").asInt());
+    }
+
+    @Test
+    void bindException_ShouldReportFirstFieldError() throws Exception {
+        OrderRequestDTO dto = new OrderRequestDTO();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(dto, "orderDTO");
+        bindingResult.addError(new FieldError("orderDTO", "productName", "must not be blank"));
+        MethodParameter parameter = new MethodParameter(
+                ReactiveOrderController.class.getMethod("createOrder", OrderRequestDTO.class), 0);
+
+        JsonNode reactive = handle(new WebExchangeBindException(parameter, bindingResult), "/api/orders");
+
+        assertEquals(400, reactive.get("status").asInt());
+        assertEquals("VALIDATION_FAILED", reactive.get("errorCode").asText());
+        assertEquals("productName: must not be blank", reactive.get("message").asText());
+        assertEquals("VALIDATION", reactive.get("errorType").asText());
+    }
+
+    @Test
+    void unexpectedException_ShouldMatchServletHandler() throws Exception {
+        IllegalStateException unexpected = new IllegalStateException("boom");
+
+        JsonNode reactive = handle(unexpected, "/api/orders/abc");
+        ResponseEntity<ApiError> servlet = servletHandler.handleAllExceptions(
+                unexpected, new MockHttpServletRequest("GET", "/api/orders/abc"));
+
+        assertSameError(servlet, reactive);
+        assertEquals(500, reactive.get("status").asInt());
+    }
+
+    private JsonNode handle(Throwable ex, String path) throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        reactiveHandler.handle(exchange, ex).block();
+
+        assertEquals("application/json", exchange.getResponse().getHeaders().getContentType().toString());
+        JsonNode body = objectMapper.readTree(exchange.getResponse().getBodyAsString().block());
+        assertEquals(exchange.getResponse().getStatusCode().value(), body.get("status").asInt());
+        return body;
+    }
+
+    private void assertSameError(ResponseEntity<ApiError> servlet, JsonNode reactive) {
+        ApiError expected = servlet.getBody();
+        assertEquals(servlet.getStatusCode().value(), reactive.get("status").asInt());
+        assertEquals(expected.getErrorCode(), reactive.get("errorCode").asText());
+        assertEquals(expected.getMessage(), reactive.get("message").asText());
+        assertEquals(expected.getErrorType().name(), reactive.get("errorType").asText());
+        assertEquals(expected.getPath(), reactive.get("path").asText());
+        assertTrue(reactive.hasNonNull("timestamp"));
+    }
+}
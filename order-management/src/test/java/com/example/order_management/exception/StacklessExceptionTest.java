@@ -0,0 +1,84 @@
+package com.example.order_management.exception;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import com.example.order_management.exception.custom.SharedBusinessException;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.policy.StackTracePolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stackless policy and shared exception instances - no Spring context required
+ */
+class StacklessExceptionTest {
+
+    @AfterEach
+    void tearDown() {
+        StackTracePolicy.reset();
+    }
+
+    @Test
+    void defaultPolicy_ShouldCaptureStackTrace() {
+        ResourceNotFoundException ex = new ResourceNotFoundException("Order", 999L);
+
+        assertTrue(ex.getStackTrace().length > 0);
+        assertEquals("Order not found with id: Order with id: 999", ex.getMessage());
+    }
+
+    @Test
+    void stacklessErrorType_ShouldSkipStackTrace() {
+        StackTracePolicy.configure(EnumSet.of(ErrorType.BUSINESS), List.of());
+
+        ResourceNotFoundException notFound = new ResourceNotFoundException("Order", 999L);
+        ValidationException validation = new ValidationException("price", "must not be null");
+
+        assertEquals(0, notFound.getStackTrace().length);
+        assertTrue(validation.getStackTrace().length > 0);
+        assertEquals("Validation failed: price must not be null", validation.getMessage());
+    }
+
+    @Test
+    void stacklessErrorCode_ShouldSkipStackTrace() {
+        StackTracePolicy.configure(List.of(), List.of(ErrorCodes.VALIDATION_FAILED));
+
+        ValidationException validation = new ValidationException("Validation failed");
+
+        assertEquals(0, validation.getStackTrace().length);
+    }
+
+    @Test
+    void sharedException_ShouldBeCachedAndImmutable() {
+        SharedBusinessException first = SharedBusinessException.of(
+                ErrorCodes.DATABASE_ERROR, ErrorType.SYSTEM, ErrorMessages.DATABASE_ERROR);
+        SharedBusinessException second = SharedBusinessException.of(
+                ErrorCodes.DATABASE_ERROR, ErrorType.SYSTEM, ErrorMessages.DATABASE_ERROR);
+
+        first.addSuppressed(new RuntimeException("ignored"));
+
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+        assertEquals(0, first.getSuppressed().length);
+        assertEquals(ErrorType.SYSTEM, first.getErrorType());
+        assertThrows(IllegalStateException.class, () -> first.initCause(new RuntimeException()));
+    }
+
+    @Test
+    void sharedException_ShouldKeepEachMessageOfAnErrorCode() {
+        SharedBusinessException generic = SharedBusinessException.of(
+                ErrorCodes.DATABASE_ERROR, ErrorType.SYSTEM, ErrorMessages.DATABASE_ERROR);
+        SharedBusinessException unavailable = SharedBusinessException.of(
+                ErrorCodes.DATABASE_ERROR, ErrorType.SYSTEM, ErrorMessages.DATABASE_UNAVAILABLE);
+
+        assertNotSame(generic, unavailable);
+        assertEquals(ErrorMessages.DATABASE_ERROR, generic.getMessage());
+        assertEquals(ErrorMessages.DATABASE_UNAVAILABLE, unavailable.getMessage());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.order_management.exception.logging;
+
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Fingerprinting, budgets, summaries and the bounded queue - writer driven by hand, no thread
+ */
+class ThrottledErrorLoggerTest {
+
+    private static final String FORMAT = "Unexpected error occurred at {}: {}";
+
+    private Logger logger;
+    private SimpleMeterRegistry meterRegistry;
+    private ThrottledErrorLogger errorLogger;
+
+    @BeforeEach
+    void setUp() {
+        logger = mock(Logger.class);
+        meterRegistry = new SimpleMeterRegistry();
+        errorLogger = new ThrottledErrorLogger(3, Duration.ofMinutes(1), 5, 100, meterRegistry);
+    }
+
+    @Test
+    void repeatedError_ShouldBeLoggedInFullOnceThenBudgetedAndSummarized() {
+        for (int i = 0; i < 10; i++) {
+            errorLogger.error(logger, "INTERNAL_SERVER_ERROR", failure(), FORMAT, "/api/orders", "boom");
+        }
+
+        assertEquals(3, errorLogger.drain());
+        verify(logger, times(1)).error(eq(FORMAT), eq("/api/orders"), eq("boom"), any(IllegalStateException.class));
+        verify(logger, times(2)).error(eq(FORMAT + " (repeat, stack trace omitted)"), eq("/api/orders"), eq("boom"));
+
+        errorLogger.summarize();
+        verify(logger).error(startsWith("Suppressed"), eq(7L), any(), contains("IllegalStateException"), eq(10L));
+        assertEquals(7.0, meterRegistry.get("errors.log.suppressed").counter().count());
+    }
+
+    @Test
+    void differentFingerprints_ShouldHaveSeparateBudgets() {
+        for (int i = 0; i < 5; i++) {
+            errorLogger.warn(logger, "ORDER_NOT_FOUND", new ResourceNotFoundException("Order", (long) i),
+                    "Business exception occurred: {} - {}", "ORDER_NOT_FOUND", "missing");
+            errorLogger.error(logger, "INTERNAL_SERVER_ERROR", failure(), FORMAT, "/api/orders", "boom");
+        }
+
+        assertEquals(6, errorLogger.drain());
+        verify(logger, times(3)).warn(anyString(), any(), any());
+    }
+
+    @Test
+    void nextWindow_ShouldRestoreBudgetAndIdleFingerprintsShouldBeForgotten() {
+        IllegalStateException failure = failure();
+        errorLogger.error(logger, "INTERNAL_SERVER_ERROR", failure, FORMAT, "/a", "boom");
+        errorLogger.drain();
+        errorLogger.summarize();
+
+        errorLogger.error(logger, "INTERNAL_SERVER_ERROR", failure, FORMAT, "/b", "boom");
+        errorLogger.drain();
+        verify(logger).error(eq(FORMAT + " (repeat, stack trace omitted)"), eq("/b"), eq("boom"));
+
+        // A window without occurrences forgets the fingerprint - the next one is logged in full again
+        errorLogger.summarize();
+        errorLogger.summarize();
+        errorLogger.error(logger, "INTERNAL_SERVER_ERROR", failure, FORMAT, "/c", "boom");
+        errorLogger.drain();
+        verify(logger).error(eq(FORMAT), eq("/c"), eq("boom"), any(IllegalStateException.class));
+    }
+
+    @Test
+    void fullQueue_ShouldDropWithoutBlocking() {
+        ThrottledErrorLogger small = new ThrottledErrorLogger(1, Duration.ofMinutes(1), 5, 2, meterRegistry);
+        for (int i = 0; i < 4; i++) {
+            // Distinct fingerprints (different errorCode), each within its budget
+            small.error(logger, "CODE_" + i, failure(), FORMAT, "/api/orders", "boom");
+        }
+
+        assertEquals(2, small.drain());
+        assertEquals(2.0, meterRegistry.get("errors.log.dropped").counter().count());
+    }
+
+    private static IllegalStateException failure() {
+        // Same throw site, but the caller's frame is part of the fingerprint too (top 5 frames)
+        return new IllegalStateException("boom");
+    }
+}
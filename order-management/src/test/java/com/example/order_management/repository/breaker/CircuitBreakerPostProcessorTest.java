@@ -0,0 +1,68 @@
+package com.example.order_management.repository.breaker;
+
+import com.example.order_management.exception.custom.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.ResourceTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Transaction manager guard - mock transaction manager, no Spring context
+ */
+class CircuitBreakerPostProcessorTest {
+
+    private DatabaseCircuitBreaker breaker;
+    private PlatformTransactionManager target;
+    private PlatformTransactionManager guarded;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        breaker = new DatabaseCircuitBreaker(10, 2, 50, Duration.ofSeconds(2), 80, Duration.ofSeconds(10), 2,
+                new SimpleMeterRegistry());
+        ObjectProvider<DatabaseCircuitBreaker> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(breaker);
+        target = mock(PlatformTransactionManager.class, withSettings().extraInterfaces(ResourceTransactionManager.class));
+        guarded = (PlatformTransactionManager) new CircuitBreakerPostProcessor(provider)
+                .postProcessAfterInitialization(target, "transactionManager");
+    }
+
+    @Test
+    void getTransaction_ShouldCountConnectionFailuresAndBeRejectedOnceOpen() {
+        when(target.getTransaction(any())).thenThrow(new CannotCreateTransactionException("no connection"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(CannotCreateTransactionException.class,
+                    () -> guarded.getTransaction(new DefaultTransactionDefinition()));
+        }
+
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(BusinessException.class, () -> guarded.getTransaction(new DefaultTransactionDefinition()));
+        verify(target, times(2)).getTransaction(any());
+    }
+
+    @Test
+    void commit_ShouldBeCountedButNeverRejected() {
+        TransactionStatus status = new SimpleTransactionStatus(true);
+        doThrow(new CannotCreateTransactionException("connection lost")).when(target).commit(status);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(CannotCreateTransactionException.class, () -> guarded.commit(status));
+        }
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+
+        guarded.rollback(status);
+        verify(target).rollback(status);
+    }
+}
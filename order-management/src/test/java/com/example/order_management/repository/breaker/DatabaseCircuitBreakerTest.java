@@ -0,0 +1,107 @@
+package com.example.order_management.repository.breaker;
+
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.custom.BusinessException;
+import com.example.order_management.exception.global.ErrorStatusResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Circuit breaker state machine on a manual clock - no Spring context, no database
+ */
+class DatabaseCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new DatabaseCircuitBreaker(10, 4, 50, Duration.ofSeconds(2), 80, Duration.ofSeconds(10), 2,
+                meterRegistry, now::get);
+    }
+
+    @Test
+    void failureRateOverThreshold_ShouldOpenAndRejectWith503() {
+        succeed();
+        fail(new QueryTimeoutException("timeout"));
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, breaker.getState(), "Below minimum-calls");
+        fail(new QueryTimeoutException("timeout"));
+        succeed();
+
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+        BusinessException ex = assertThrows(BusinessException.class, breaker::acquirePermission);
+        assertEquals(ErrorCodes.DATABASE_ERROR, ex.getErrorCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ErrorStatusResolver.resolve(ex));
+        assertEquals(1.0, meterRegistry.get("db.circuit_breaker.calls").tag("outcome", "rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("db.circuit_breaker.state").tag("state", "open").gauge().value());
+        assertEquals(1.0, meterRegistry.get("db.circuit_breaker.transitions")
+                .tag("from", "closed").tag("to", "open").counter().count());
+    }
+
+    @Test
+    void callerErrorsAndSlowCalls_ShouldBeCountedSeparately() {
+        for (int i = 0; i < 4; i++) {
+            fail(new DataIntegrityViolationException("duplicate"));
+        }
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, breaker.getState(), "Constraint violations are not outages");
+
+        for (int i = 0; i < 8; i++) {
+            long startedAt = breaker.acquirePermission();
+            now.addAndGet(Duration.ofSeconds(3).toNanos());
+            breaker.onSuccess(startedAt);
+        }
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState(), "8 of 10 calls slow");
+    }
+
+    @Test
+    void halfOpen_ShouldLetProbesThroughAndCloseOnSuccess() {
+        for (int i = 0; i < 4; i++) {
+            fail(new QueryTimeoutException("timeout"));
+        }
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        long probe1 = breaker.acquirePermission();
+        long probe2 = breaker.acquirePermission();
+        assertEquals(DatabaseCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(BusinessException.class, breaker::acquirePermission, "Only half-open-calls probes");
+
+        breaker.onSuccess(probe1);
+        breaker.onSuccess(probe2);
+
+        assertEquals(DatabaseCircuitBreaker.State.CLOSED, breaker.getState());
+        succeed();
+    }
+
+    @Test
+    void halfOpen_ShouldReopenWhenProbeFails() {
+        for (int i = 0; i < 4; i++) {
+            fail(new QueryTimeoutException("timeout"));
+        }
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        fail(new QueryTimeoutException("still down"));
+
+        assertEquals(DatabaseCircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(BusinessException.class, breaker::acquirePermission, "Wait duration starts again");
+    }
+
+    private void succeed() {
+        breaker.onSuccess(breaker.acquirePermission());
+    }
+
+    private void fail(Exception error) {
+        breaker.onError(breaker.acquirePermission(), error);
+    }
+}
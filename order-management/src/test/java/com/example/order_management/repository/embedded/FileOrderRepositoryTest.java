@@ -0,0 +1,195 @@
+package com.example.order_management.repository.embedded;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Embedded order store: persistence, crash recovery, keyset pages and compaction - plain files, no Spring context
+ */
+class FileOrderRepositoryTest {
+
+    private static final int RECORDS_PER_CHUNK = 64;
+
+    @TempDir
+    Path directory;
+
+    private final List<FileOrderRepository> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (FileOrderRepository repository : opened) {
+            repository.close();
+        }
+    }
+
+    @Test
+    void savedOrders_ShouldSurviveLostDataPagesThroughTheRedoLog() throws IOException {
+        FileOrderRepository repository = open();
+        Order laptop = repository.save(order("Laptop", 999.99, OrderStatus.CREATED));
+        Order pen = repository.save(order("Pen", null, null));
+        repository.deleteOrderById(pen.getId());
+        repository.close();
+        opened.remove(repository);
+
+        // Crash before the mapped pages reached the disk: only the redo log survives
+        Files.write(directory.resolve(FileOrderRepository.DATA_FILE),
+                new byte[(int) Files.size(directory.resolve(FileOrderRepository.DATA_FILE))]);
+
+        FileOrderRepository recovered = open();
+        assertEquals(1, recovered.count());
+        Order found = recovered.findById(laptop.getId()).orElseThrow();
+        assertEquals("Laptop", found.getProductName());
+        assertEquals(999.99, found.getPrice());
+        assertEquals(OrderStatus.CREATED, found.getStatus());
+        assertTrue(recovered.findById(pen.getId()).isEmpty());
+    }
+
+    @Test
+    void updateStatus_ShouldOnlyApplyFromExpectedStatus() throws IOException {
+        FileOrderRepository repository = open();
+        Order order = repository.save(order("Laptop", 999.99, OrderStatus.CREATED));
+
+        assertEquals(1, repository.updateStatus(order.getId(), OrderStatus.CREATED, OrderStatus.CONFIRMED));
+        assertEquals(0, repository.updateStatus(order.getId(), OrderStatus.CREATED, OrderStatus.CANCELLED));
+        assertEquals(0, repository.updateStatus(order.getId() + 1, OrderStatus.CONFIRMED, OrderStatus.CANCELLED));
+        repository.close();
+        opened.remove(repository);
+
+        assertEquals(OrderStatus.CONFIRMED, open().findById(order.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void deletes_ShouldReturnAffectedRowCount() {
+        FileOrderRepository repository = open();
+        Order a = repository.save(order("A", 1.0, OrderStatus.CREATED));
+        Order b = repository.save(order("B", 2.0, OrderStatus.CREATED));
+        Order c = repository.save(order("C", 3.0, OrderStatus.CREATED));
+
+        assertEquals(1, repository.deleteOrderById(a.getId()));
+        assertEquals(0, repository.deleteOrderById(a.getId()));
+        assertEquals(0, repository.deleteOrderByIdAndStatus(b.getId(), OrderStatus.CONFIRMED));
+        assertEquals(List.of(b.getId()), repository.findExistingIds(List.of(a.getId(), b.getId())));
+        assertEquals(2, repository.deleteOrdersByIds(List.of(a.getId(), b.getId(), c.getId(), c.getId())));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void tornLogTail_ShouldBeDiscardedOnOpen() throws IOException {
+        FileOrderRepository repository = open();
+        Order kept = repository.save(order("Kept", 1.0, OrderStatus.CREATED));
+        repository.close();
+        opened.remove(repository);
+
+        // Half-written entry after the last complete one
+        Files.write(directory.resolve(FileOrderRepository.LOG_FILE), new byte[]{0, 0, 1, 33, 7, 7},
+                StandardOpenOption.APPEND);
+
+        FileOrderRepository recovered = open();
+        assertEquals(List.of(kept.getId()), recovered.streamAllIds().toList());
+        Order added = recovered.save(order("Added", 2.0, OrderStatus.CREATED));
+        assertEquals(List.of(kept.getId(), added.getId()), recovered.streamAllIds().toList());
+    }
+
+    @Test
+    void keysetPages_ShouldFollowIdOrderAndFilterByStatus() {
+        FileOrderRepository repository = open();
+        List<Order> saved = repository.saveAll(List.of(
+                order("A", 1.0, OrderStatus.CREATED),
+                order("B", 2.0, OrderStatus.CONFIRMED),
+                order("C", 3.0, OrderStatus.CREATED),
+                order("D", 4.0, OrderStatus.CREATED)));
+
+        List<Order> firstPage = repository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                OrderStatus.CREATED, Long.MIN_VALUE, Limit.of(2));
+        List<Order> secondPage = repository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                OrderStatus.CREATED, firstPage.get(1).getId(), Limit.of(2));
+
+        assertEquals(List.of("A", "C"), firstPage.stream().map(Order::getProductName).toList());
+        assertEquals(List.of("D"), secondPage.stream().map(Order::getProductName).toList());
+        assertEquals(saved.get(1).getId(),
+                repository.findByIdGreaterThanOrderByIdAsc(saved.get(0).getId(), Limit.of(1)).get(0).getId());
+    }
+
+    @Test
+    void compaction_ShouldShrinkTheDataFileAndKeepEveryOrder() {
+        FileOrderRepository repository = open();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < RECORDS_PER_CHUNK * 4; i++) {
+            orders.add(order("Order " + i, (double) i, OrderStatus.CREATED));
+        }
+        repository.saveAll(orders);
+        long before = repository.dataSizeInBytes();
+        repository.deleteOrdersByIds(orders.subList(0, RECORDS_PER_CHUNK * 3).stream().map(Order::getId).toList());
+
+        assertTrue(repository.compact());
+
+        assertTrue(repository.dataSizeInBytes() < before);
+        assertEquals(RECORDS_PER_CHUNK, repository.count());
+        assertEquals("Order " + (RECORDS_PER_CHUNK * 4 - 1),
+                repository.findById(orders.get(orders.size() - 1).getId()).orElseThrow().getProductName());
+        assertEquals(RECORDS_PER_CHUNK, open().count());
+    }
+
+    @Test
+    void productNameTooLong_ShouldBeRejectedLikeATooLongColumn() {
+        FileOrderRepository repository = open();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> repository.save(order("x".repeat(OrderDataFile.MAX_NAME_BYTES + 1), 1.0, null)));
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void offHeapIndex_ShouldMatchAHashMapUnderRandomPutsAndRemoves() {
+        OffHeapLongIntIndex index = new OffHeapLongIntIndex(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? -1 : removed, index.remove(key));
+            } else {
+                expected.put(key, i);
+                index.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), index.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, -1), index.get(key));
+        }
+    }
+
+    private FileOrderRepository open() {
+        FileOrderRepository repository = FileOrderRepository.open(directory, RECORDS_PER_CHUNK, true,
+                1024 * 1024, Duration.ofMinutes(1));
+        opened.add(repository);
+        return repository;
+    }
+
+    private static Order order(String productName, Double price, OrderStatus status) {
+        Order order = new Order();
+        order.setProductName(productName);
+        order.setPrice(price);
+        order.setStatus(status);
+        return order;
+    }
+}
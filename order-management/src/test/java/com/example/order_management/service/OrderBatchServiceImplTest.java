@@ -0,0 +1,166 @@
+package com.example.order_management.service;
+
+import com.example.order_management.dto.BatchDeleteResponseDTO;
+import com.example.order_management.dto.BatchOrderResponseDTO;
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.entity.Order;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.constants.ErrorMessages;
+import com.example.order_management.exception.custom.SharedBusinessException;
+import com.example.order_management.exception.custom.ValidationException;
+import com.example.order_management.exception.enums.ErrorType;
+import com.example.order_management.exception.model.ApiError;
+import com.example.order_management.mapper.OrderMapper;
+import com.example.order_management.service.impl.OrderBatchServiceImpl;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Bulk creation with per-item errors - no Spring context required
+ */
+class OrderBatchServiceImplTest {
+
+    private static final String PATH = "/api/orders/batch";
+    private static final String DELETE_PATH = "/api/orders";
+
+    private OrderService orderService;
+    private OrderBatchServiceImpl batchService;
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        batchService = new OrderBatchServiceImpl(orderService, new OrderMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 2, 10);
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            List<Order> saved = new ArrayList<>();
+            for (Order order : invocation.<List<Order>>getArgument(0)) {
+                order.setId(ids.incrementAndGet());
+                saved.add(order);
+            }
+            return saved;
+        });
+    }
+
+    @Test
+    void createOrders_ShouldReportInvalidItemsWithoutAbortingTheBatch() {
+        BatchOrderResponseDTO response = batchService.createOrders(List.of(
+                request("A", 1.0), request("", 2.0), request("C", 3.0), request("D", null)), PATH);
+
+        assertEquals(4, response.getTotal());
+        assertEquals(2, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals("A", response.getResults().get(0).getOrder().getProductName());
+        assertEquals("productName: must not be blank", response.getResults().get(1).getError().getMessage());
+        assertEquals(ErrorCodes.VALIDATION_FAILED, response.getResults().get(1).getError().getErrorCode());
+        assertEquals(PATH, response.getResults().get(1).getError().getPath());
+        assertEquals("C", response.getResults().get(2).getOrder().getProductName());
+        assertEquals("price: must not be null", response.getResults().get(3).getError().getMessage());
+        verify(orderService, times(1)).createOrders(anyList());
+    }
+
+    @Test
+    void createOrders_ShouldRetryAFailedChunkOneByOneAndFailOnlyTheBadItem() {
+        when(orderService.createOrders(anyList()))
+                .thenThrow(new IllegalStateException("Data too long for column 'product_name'"))
+                .thenAnswer(invocation -> {
+                    List<Order> saved = invocation.getArgument(0);
+                    saved.forEach(order -> order.setId(ids.incrementAndGet()));
+                    return new ArrayList<>(saved);
+                });
+        when(orderService.createOrder(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if (order.getProductName().equals("B")) {
+                throw new IllegalStateException("Data too long for column 'product_name'");
+            }
+            order.setId(ids.incrementAndGet());
+            return order;
+        });
+
+        BatchOrderResponseDTO response = batchService.createOrders(List.of(
+                request("A", 1.0), request("B", 2.0), request("C", 3.0)), PATH);
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals("A", response.getResults().get(0).getOrder().getProductName());
+        assertEquals(ErrorCodes.DATABASE_ERROR, response.getResults().get(1).getError().getErrorCode());
+        assertEquals(503, response.getResults().get(1).getError().getStatus());
+        assertEquals("C", response.getResults().get(2).getOrder().getProductName());
+        verify(orderService, times(2)).createOrders(anyList());
+        verify(orderService, times(2)).createOrder(any(Order.class));
+    }
+
+    @Test
+    void createOrders_ShouldReportABusinessExceptionWithItsOwnCodeAndStatus() {
+        when(orderService.createOrders(anyList())).thenThrow(new IllegalStateException("Deadlock"));
+        // Circuit breaker opened by the failed chunk
+        when(orderService.createOrder(any(Order.class))).thenThrow(SharedBusinessException.of(
+                ErrorCodes.DATABASE_ERROR, ErrorType.SYSTEM, ErrorMessages.DATABASE_UNAVAILABLE));
+
+        BatchOrderResponseDTO response = batchService.createOrders(List.of(request("A", 1.0)), PATH);
+
+        ApiError error = response.getResults().get(0).getError();
+        assertEquals(ErrorCodes.DATABASE_ERROR, error.getErrorCode());
+        assertEquals(503, error.getStatus());
+        assertEquals(ErrorMessages.DATABASE_UNAVAILABLE, error.getMessage());
+        assertEquals(PATH, error.getPath());
+    }
+
+    @Test
+    void createOrders_ShouldRejectEmptyOrOversizedBatches() {
+        assertThrows(ValidationException.class, () -> batchService.createOrders(List.of(), PATH));
+        assertThrows(ValidationException.class, () -> batchService.createOrders(
+                Collections.nCopies(11, request("A", 1.0)), PATH));
+    }
+
+    @Test
+    void deleteOrders_ShouldDeleteDistinctIdsInChunksAndReportMissing() {
+        when(orderService.deleteOrders(List.of(1L, 2L))).thenReturn(List.of(2L));
+        when(orderService.deleteOrders(List.of(3L))).thenReturn(List.of());
+
+        BatchDeleteResponseDTO response = batchService.deleteOrders(List.of(1L, 2L, 1L, 3L), DELETE_PATH);
+
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getDeleted());
+        assertEquals(List.of(2L), response.getMissingIds());
+        assertEquals(List.of(), response.getFailedIds());
+        assertNull(response.getError());
+        verify(orderService, times(2)).deleteOrders(anyList());
+        assertThrows(ValidationException.class,
+                () -> batchService.deleteOrders(Collections.nCopies(11, 1L), DELETE_PATH));
+    }
+
+    @Test
+    void deleteOrders_ShouldReportFailedChunkAndKeepTheOthers() {
+        when(orderService.deleteOrders(List.of(1L, 2L))).thenReturn(List.of());
+        when(orderService.deleteOrders(List.of(3L, 4L))).thenThrow(new QueryTimeoutException("timeout"));
+        when(orderService.deleteOrders(List.of(5L))).thenReturn(List.of(5L));
+
+        BatchDeleteResponseDTO response = batchService.deleteOrders(List.of(1L, 2L, 3L, 4L, 5L), DELETE_PATH);
+
+        assertEquals(5, response.getRequested());
+        assertEquals(2, response.getDeleted());
+        assertEquals(List.of(5L), response.getMissingIds());
+        assertEquals(List.of(3L, 4L), response.getFailedIds());
+        assertEquals(ErrorCodes.DATABASE_ERROR, response.getError().getErrorCode());
+        assertEquals(DELETE_PATH, response.getError().getPath());
+    }
+
+    private OrderRequestDTO request(String productName, Double price) {
+        OrderRequestDTO dto = new OrderRequestDTO();
+        dto.setProductName(productName);
+        dto.setPrice(price);
+        return dto;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.order_management.service;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.ExportFormat;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.mapper.OrderMapper;
+import com.example.order_management.service.impl.OrderExportServiceImpl;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Streaming export - no Spring context required
+ */
+class OrderExportServiceImplTest {
+
+    private TypedQuery<Order> query;
+    private OrderExportServiceImpl exportService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        EntityManager entityManager = mock(EntityManager.class);
+        query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(Order.class))).thenReturn(query);
+        when(query.setHint(anyString(), any())).thenReturn(query);
+
+        exportService = new OrderExportServiceImpl(mock(PlatformTransactionManager.class),
+                new OrderMapper(), Jackson2ObjectMapperBuilder.json()
+                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .build(), 1);
+        ReflectionTestUtils.setField(exportService, "entityManager", entityManager);
+    }
+
+    @Test
+    void exportOrders_ShouldWriteOneJsonLinePerOrder() throws IOException {
+        when(query.getResultStream()).thenReturn(Stream.of(order(1L, "A"), order(2L, "B")));
+
+        String body = export(ExportFormat.NDJSON);
+
+        assertEquals("""
+                {"id":1,"productName":"A","price":10.0,"status":"CREATED"}
+                {"id":2,"productName":"B","price":10.0,"status":"CREATED"}
+                """, body);
+    }
+
+    @Test
+    void exportOrders_ShouldEscapeCsvValues() throws IOException {
+        when(query.getResultStream()).thenReturn(Stream.of(order(1L, "Pen, \"blue\"")));
+
+        String body = export(ExportFormat.CSV);
+
+        assertEquals("""
+                id,productName,price,status
+                1,"Pen, ""blue""\",10.0,CREATED
+                """, body);
+    }
+
+    @Test
+    void exportOrders_ShouldReportMidStreamFailureInTrailer() throws IOException {
+        Stream<Order> failing = Stream.of(1L, 2L).map(id -> {
+            if (id == 2L) {
+                throw new DataAccessResourceFailureException("Connection reset");
+            }
+            return order(id, "A");
+        });
+        when(query.getResultStream()).thenReturn(failing);
+
+        String[] lines = export(ExportFormat.NDJSON).split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1"));
+        assertTrue(lines[1].startsWith("{\"error\":{\"status\":500,\"errorCode\":\"DATABASE_ERROR\""));
+    }
+
+    private String export(ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportOrders(format, out, "/api/orders/export");
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Order order(Long id, String productName) {
+        Order order = new Order();
+        order.setId(id);
+        order.setProductName(productName);
+        order.setPrice(10.0);
+        order.setStatus(OrderStatus.CREATED);
+        return order;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.order_management.service;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.custom.InvalidOrderStatusException;
+import com.example.order_management.exception.custom.OrderPendingException;
+import com.example.order_management.exception.custom.ResourceNotFoundException;
+import com.example.order_management.exception.global.ErrorStatusResolver;
+import com.example.order_management.repository.OrderStatusTotals;
+import com.example.order_management.repository.OrderStore;
+import com.example.order_management.service.cache.CaffeineOrderCache;
+import com.example.order_management.service.impl.OrderServiceImpl;
+import com.example.order_management.service.commit.DirectOrderCommitter;
+import com.example.order_management.service.journal.NoOpOrderWriteBehind;
+import com.example.order_management.service.journal.OrderWriteBehind;
+import com.example.order_management.service.lookup.NoOpOrderExistenceFilter;
+import com.example.order_management.service.stats.OrderStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Service tests with a real cache and a mocked repository - no Spring context required
+ */
+class OrderServiceImplTest {
+
+    private OrderStore orderRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderStatistics orderStatistics;
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        orderStatistics = new OrderStatistics(orderRepository, Duration.ofSeconds(30));
+        orderService = new OrderServiceImpl(orderRepository,
+                new CaffeineOrderCache(100, Duration.ofMinutes(1), meterRegistry),
+                new NoOpOrderExistenceFilter(),
+                new NoOpOrderWriteBehind(),
+                new DirectOrderCommitter(orderRepository),
+                orderStatistics);
+    }
+
+    @Test
+    void getOrderById_ShouldServeRepeatedReadsFromCache() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order(1L)));
+
+        Order first = orderService.getOrderById(1L);
+        Order second = orderService.getOrderById(1L);
+
+        verify(orderRepository, times(1)).findById(1L);
+        assertNotSame(first, second, "Every read gets its own detached copy");
+        assertEquals("MacBook Pro", second.getProductName());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void getOrderById_ShouldNotCacheMissingOrders() {
+        when(orderRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> orderService.getOrderById(999L));
+        assertThrows(ResourceNotFoundException.class, () -> orderService.getOrderById(999L));
+
+        verify(orderRepository, times(2)).findById(999L);
+    }
+
+    @Test
+    void deleteOrder_ShouldInvalidateCachedOrder() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order(1L)));
+        when(orderRepository.deleteOrderByIdAndStatus(1L, OrderStatus.CREATED)).thenReturn(1);
+        orderService.getOrderById(1L);
+
+        orderService.deleteOrder(1L);
+        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> orderService.getOrderById(1L));
+    }
+
+    @Test
+    void deleteOrder_ShouldMapMissingOrderTo404WithoutDeleting() {
+        when(orderRepository.findById(7L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> orderService.deleteOrder(7L));
+
+        verify(orderRepository, never()).deleteOrderByIdAndStatus(any(), any());
+    }
+
+    @Test
+    void deleteOrder_ShouldCountUncachedOrderInTheBucketItWasDeletedFrom() {
+        orderStatistics.recordCreated(order(1L));
+        Order confirmed = order(1L);
+        confirmed.setStatus(OrderStatus.CONFIRMED);
+        orderStatistics.recordStatusChange(confirmed.getPrice(), OrderStatus.CREATED, OrderStatus.CONFIRMED);
+        // Read as CREATED, confirmed before the DELETE - which then matches 0 rows
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order(1L)), Optional.of(confirmed));
+        when(orderRepository.deleteOrderByIdAndStatus(1L, OrderStatus.CONFIRMED)).thenReturn(1);
+
+        orderService.deleteOrder(1L);
+
+        verify(orderRepository).deleteOrderByIdAndStatus(1L, OrderStatus.CREATED);
+        assertEquals(0, orderStatistics.snapshot().getTotalCount());
+        assertEquals(0.0, orderStatistics.snapshot().getTotalPrice());
+    }
+
+    @Test
+    void deleteOrders_ShouldReportIdsThatDidNotExist() {
+        when(orderRepository.findExistingIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+        when(orderRepository.deleteOrdersByIds(List.of(1L, 3L))).thenReturn(2);
+
+        assertEquals(List.of(2L), orderService.deleteOrders(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void deleteOrders_ShouldNotCountOrdersDeletedConcurrently() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order(1L)));
+        when(orderRepository.findById(2L)).thenReturn(Optional.of(order(2L)));
+        orderService.getOrderById(1L);
+        orderService.getOrderById(2L);
+        orderStatistics.recordCreated(order(1L));
+        orderStatistics.recordCreated(order(2L));
+        when(orderRepository.findExistingIds(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        // Order 1 deleted - and counted - by another request after the probe
+        orderStatistics.recordDeleted(order(1L));
+        when(orderRepository.deleteOrdersByIds(List.of(1L, 2L))).thenReturn(1);
+
+        orderService.deleteOrders(List.of(1L, 2L));
+
+        // Which of the two this request deleted is unknown: neither is counted, the stale check reconciles
+        assertEquals(1, orderStatistics.snapshot().getTotalCount());
+        when(orderRepository.sumByStatus()).thenReturn(List.of());
+        orderStatistics.reconcileIfStale();
+        assertEquals(0, orderStatistics.snapshot().getTotalCount());
+    }
+
+    @Test
+    void writes_ShouldRejectOrderNotYetFlushedByWriteBehindWithOrderPending() {
+        OrderWriteBehind writeBehind = mock(OrderWriteBehind.class);
+        when(writeBehind.findPending(5L)).thenReturn(order(5L));
+        OrderServiceImpl service = new OrderServiceImpl(orderRepository,
+                new CaffeineOrderCache(100, Duration.ofMinutes(1), meterRegistry),
+                new NoOpOrderExistenceFilter(), writeBehind, new DirectOrderCommitter(orderRepository),
+                orderStatistics);
+
+        OrderPendingException ex = assertThrows(OrderPendingException.class, () -> service.deleteOrder(5L));
+        assertThrows(OrderPendingException.class, () -> service.deleteOrders(List.of(4L, 5L)));
+        assertThrows(OrderPendingException.class, () -> service.changeStatus(5L, OrderStatus.CONFIRMED));
+
+        assertEquals(ErrorCodes.ORDER_PENDING, ex.getErrorCode());
+        assertEquals(HttpStatus.CONFLICT, ErrorStatusResolver.resolve(ex));
+        assertEquals(1, ex.getRetryAfterSeconds());
+
+        verify(orderRepository, never()).deleteOrderById(any());
+        verify(orderRepository, never()).findExistingIds(any());
+    }
+
+    @Test
+    void createOrder_ShouldNotBeCountedTwiceByReconcileBetweenCommitAndCount() {
+        when(orderRepository.sumByStatus()).thenReturn(List.of(new OrderStatusTotals(OrderStatus.CREATED, 1L, 2499.99)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            // Reconcile sees the committed row before createOrder counts it
+            orderStatistics.reconcile();
+            return invocation.getArgument(0);
+        });
+
+        orderService.createOrder(order(1L));
+
+        assertEquals(1, orderStatistics.snapshot().getByStatus().get(OrderStatus.CREATED).getCount());
+    }
+
+    @Test
+    void changeStatus_ShouldApplyAllowedTransitionWithConditionalUpdate() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order(1L)));
+        when(orderRepository.updateStatus(1L, OrderStatus.CREATED, OrderStatus.CONFIRMED)).thenReturn(1);
+        orderService.getOrderById(1L);
+
+        Order changed = orderService.changeStatus(1L, OrderStatus.CONFIRMED);
+
+        assertEquals(OrderStatus.CONFIRMED, changed.getStatus());
+        assertEquals(OrderStatus.CONFIRMED, orderService.getOrderById(1L).getStatus(), "Cache sees the new status");
+        assertEquals(1, orderStatistics.snapshot().getByStatus().get(OrderStatus.CONFIRMED).getCount());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void changeStatus_ShouldRejectTransitionNotInTable() {
+        Order cancelled = order(1L);
+        cancelled.setStatus(OrderStatus.CANCELLED);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(cancelled));
+
+        InvalidOrderStatusException ex = assertThrows(InvalidOrderStatusException.class,
+                () -> orderService.changeStatus(1L, OrderStatus.CONFIRMED));
+
+        assertEquals(ErrorCodes.INVALID_ORDER_STATUS, ex.getErrorCode());
+        verify(orderRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void changeStatus_ShouldRejectWhenConcurrentChangeWins() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order(1L)));
+        when(orderRepository.updateStatus(1L, OrderStatus.CREATED, OrderStatus.CANCELLED)).thenReturn(0);
+
+        assertThrows(InvalidOrderStatusException.class, () -> orderService.changeStatus(1L, OrderStatus.CANCELLED));
+
+        assertEquals(0, orderStatistics.snapshot().getByStatus().get(OrderStatus.CANCELLED).getCount());
+    }
+
+    private Order order(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        order.setProductName("MacBook Pro");
+        order.setPrice(2499.99);
+        order.setStatus(OrderStatus.CREATED);
+        return order;
+    }
+}
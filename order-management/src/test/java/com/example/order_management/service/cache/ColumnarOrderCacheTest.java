@@ -0,0 +1,191 @@
+package com.example.order_management.service.cache;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.repository.OrderStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Columnar order store: round trips, sync rules, footprint - no Spring context required
+ */
+class ColumnarOrderCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void writtenOrders_ShouldRoundTripIncludingNulls() {
+        ColumnarOrderCache cache = new ColumnarOrderCache(100, Duration.ZERO, null, false, meterRegistry);
+        OrderSnapshot full = new OrderSnapshot(1L, "Laptop", 999.99, OrderStatus.CONFIRMED);
+        OrderSnapshot empty = new OrderSnapshot(2L, null, null, null);
+
+        cache.onWrite(full);
+        cache.onWrite(empty);
+
+        assertEquals(full, cache.getIfPresent(1L));
+        assertEquals(empty, cache.getIfPresent(2L));
+
+        cache.invalidate(1L);
+        assertNull(cache.getIfPresent(1L));
+        cache.onWrite(new OrderSnapshot(3L, "Laptop", 1.0, OrderStatus.CREATED));
+        assertEquals(2, cache.size());
+        assertEquals("Laptop", cache.getIfPresent(3L).productName());
+    }
+
+    @Test
+    void loadedOrder_ShouldBeKeptButNeverOverwriteANewerWrite() {
+        ColumnarOrderCache cache = new ColumnarOrderCache(100, Duration.ZERO, null, false, meterRegistry);
+        OrderSnapshot stale = new OrderSnapshot(1L, "Old", 1.0, OrderStatus.CREATED);
+
+        assertEquals(stale, cache.get(1L, id -> stale));
+        assertEquals(stale, cache.get(1L, id -> fail("served from the store")));
+
+        OrderSnapshot written = new OrderSnapshot(1L, "New", 2.0, OrderStatus.CONFIRMED);
+        cache.onWrite(written);
+        assertEquals(written, cache.get(1L, id -> stale));
+    }
+
+    @Test
+    void load_ShouldNotBeStoredWhenTheOrderIsDeletedWhileItRuns() {
+        ColumnarOrderCache cache = new ColumnarOrderCache(100, Duration.ZERO, null, false, meterRegistry);
+        OrderSnapshot beforeDelete = new OrderSnapshot(1L, "Gone", 1.0, OrderStatus.CREATED);
+
+        // Read from the store, then a concurrent delete invalidates before the load returns
+        assertEquals(beforeDelete, cache.get(1L, id -> {
+            cache.invalidate(id);
+            return beforeDelete;
+        }));
+
+        assertNull(cache.getIfPresent(1L));
+        OrderSnapshot reloaded = new OrderSnapshot(1L, "Back", 2.0, OrderStatus.CREATED);
+        assertEquals(reloaded, cache.get(1L, id -> reloaded));
+        assertEquals(reloaded, cache.getIfPresent(1L));
+    }
+
+    @Test
+    void expiredRow_ShouldBeReloaded() {
+        AtomicLong now = new AtomicLong();
+        ColumnarOrderCache cache = new ColumnarOrderCache(100, Duration.ofSeconds(60), null, false, meterRegistry,
+                now::get);
+        cache.onWrite(new OrderSnapshot(1L, "Old", 1.0, OrderStatus.CREATED));
+
+        now.set(Duration.ofSeconds(59).toNanos());
+        assertEquals("Old", cache.getIfPresent(1L).productName());
+
+        // Changed through another node: only expiry brings the new value here
+        now.set(Duration.ofSeconds(60).toNanos());
+        assertNull(cache.getIfPresent(1L));
+        OrderSnapshot remote = new OrderSnapshot(1L, "New", 2.0, OrderStatus.CONFIRMED);
+        assertEquals(remote, cache.get(1L, id -> remote));
+        assertEquals(remote, cache.getIfPresent(1L));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void fullStore_ShouldServeThroughTheLoaderWithoutStoring() {
+        ColumnarOrderCache cache = new ColumnarOrderCache(1, Duration.ZERO, null, false, meterRegistry);
+        cache.onWrite(new OrderSnapshot(1L, "A", 1.0, OrderStatus.CREATED));
+
+        OrderSnapshot overflow = new OrderSnapshot(2L, "B", 2.0, OrderStatus.CREATED);
+        assertEquals(overflow, cache.get(2L, id -> overflow));
+
+        assertNull(cache.getIfPresent(2L));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void productNames_ShouldBeDroppedWithTheirLastOrder() {
+        ColumnarOrderCache cache = new ColumnarOrderCache(10_000, Duration.ZERO, null, false, meterRegistry);
+        for (long id = 1; id <= 1_000; id++) {
+            cache.onWrite(new OrderSnapshot(id, "Product " + id, 1.0, OrderStatus.CREATED));
+        }
+        cache.onWrite(new OrderSnapshot(1_001L, "Product 1", 1.0, OrderStatus.CREATED));
+        long full = cache.heapBytes();
+        assertEquals(1_000, cache.dictionarySize());
+
+        // Renamed and deleted orders leave no name behind - a name still in use stays
+        for (long id = 1; id <= 1_000; id++) {
+            cache.onWrite(new OrderSnapshot(id, "Renamed " + id, 1.0, OrderStatus.CREATED));
+            cache.invalidate(id);
+        }
+        assertEquals(1, cache.dictionarySize());
+        assertEquals("Product 1", cache.getIfPresent(1_001L).productName());
+
+        // Freed codes are reused: a new set of names does not grow the dictionary
+        for (long id = 1_002; id <= 2_000; id++) {
+            cache.onWrite(new OrderSnapshot(id, "Product " + id, 1.0, OrderStatus.CREATED));
+        }
+        assertEquals(1_000, cache.dictionarySize());
+        assertEquals(full, cache.heapBytes());
+        assertEquals("Product 2000", cache.getIfPresent(2_000L).productName());
+    }
+
+    @Test
+    void footprint_ShouldBeAFractionOfTheHashMapBaseline() {
+        ColumnarOrderCache cache = new ColumnarOrderCache(1_000_000, Duration.ZERO, null, false, meterRegistry);
+        for (long id = 1; id <= 100_000; id++) {
+            cache.onWrite(new OrderSnapshot(id, "Product " + (id % 500), id / 100.0, OrderStatus.CREATED));
+        }
+
+        double bytesPerOrder = meterRegistry.get("orders.columnar.heap.bytes_per_order").gauge().value();
+        double baselinePerOrder = meterRegistry.get("orders.columnar.baseline.bytes").gauge().value() / 100_000;
+
+        assertTrue(bytesPerOrder < 80, "bytes per order: " + bytesPerOrder);
+        assertTrue(baselinePerOrder > 2.5 * bytesPerOrder, "baseline bytes per order: " + baselinePerOrder);
+    }
+
+    @Test
+    void preload_ShouldPageInEveryOrder() {
+        OrderStore orderRepository = mock(OrderStore.class);
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(eq(Long.MIN_VALUE), any(Limit.class)))
+                .thenReturn(List.of(order(1L), order(2L)));
+        ColumnarOrderCache cache = new ColumnarOrderCache(100, Duration.ZERO, orderRepository, true, meterRegistry);
+
+        cache.preload();
+
+        assertEquals(2, cache.size());
+        assertEquals("Order 2", cache.getIfPresent(2L).productName());
+    }
+
+    @Test
+    void longIntHashMap_ShouldMatchAHashMapUnderRandomPutsAndRemoves() {
+        LongIntHashMap map = new LongIntHashMap(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntHashMap.MISSING : removed, map.remove(key));
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.get(key));
+        }
+    }
+
+    private static Order order(Long id) {
+        Order order = new Order();
+        order.setId(id);
+        order.setProductName("Order " + id);
+        order.setPrice(10.0);
+        order.setStatus(OrderStatus.CREATED);
+        return order;
+    }
+}
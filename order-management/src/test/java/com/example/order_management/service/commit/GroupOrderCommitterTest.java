@@ -0,0 +1,141 @@
+package com.example.order_management.service.commit;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.repository.OrderStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Group commit: coalescing, per-caller results and per-caller failures - no Spring context, no database
+ */
+class GroupOrderCommitterTest {
+
+    private final OrderStore orderRepository = mock(OrderStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GroupOrderCommitter committer;
+
+    @AfterEach
+    void tearDown() {
+        if (committer != null) {
+            committer.stop();
+        }
+    }
+
+    @Test
+    void concurrentCreates_ShouldShareOneTransaction() throws Exception {
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> order.setId((long) order.getProductName().hashCode()));
+            return orders;
+        });
+        committer = start(Duration.ofMillis(200), 20, 1);
+
+        List<Future<Order>> results = submitConcurrently(20);
+
+        for (int i = 0; i < 20; i++) {
+            Order saved = results.get(i).get();
+            assertEquals("Order " + i, saved.getProductName());
+            assertEquals((long) ("Order " + i).hashCode(), saved.getId());
+        }
+        verify(orderRepository, times(1)).saveAll(anyList());
+        verify(orderRepository, never()).save(any());
+        assertEquals(1.0, meterRegistry.get("orders.group_commit.commits").counter().count());
+        assertEquals(20.0, meterRegistry.get("orders.group_commit.batch_size").summary().totalAmount());
+        assertEquals(20, meterRegistry.get("orders.group_commit.latency").timer().count());
+    }
+
+    @Test
+    void failedGroup_ShouldFailOnlyTheOffendingCaller() throws Exception {
+        when(orderRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if (order.getProductName().equals("Order 3")) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return order;
+        });
+        committer = start(Duration.ofMillis(200), 5, 1);
+
+        List<Future<Order>> results = submitConcurrently(5);
+
+        for (int i = 0; i < 5; i++) {
+            if (i == 3) {
+                Exception ex = assertThrows(Exception.class, results.get(i)::get);
+                assertInstanceOf(DataIntegrityViolationException.class, ex.getCause());
+            } else {
+                assertEquals("Order " + i, results.get(i).get().getProductName());
+            }
+        }
+        assertEquals(1.0, meterRegistry.get("orders.group_commit.fallbacks").counter().count());
+    }
+
+    @Test
+    void loneCreate_ShouldCommitAfterTheWindow() {
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        committer = start(Duration.ZERO, 50, 2);
+
+        assertEquals("Solo", committer.save(order("Solo")).getProductName());
+        verify(orderRepository).saveAll(List.of(order("Solo")));
+    }
+
+    @Test
+    void createRacingStop_ShouldFailInsteadOfWaitingForever() {
+        committer = start(Duration.ZERO, 50, 1);
+        committer.stop();
+
+        // A caller that passed the running check just before stop() enqueues after the final drain
+        assertThrows(IllegalStateException.class, () -> committer.enqueue(order("Late")));
+
+        committer.stop();
+        verify(orderRepository, never()).saveAll(anyList());
+    }
+
+    private GroupOrderCommitter start(Duration window, int maxBatch, int committers) {
+        GroupOrderCommitter started = new GroupOrderCommitter(orderRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                window, maxBatch, committers, meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private List<Future<Order>> submitConcurrently(int callers) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(callers);
+        List<Future<Order>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < callers; i++) {
+            Order order = order("Order " + i);
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                return committer.save(order);
+            }));
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private static Order order(String productName) {
+        Order order = new Order();
+        order.setProductName(productName);
+        order.setPrice(10.0);
+        order.setStatus(OrderStatus.CREATED);
+        return order;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.order_management.service.journal;
+
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.custom.BusinessException;
+import com.example.order_management.repository.OrderStore;
+import com.example.order_management.service.cache.OrderCache;
+import com.example.order_management.service.cache.OrderSnapshot;
+import com.example.order_management.service.lookup.NoOpOrderExistenceFilter;
+import com.example.order_management.service.stats.OrderStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Write-behind journal: durability, replay and checkpointing - no Spring context, no database
+ */
+class JournalOrderWriteBehindTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path journalDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderCache orderCache;
+    private OrderStatistics orderStatistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        // One row inserted per order
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> new int[][] {filled(invocation.<List<?>>getArgument(1).size(), 1)});
+        orderCache = mock(OrderCache.class);
+        orderStatistics = new OrderStatistics(mock(OrderStore.class), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void acceptedOrder_ShouldBeReadableUntilFlushed() {
+        JournalOrderWriteBehind writeBehind = open(100);
+
+        Order accepted = writeBehind.accept(order("Laptop", 999.99));
+
+        assertNotNull(accepted.getId());
+        assertEquals("Laptop", writeBehind.findPending(accepted.getId()).getProductName());
+
+        assertEquals(1, writeBehind.flushPending());
+        verify(jdbcTemplate).batchUpdate(endsWith("ON DUPLICATE KEY UPDATE id = id"), anyList(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertNull(writeBehind.findPending(accepted.getId()));
+        assertEquals(0, writeBehind.flushPending());
+    }
+
+    @Test
+    void flush_ShouldUpdateCacheAndCountOnlyNewlyInsertedRows() {
+        JournalOrderWriteBehind crashed = open(100);
+        Order inserted = crashed.accept(order("A", 1.0));
+        Order replayed = crashed.accept(order("B", 2.0));
+        // Crash after B was committed, before the checkpoint: the row count can't tell (found rows = 1)
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class)))
+                .thenReturn(List.of(replayed.getId()));
+
+        JournalOrderWriteBehind writeBehind = open(100);
+        assertEquals(2, writeBehind.flushPending());
+
+        verify(orderCache).onWrite(new OrderSnapshot(inserted.getId(), "A", 1.0, OrderStatus.CREATED));
+        verify(orderCache).onWrite(new OrderSnapshot(replayed.getId(), "B", 2.0, OrderStatus.CREATED));
+        assertEquals(1, orderStatistics.snapshot().getByStatus().get(OrderStatus.CREATED).getCount());
+        assertEquals(1.0, orderStatistics.snapshot().getByStatus().get(OrderStatus.CREATED).getPriceTotal());
+
+        writeBehind.accept(order("C", 3.0));
+        assertEquals(1, writeBehind.flushPending());
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), any(Object[].class));
+        assertEquals(2, orderStatistics.snapshot().getByStatus().get(OrderStatus.CREATED).getCount());
+    }
+
+    @Test
+    void refusedRow_ShouldBeDeadLetteredWithoutHoldingUpTheRest() throws Exception {
+        JournalOrderWriteBehind writeBehind = open(100);
+        Order good1 = writeBehind.accept(order("A", 1.0));
+        Order bad = writeBehind.accept(order("X".repeat(300), 2.0));
+        Order good2 = writeBehind.accept(order("B", 3.0));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    List<OrderJournal.Entry> rows = invocation.getArgument(1);
+                    if (rows.stream().anyMatch(entry -> entry.order().productName().length() > 255)) {
+                        throw new DataIntegrityViolationException("Value too long for column PRODUCT_NAME");
+                    }
+                    return new int[][] {filled(rows.size(), 1)};
+                });
+
+        assertEquals(3, writeBehind.flushPending());
+
+        assertNull(writeBehind.findPending(bad.getId()));
+        assertEquals(0, writeBehind.flushPending(), "Nothing left to retry");
+        assertEquals(2, orderStatistics.snapshot().getByStatus().get(OrderStatus.CREATED).getCount());
+        verify(orderCache).onWrite(new OrderSnapshot(good1.getId(), "A", 1.0, OrderStatus.CREATED));
+        verify(orderCache).onWrite(new OrderSnapshot(good2.getId(), "B", 3.0, OrderStatus.CREATED));
+        List<String> deadLetters = Files.readAllLines(journalDir.resolve("dead-letter.log"));
+        assertEquals(1, deadLetters.size());
+        assertTrue(deadLetters.get(0).startsWith(bad.getId() + "\t2.0\tCREATED\t" + "X".repeat(300) + "\t"));
+        assertNull(open(100).findPending(bad.getId()), "Checkpointed: not replayed on restart");
+    }
+
+    @Test
+    void restart_ShouldReplayOnlyUnflushedOrders() {
+        JournalOrderWriteBehind first = open(2);
+        Order flushed1 = first.accept(order("A", 1.0));
+        Order flushed2 = first.accept(order("B", 2.0));
+        assertEquals(2, first.flushPending());
+        Order unflushed = first.accept(order("C", 3.0));
+        // Crash: no stop(), nothing else flushed
+
+        JournalOrderWriteBehind restarted = open(2);
+
+        assertNull(restarted.findPending(flushed1.getId()));
+        assertNull(restarted.findPending(flushed2.getId()));
+        Order replayed = restarted.findPending(unflushed.getId());
+        assertEquals("C", replayed.getProductName());
+        assertEquals(3.0, replayed.getPrice());
+        assertEquals(OrderStatus.CREATED, replayed.getStatus());
+    }
+
+    @Test
+    void journal_ShouldRotateSegmentsAndDropCheckpointedOnes() throws Exception {
+        JournalOrderWriteBehind writeBehind = open(1000);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(writeBehind.accept(order("Order " + i, i)).getId());
+        }
+        assertTrue(segmentCount() > 1);
+
+        assertEquals(200, writeBehind.flushPending());
+
+        assertEquals(1, segmentCount());
+        assertNull(open(1000).findPending(ids.get(199)));
+    }
+
+    @Test
+    void backlogFull_ShouldRejectWith503Code() {
+        JournalOrderWriteBehind writeBehind = new JournalOrderWriteBehind(journalDir, SEGMENT_SIZE, jdbcTemplate,
+                transactionTemplate(), new NoOpOrderExistenceFilter(), orderCache, orderStatistics,
+                10, Duration.ofSeconds(1), 1,
+                new SimpleMeterRegistry());
+        writeBehind.openJournal();
+        writeBehind.accept(order("A", 1.0));
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> writeBehind.accept(order("B", 2.0)));
+
+        assertEquals(ErrorCodes.ORDER_BACKLOG_FULL, ex.getErrorCode());
+    }
+
+    @Test
+    void tornTail_ShouldBeDiscardedOnRecovery() throws Exception {
+        List<OrderJournal.Entry> entries = new ArrayList<>();
+        OrderJournal journal = OrderJournal.open(journalDir, SEGMENT_SIZE, entries::add);
+        long position = journal.append(new OrderSnapshot(1L, "A", 1.0, OrderStatus.CREATED), entry -> { });
+        journal.awaitDurable(position);
+        journal.close();
+
+        // Half-written record after the last complete one: length set, payload/CRC garbage
+        try (RandomAccessFile segment = new RandomAccessFile(segments().get(0).toFile(), "rw")) {
+            segment.seek(OrderJournal.offsetOf(position));
+            segment.writeInt(30);
+            segment.writeInt(0xDEAD);
+        }
+
+        OrderJournal recovered = OrderJournal.open(journalDir, SEGMENT_SIZE, entries::add);
+        assertEquals(1, entries.size());
+        assertEquals("A", entries.get(0).order().productName());
+
+        recovered.awaitDurable(recovered.append(new OrderSnapshot(2L, "B", null, null), entry -> { }));
+        recovered.close();
+
+        entries.clear();
+        OrderJournal.open(journalDir, SEGMENT_SIZE, entries::add).close();
+        assertEquals(List.of(1L, 2L), entries.stream().map(entry -> entry.order().id()).toList());
+        assertNull(entries.get(1).order().price());
+        assertNull(entries.get(1).order().status());
+    }
+
+    private JournalOrderWriteBehind open(int batchSize) {
+        JournalOrderWriteBehind writeBehind = new JournalOrderWriteBehind(journalDir, SEGMENT_SIZE, jdbcTemplate,
+                transactionTemplate(), new NoOpOrderExistenceFilter(), orderCache, orderStatistics,
+                batchSize, Duration.ofSeconds(1), 10_000,
+                new SimpleMeterRegistry());
+        writeBehind.openJournal();
+        return writeBehind;
+    }
+
+    private static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+
+    private static int[] filled(int length, int value) {
+        int[] counts = new int[length];
+        Arrays.fill(counts, value);
+        return counts;
+    }
+
+    private static Order order(String productName, double price) {
+        Order order = new Order();
+        order.setProductName(productName);
+        order.setPrice(price);
+        order.setStatus(OrderStatus.CREATED);
+        return order;
+    }
+
+    private long segmentCount() throws Exception {
+        return segments().size();
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.order_management.service.lookup;
+
+import com.example.order_management.repository.OrderStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Negative lookup - no Spring context required
+ */
+class BloomOrderExistenceFilterTest {
+
+    private OrderStore orderRepository;
+    private BloomOrderExistenceFilter existenceFilter;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderStore.class);
+        existenceFilter = new BloomOrderExistenceFilter(orderRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                10_000, 0.01, 1024 * 1024, Duration.ofMinutes(1), 1000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void bloomFilter_ShouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        LongBloomFilter filter = LongBloomFilter.create(10_000, 0.01, 1024 * 1024);
+        LongStream.rangeClosed(1, 10_000).forEach(filter::put);
+
+        assertTrue(LongStream.rangeClosed(1, 10_000).allMatch(filter::mightContain));
+        long falsePositives = LongStream.rangeClosed(10_001, 110_000).filter(filter::mightContain).count();
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    void bloomFilter_ShouldRespectMemoryBudget() {
+        LongBloomFilter filter = LongBloomFilter.create(1_000_000, 0.001, 1024);
+
+        assertEquals(1024, filter.sizeInBytes());
+        assertTrue(filter.isAtMemoryBudget());
+        assertFalse(LongBloomFilter.create(1_000, 0.01, 1024 * 1024).isAtMemoryBudget());
+    }
+
+    @Test
+    void beforeSeeding_EveryIdMayExist() {
+        assertFalse(existenceFilter.isDefinitelyMissing(42L));
+    }
+
+    @Test
+    void afterSeeding_UnknownIdsAreDefinitelyMissing() {
+        when(orderRepository.streamAllIds()).thenReturn(LongStream.rangeClosed(1, 100).boxed());
+
+        existenceFilter.seed();
+
+        assertFalse(existenceFilter.isDefinitelyMissing(50L));
+        assertTrue(existenceFilter.isDefinitelyMissing(5_000_000L));
+    }
+
+    @Test
+    void rebuild_ShouldSizeTheNewFilterFromTheCurrentInsertions() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BloomOrderExistenceFilter small = new BloomOrderExistenceFilter(orderRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                100, 0.01, 1024 * 1024, Duration.ofMinutes(1), 1000, meterRegistry);
+        when(orderRepository.streamAllIds())
+                .thenReturn(LongStream.rangeClosed(1, 5_000).boxed(), LongStream.rangeClosed(1, 5_000).boxed());
+
+        small.seed();
+        double outgrown = meterRegistry.get("orders.lookup.filter.expected_fpp").gauge().value();
+        small.seed();
+
+        assertTrue(outgrown > 0.5, "sized for 100 ids, holding 5000: " + outgrown);
+        assertTrue(meterRegistry.get("orders.lookup.filter.expected_fpp").gauge().value() < 0.01);
+    }
+
+    @Test
+    void createAndDelete_ShouldUpdateTheFilter() {
+        when(orderRepository.streamAllIds()).thenReturn(LongStream.rangeClosed(1, 100).boxed());
+        existenceFilter.seed();
+
+        existenceFilter.recordCreated(5_000_000L);
+        assertFalse(existenceFilter.isDefinitelyMissing(5_000_000L));
+
+        existenceFilter.recordDeleted(50L);
+        assertTrue(existenceFilter.isDefinitelyMissing(50L));
+    }
+
+    @Test
+    void recordMissing_ShouldBeForgottenOnCreate() {
+        existenceFilter.recordMissing(7L);
+        assertTrue(existenceFilter.isDefinitelyMissing(7L));
+
+        existenceFilter.recordCreated(7L);
+        assertFalse(existenceFilter.isDefinitelyMissing(7L));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.order_management.service.stats;
+
+import com.example.order_management.dto.OrderStatsDTO;
+import com.example.order_management.entity.Order;
+import com.example.order_management.enums.OrderStatus;
+import com.example.order_management.repository.OrderStatusTotals;
+import com.example.order_management.repository.OrderStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Incremental per-status counters and their reconciliation against the database
+ */
+class OrderStatisticsTest {
+
+    private OrderStore orderRepository;
+    private OrderStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderStore.class);
+        statistics = new OrderStatistics(orderRepository, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void writes_ShouldUpdateCountersWithoutQuerying() {
+        statistics.recordCreated(order(OrderStatus.CREATED, 10.0));
+        statistics.recordCreated(order(OrderStatus.CREATED, 5.0));
+        statistics.recordStatusChange(5.0, OrderStatus.CREATED, OrderStatus.CONFIRMED);
+        statistics.recordDeleted(order(OrderStatus.CREATED, 10.0));
+
+        OrderStatsDTO stats = statistics.snapshot();
+
+        assertEquals(1, stats.getTotalCount());
+        assertEquals(5.0, stats.getTotalPrice());
+        assertEquals(0, stats.getByStatus().get(OrderStatus.CREATED).getCount());
+        assertEquals(1, stats.getByStatus().get(OrderStatus.CONFIRMED).getCount());
+        assertEquals(5.0, stats.getByStatus().get(OrderStatus.CONFIRMED).getPriceTotal());
+        assertEquals(0, stats.getByStatus().get(OrderStatus.CANCELLED).getCount());
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void reconcile_ShouldSeedAndCorrectDrift() {
+        when(orderRepository.sumByStatus()).thenReturn(List.of(
+                new OrderStatusTotals(OrderStatus.CREATED, 3L, 30.0),
+                new OrderStatusTotals(OrderStatus.CANCELLED, 1L, 2.5)));
+
+        assertEquals(2, statistics.reconcile());
+        assertEquals(3, statistics.snapshot().getByStatus().get(OrderStatus.CREATED).getCount());
+        assertNotNull(statistics.snapshot().getLastReconciledAt());
+
+        // A counted write that never reached the database (e.g. rolled back)
+        statistics.recordCreated(order(OrderStatus.CREATED, 7.0));
+        assertEquals(1, statistics.reconcile());
+
+        OrderStatsDTO stats = statistics.snapshot();
+        assertEquals(4, stats.getTotalCount());
+        assertEquals(30.0, stats.getByStatus().get(OrderStatus.CREATED).getPriceTotal());
+        assertEquals(0, statistics.reconcile());
+    }
+
+    @Test
+    void reconcile_ShouldIgnorePriceRoundingDifferences() {
+        for (int i = 0; i < 10; i++) {
+            statistics.recordCreated(order(OrderStatus.CREATED, 0.1));
+        }
+        // 0.1 added ten times is not 1.0 in binary floating point
+        when(orderRepository.sumByStatus()).thenReturn(List.of(new OrderStatusTotals(OrderStatus.CREATED, 10L, 1.0)));
+
+        assertEquals(0, statistics.reconcile());
+    }
+
+    @Test
+    void reconcile_ShouldSkipBucketChangedDuringQuery() {
+        when(orderRepository.sumByStatus()).thenAnswer(invocation -> {
+            // Insert committed and counted while the aggregate runs
+            statistics.recordCreated(order(OrderStatus.CREATED, 1.0));
+            return List.of(new OrderStatusTotals(OrderStatus.CREATED, 1L, 1.0));
+        });
+
+        assertEquals(0, statistics.reconcile());
+        assertEquals(1, statistics.snapshot().getByStatus().get(OrderStatus.CREATED).getCount());
+    }
+
+    @Test
+    void reconcile_ShouldSkipBucketWithCommittedButUncountedWrite() {
+        when(orderRepository.sumByStatus()).thenReturn(List.of(new OrderStatusTotals(OrderStatus.CREATED, 1L, 1.0)));
+        // Insert committed, counter not updated yet
+        statistics.writeStarted(OrderStatus.CREATED);
+
+        assertEquals(0, statistics.reconcile());
+
+        statistics.recordCreated(order(OrderStatus.CREATED, 1.0));
+        statistics.writeFinished(OrderStatus.CREATED);
+        assertEquals(1, statistics.snapshot().getByStatus().get(OrderStatus.CREATED).getCount());
+        assertEquals(0, statistics.reconcile());
+    }
+
+    @Test
+    void reconcile_ShouldSkipBucketWithWritesThatCancelOutDuringQuery() {
+        when(orderRepository.sumByStatus()).thenAnswer(invocation -> {
+            // Create and delete both counted while the aggregate runs - it only saw the insert
+            statistics.writeStarted(OrderStatus.CREATED);
+            statistics.recordCreated(order(OrderStatus.CREATED, 1.0));
+            statistics.writeFinished(OrderStatus.CREATED);
+            statistics.writeStarted(OrderStatus.CREATED);
+            statistics.recordDeleted(OrderStatus.CREATED, 1.0);
+            statistics.writeFinished(OrderStatus.CREATED);
+            return List.of(new OrderStatusTotals(OrderStatus.CREATED, 1L, 1.0));
+        });
+
+        assertEquals(0, statistics.reconcile());
+        assertEquals(0, statistics.snapshot().getByStatus().get(OrderStatus.CREATED).getCount());
+    }
+
+    @Test
+    void reconcileIfStale_ShouldRunAtMostOncePerStaleReconcileInterval() {
+        statistics.reconcile();
+
+        // Uncached deletes keep marking the counters stale
+        statistics.markStale();
+        statistics.reconcileIfStale();
+        statistics.markStale();
+        statistics.reconcileIfStale();
+        verify(orderRepository, times(1)).sumByStatus();
+
+        OrderStatistics eager = new OrderStatistics(orderRepository, Duration.ZERO);
+        eager.markStale();
+        eager.reconcileIfStale();
+        verify(orderRepository, times(2)).sumByStatus();
+    }
+
+    private static Order order(OrderStatus status, double price) {
+        Order order = new Order();
+        order.setProductName("Pen");
+        order.setPrice(price);
+        order.setStatus(status);
+        return order;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.order_management.validation;
+
+import com.example.order_management.dto.OrderRequestDTO;
+import com.example.order_management.dto.OrderStatusRequestDTO;
+import com.example.order_management.exception.constants.ErrorCodes;
+import com.example.order_management.exception.custom.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.SmartValidator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Generated validators against Hibernate Validator - no Spring context required
+ */
+class GeneratedValidatorTest {
+
+    private final Validator beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void generatedValidator_ShouldReportSameFirstViolationAsBeanValidation() {
+        DtoValidator<OrderRequestDTO> generated = DtoValidators.forType(OrderRequestDTO.class);
+        assertNotNull(generated, "OrderRequestDTOValidator is registered by the processor");
+
+        for (String productName : Arrays.asList(null, "", "   ", "\t", "MacBook Pro")) {
+            for (Double price : Arrays.asList(null, 0.0, -1.0, 2499.99)) {
+                OrderRequestDTO dto = order(productName, price);
+                assertEquals(beanValidationFirstViolation(dto), generated.firstViolation(dto),
+                        "productName=" + productName + ", price=" + price);
+            }
+        }
+    }
+
+    @Test
+    void validate_ShouldReportEveryViolationWhenCollectingAll() {
+        DtoValidator<OrderRequestDTO> generated = DtoValidators.forType(OrderRequestDTO.class);
+
+        ValidationException first = assertThrows(ValidationException.class,
+                () -> generated.validate(order(" ", null), false));
+        ValidationException all = assertThrows(ValidationException.class,
+                () -> generated.validate(order(" ", null), true));
+
+        assertEquals(ErrorCodes.VALIDATION_FAILED, all.getErrorCode());
+        assertEquals("price: must not be null", first.getMessage());
+        assertEquals("price: must not be null, productName: must not be blank", all.getMessage());
+        assertDoesNotThrow(() -> generated.validate(order("MacBook Pro", 1.0), true));
+    }
+
+    @Test
+    void adapter_ShouldThrowDirectlyForGeneratedDtoWithoutCallingBeanValidation() {
+        SmartValidator delegate = mock(SmartValidator.class);
+        GeneratedValidatorAdapter adapter = new GeneratedValidatorAdapter(delegate, false);
+        OrderStatusRequestDTO dto = new OrderStatusRequestDTO();
+
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> adapter.validate(dto, new BeanPropertyBindingResult(dto, "dto")));
+
+        assertEquals("status: must not be blank", ex.getMessage());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void adapter_ShouldDelegateTypesWithoutGeneratedValidatorAndValidationHints() {
+        SmartValidator delegate = mock(SmartValidator.class);
+        GeneratedValidatorAdapter adapter = new GeneratedValidatorAdapter(delegate, false);
+        OrderRequestDTO valid = order("MacBook Pro", 1.0);
+
+        adapter.validate("not a DTO", new BeanPropertyBindingResult("not a DTO", "value"));
+        adapter.validate(valid, new BeanPropertyBindingResult(valid, "dto"), Object.class);
+        adapter.validate(valid, new BeanPropertyBindingResult(valid, "dto"));
+
+        verify(delegate).validate(eq("not a DTO"), any());
+        verify(delegate).validate(eq(valid), any(), eq(Object.class));
+        verify(delegate, never()).validate(eq(valid), any());
+    }
+
+    private String beanValidationFirstViolation(OrderRequestDTO dto) {
+        List<ConstraintViolation<OrderRequestDTO>> violations = beanValidator.validate(dto).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .toList();
+        return violations.isEmpty() ? null
+                : violations.get(0).getPropertyPath() + ": " + violations.get(0).getMessage();
+    }
+
+    private OrderRequestDTO order(String productName, Double price) {
+        OrderRequestDTO dto = new OrderRequestDTO();
+        dto.setProductName(productName);
+        dto.setPrice(price);
+        return dto;
+    }
+}